@@ -0,0 +1,55 @@
+package ready_to_marry.userservice.coupon.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ready_to_marry.userservice.coupon.dto.CouponRequest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 쿠폰 발급 메시지 직렬화 성능 비교 (기존 JSON 문자열 경로 vs JSON 바이트 vs Avro 바이너리)
+ *
+ * 실행: ./gradlew jmh (메시지당 바이트 수는 Setup에서 출력, 할당량은 gc 프로파일러의 gc.alloc.rate.norm 참고)
+ */
+@State(Scope.Benchmark)
+public class CouponSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private CouponMessageSerializer jsonSerializer;
+    private CouponMessageSerializer avroSerializer;
+
+    private CouponRequest request;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper();
+        jsonSerializer = new JsonCouponMessageSerializer(objectMapper);
+        avroSerializer = new AvroCouponMessageSerializer(new CouponSchemaRegistry());
+
+        request = new CouponRequest();
+        request.setUserId(1234567L);
+        request.setCouponId("WELCOME-2025-SPRING");
+
+        System.out.printf("%nbytes/message: jsonString=%d, json=%d, avro=%d%n",
+                serializeJsonString().length, jsonSerializer.serialize(request).length, avroSerializer.serialize(request).length);
+    }
+
+    // 기존 경로: writeValueAsString + StringSerializer(UTF-8)
+    @Benchmark
+    public byte[] serializeJsonString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(request);
+    }
+
+    @Benchmark
+    public byte[] serializeAvro() {
+        return avroSerializer.serialize(request);
+    }
+}
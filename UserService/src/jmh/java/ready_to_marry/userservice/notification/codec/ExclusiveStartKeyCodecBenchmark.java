@@ -0,0 +1,59 @@
+package ready_to_marry.userservice.notification.codec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 알림 목록 커서 변환기 성능 비교 (기존 JSON 형식 vs 바이너리 형식)
+ *
+ * 실행: ./gradlew jmh (할당량은 gc 프로파일러의 gc.alloc.rate.norm 참고)
+ */
+@State(Scope.Benchmark)
+public class ExclusiveStartKeyCodecBenchmark {
+    private ExclusiveStartKeyCodec jsonCodec;
+    private ExclusiveStartKeyCodec binaryCodec;
+
+    private Map<String, AttributeValue> lastEvaluatedKey;
+    private String jsonCursor;
+    private String binaryCursor;
+
+    @Setup
+    public void setUp() {
+        jsonCodec = new JsonExclusiveStartKeyCodec();
+        binaryCodec = new BinaryExclusiveStartKeyCodec("benchmark-secret".getBytes(StandardCharsets.UTF_8));
+
+        lastEvaluatedKey = new LinkedHashMap<>();
+        lastEvaluatedKey.put("id", AttributeValue.fromS("user1234567"));
+        lastEvaluatedKey.put("createdAt", AttributeValue.fromS("2025-06-05T14:30:00.123456"));
+
+        jsonCursor = jsonCodec.encode(lastEvaluatedKey);
+        binaryCursor = binaryCodec.encode(lastEvaluatedKey);
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        return jsonCodec.encode(lastEvaluatedKey);
+    }
+
+    @Benchmark
+    public String encodeBinary() {
+        return binaryCodec.encode(lastEvaluatedKey);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> decodeJson() {
+        return jsonCodec.decode(jsonCursor);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> decodeBinary() {
+        return binaryCodec.decode(binaryCursor);
+    }
+}
@@ -0,0 +1,21 @@
+package ready_to_marry.userservice.budget.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * application.properties의 커플 지출 내역 일괄 등록 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "budget.bulk-import")
+public class BudgetBulkImportProperties {
+    // JDBC 배치 INSERT 한 번에 전송할 행 수
+    private int batchSize = 500;
+
+    // 요청 한 건으로 등록할 수 있는 최대 지출 내역 수
+    private int maxRows = 5000;
+}
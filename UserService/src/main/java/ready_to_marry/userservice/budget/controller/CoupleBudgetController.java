@@ -3,18 +3,23 @@ package ready_to_marry.userservice.budget.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ready_to_marry.userservice.budget.dto.request.BudgetDetailBulkCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.BudgetDetailCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.TotalBudgetCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.TotalBudgetUpdateRequest;
+import ready_to_marry.userservice.budget.dto.response.BudgetDetailBulkCreateResponse;
 import ready_to_marry.userservice.budget.dto.response.CoupleBudgetDetailResponse;
 import ready_to_marry.userservice.budget.dto.response.CoupleBudgetSummaryResponse;
 import ready_to_marry.userservice.budget.service.CoupleBudgetService;
+import ready_to_marry.userservice.common.dto.request.CursorPagingRequest;
 import ready_to_marry.userservice.common.dto.request.PagingRequest;
 import ready_to_marry.userservice.common.dto.response.ApiResponse;
 import ready_to_marry.userservice.common.dto.response.Meta;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -66,6 +71,46 @@ public class CoupleBudgetController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 커플 지출 내역 일괄 등록 (JSON 목록)
+     *
+     * @param userId  게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @param request 지출 내역 일괄 등록 요청 정보
+     * @return 성공 시 code=0, data=등록된 지출 내역 수
+     */
+    @PostMapping(value = "/details/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BudgetDetailBulkCreateResponse>> createBudgetDetails(@RequestHeader("X-User-Id") Long userId, @Valid @RequestBody BudgetDetailBulkCreateRequest request) {
+        BudgetDetailBulkCreateResponse result = coupleBudgetService.createBudgetDetails(userId, request);
+
+        ApiResponse<BudgetDetailBulkCreateResponse> response = ApiResponse.<BudgetDetailBulkCreateResponse>builder()
+                .code(0)
+                .message("Budget details created successfully")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 커플 지출 내역 일괄 등록 (CSV 스트림, 컬럼: category,spentAmount,date,content)
+     *
+     * @param userId  게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @param csv     text/csv 요청 본문 스트림
+     * @return 성공 시 code=0, data=등록된 지출 내역 수
+     */
+    @PostMapping(value = "/details/bulk", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<BudgetDetailBulkCreateResponse>> importBudgetDetailsCsv(@RequestHeader("X-User-Id") Long userId, InputStream csv) {
+        BudgetDetailBulkCreateResponse result = coupleBudgetService.importBudgetDetailsCsv(userId, csv);
+
+        ApiResponse<BudgetDetailBulkCreateResponse> response = ApiResponse.<BudgetDetailBulkCreateResponse>builder()
+                .code(0)
+                .message("Budget details imported successfully")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 커플 지출 내역 삭제
      *
@@ -169,4 +214,26 @@ public class CoupleBudgetController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 커플 지출 내역을 (지출 날짜, 지출 내역 ID) 기준 내림차순으로 커서 기반 조회 (전체 건수 집계 없음)
+     *
+     * @param userId        게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @param pagingRequest 커서 기반 페이징 요청 정보 (cursor, size)
+     * @return 성공 시 code=0, data=커플 지출 내역 목록, meta=다음 페이지 커서 정보
+     */
+    @GetMapping("/details/cursor")
+    public ResponseEntity<ApiResponse<List<CoupleBudgetDetailResponse>>> getBudgetDetailSlice(@RequestHeader("X-User-Id") Long userId, @Valid @ModelAttribute CursorPagingRequest pagingRequest) {
+        Meta meta = new Meta();
+        List<CoupleBudgetDetailResponse> budgetDetails = coupleBudgetService.getBudgetDetailSlice(userId, pagingRequest, meta);
+
+        ApiResponse<List<CoupleBudgetDetailResponse>> response = ApiResponse.<List<CoupleBudgetDetailResponse>>builder()
+                .code(0)
+                .message("Budget detail list retrieved successfully")
+                .data(budgetDetails)
+                .meta(meta)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,21 @@
+package ready_to_marry.userservice.budget.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커플의 지출 내역 일괄 등록 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetDetailBulkCreateRequest {
+    // 등록할 지출 내역 목록
+    @NotEmpty
+    private List<@Valid BudgetDetailCreateRequest> details;
+}
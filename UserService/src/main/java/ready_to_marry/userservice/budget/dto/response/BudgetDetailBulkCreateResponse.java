@@ -0,0 +1,16 @@
+package ready_to_marry.userservice.budget.dto.response;
+
+import lombok.*;
+
+/**
+ * 커플의 지출 내역 일괄 등록 결과 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetDetailBulkCreateResponse {
+    // 등록된 지출 내역 수
+    private int createdCount;
+}
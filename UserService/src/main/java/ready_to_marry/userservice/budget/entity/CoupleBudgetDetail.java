@@ -16,7 +16,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "couple_budget_detail")
+@Table(name = "couple_budget_detail", indexes = {
+        // 커서 기반 페이징 (couple_id 필터 + date, budget_detail_id 내림차순 정렬) 인덱스
+        @Index(name = "idx_couple_budget_detail_couple_date_id", columnList = "couple_id, date DESC, budget_detail_id DESC")
+})
 public class CoupleBudgetDetail {
     // 지출 내역 ID
     @Id
@@ -0,0 +1,42 @@
+package ready_to_marry.userservice.budget.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ready_to_marry.userservice.budget.entity.CoupleBudgetDetail;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * CoupleBudgetDetail 대량 등록용 JDBC 레포지토리
+ *
+ * budget_detail_id는 IDENTITY 컬럼이 채우므로 생성된 ID를 되돌려 받지 않고 JDBC 배치로 전송
+ * (reWriteBatchedInserts 활성화 시 드라이버가 multi-row INSERT로 재작성)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CoupleBudgetDetailJdbcRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO couple_budget_detail (couple_id, category, spent_amount, date, content)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지출 내역 목록을 JDBC 배치 INSERT로 저장
+     *
+     * @param details   저장할 지출 내역 목록
+     * @param batchSize 배치 한 번에 전송할 행 수
+     */
+    public void batchInsert(List<CoupleBudgetDetail> details, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, details, batchSize, (ps, detail) -> {
+            ps.setObject(1, detail.getCoupleId());
+            ps.setString(2, detail.getCategory().name());
+            ps.setLong(3, detail.getSpentAmount());
+            ps.setDate(4, Date.valueOf(detail.getDate()));
+            ps.setString(5, detail.getContent());
+        });
+    }
+}
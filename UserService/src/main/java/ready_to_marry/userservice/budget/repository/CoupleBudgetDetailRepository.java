@@ -3,9 +3,13 @@ package ready_to_marry.userservice.budget.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ready_to_marry.userservice.budget.entity.CoupleBudgetDetail;
 import ready_to_marry.userservice.budget.repository.projection.CoupleBudgetDetailProjection;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -20,4 +24,32 @@ public interface CoupleBudgetDetailRepository extends JpaRepository<CoupleBudget
      * @return 해당 커플의 지출 내역을 지출 날짜 내림차순으로 정렬한 페이징 결과
      */
     Page<CoupleBudgetDetailProjection> findByCoupleIdOrderByDateDesc(UUID coupleId, Pageable pageable);
+
+    /**
+     * 특정 커플의 지출 내역 첫 페이지를 (지출 날짜, 지출 내역 ID) 내림차순으로 조회 (count 쿼리 없음)
+     *
+     * @param coupleId      커플 ID
+     * @param pageable      조회 건수 제한 (offset 0)
+     * @return 해당 커플의 지출 내역 목록
+     */
+    List<CoupleBudgetDetailProjection> findByCoupleIdOrderByDateDescBudgetDetailIdDesc(UUID coupleId, Pageable pageable);
+
+    /**
+     * 커서(date, budgetDetailId) 이후의 지출 내역을 (지출 날짜, 지출 내역 ID) 내림차순으로 조회 (count 쿼리 없음)
+     * - 행 값 비교로 인덱스(couple_id, date DESC, budget_detail_id DESC)를 그대로 탐색하므로 페이지 깊이와 무관한 비용
+     *
+     * @param coupleId          커플 ID
+     * @param date              커서의 지출 날짜
+     * @param budgetDetailId    커서의 지출 내역 ID
+     * @param pageable          조회 건수 제한 (offset 0)
+     * @return 커서 이후의 지출 내역 목록
+     */
+    @Query("SELECT d.budgetDetailId AS budgetDetailId, d.category AS category, d.spentAmount AS spentAmount, d.date AS date, d.content AS content " +
+            "FROM CoupleBudgetDetail d " +
+            "WHERE d.coupleId = :coupleId AND (d.date, d.budgetDetailId) < (:date, :budgetDetailId) " +
+            "ORDER BY d.date DESC, d.budgetDetailId DESC")
+    List<CoupleBudgetDetailProjection> findSliceAfterCursor(@Param("coupleId") UUID coupleId,
+                                                           @Param("date") LocalDate date,
+                                                           @Param("budgetDetailId") Long budgetDetailId,
+                                                           Pageable pageable);
 }
@@ -1,6 +1,11 @@
 package ready_to_marry.userservice.budget.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ready_to_marry.userservice.budget.entity.CoupleBudgetSummary;
 
 import java.util.Optional;
@@ -17,4 +22,83 @@ public interface CoupleBudgetSummaryRepository extends JpaRepository<CoupleBudge
      * @return 커플 ID에 해당하는 CoupleBudgetSummary Optional
      */
     Optional<CoupleBudgetSummary> findByCoupleId(UUID coupleId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 커플의 지출 요약 내역을 행 잠금(SELECT ... FOR UPDATE)과 함께 조회
+     * 총 예산 등록/수정/삭제 시 지출 금액 증감 쿼리와의 갱신 유실을 방지
+     *
+     * @param coupleId 유저의 커플 ID
+     * @return 커플 ID에 해당하는 CoupleBudgetSummary Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CoupleBudgetSummary s where s.coupleId = :coupleId")
+    Optional<CoupleBudgetSummary> findByCoupleIdForUpdate(@Param("coupleId") UUID coupleId);
+
+    /**
+     * 특정 커플의 지출 요약 내역에 지출 금액 증감분을 원자적으로 반영 (엔티티 조회 없이 단일 UPDATE)
+     * 총 예산이 등록되지 않은 경우(total_budget = NULL) 남은 예산은 NULL 유지
+     *
+     * @param coupleId      유저의 커플 ID
+     * @param totalDelta    총 지출 금액 증감분
+     * @param hallDelta     웨딩홀 지출 금액 증감분
+     * @param sdmDelta      스드메 지출 금액 증감분
+     * @param ceremonyDelta 본식 지출 금액 증감분
+     * @param suppliesDelta 혼수 지출 금액 증감분
+     * @param etcDelta      기타 지출 금액 증감분
+     * @return 갱신된 행 수 (지출 요약 내역이 없으면 0)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE couple_budget_summary
+               SET total_spent      = total_spent + :totalDelta,
+                   remaining_budget = total_budget - (total_spent + :totalDelta),
+                   hall_spent       = hall_spent + :hallDelta,
+                   sdm_spent        = sdm_spent + :sdmDelta,
+                   ceremony_spent   = ceremony_spent + :ceremonyDelta,
+                   supplies_spent   = supplies_spent + :suppliesDelta,
+                   etc_spent        = etc_spent + :etcDelta
+             WHERE couple_id = :coupleId
+            """, nativeQuery = true)
+    int addSpentDelta(@Param("coupleId") UUID coupleId,
+                      @Param("totalDelta") long totalDelta,
+                      @Param("hallDelta") long hallDelta,
+                      @Param("sdmDelta") long sdmDelta,
+                      @Param("ceremonyDelta") long ceremonyDelta,
+                      @Param("suppliesDelta") long suppliesDelta,
+                      @Param("etcDelta") long etcDelta);
+
+    /**
+     * 특정 커플의 지출 요약 내역에 지출 금액 증감분을 원자적으로 반영하고, 내역이 없으면 새로 생성 (단일 UPSERT)
+     * couple_id 유니크 제약 기반 INSERT ... ON CONFLICT DO UPDATE 로 동시 요청 시에도 갱신 유실 없음
+     *
+     * @param coupleId      유저의 커플 ID
+     * @param totalDelta    총 지출 금액 증감분
+     * @param hallDelta     웨딩홀 지출 금액 증감분
+     * @param sdmDelta      스드메 지출 금액 증감분
+     * @param ceremonyDelta 본식 지출 금액 증감분
+     * @param suppliesDelta 혼수 지출 금액 증감분
+     * @param etcDelta      기타 지출 금액 증감분
+     * @return 생성 또는 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO couple_budget_summary
+                   (couple_id, total_budget, total_spent, remaining_budget, hall_spent, sdm_spent, ceremony_spent, supplies_spent, etc_spent)
+            VALUES (:coupleId, NULL, :totalDelta, NULL, :hallDelta, :sdmDelta, :ceremonyDelta, :suppliesDelta, :etcDelta)
+            ON CONFLICT (couple_id) DO UPDATE
+               SET total_spent      = couple_budget_summary.total_spent + EXCLUDED.total_spent,
+                   remaining_budget = couple_budget_summary.total_budget - (couple_budget_summary.total_spent + EXCLUDED.total_spent),
+                   hall_spent       = couple_budget_summary.hall_spent + EXCLUDED.hall_spent,
+                   sdm_spent        = couple_budget_summary.sdm_spent + EXCLUDED.sdm_spent,
+                   ceremony_spent   = couple_budget_summary.ceremony_spent + EXCLUDED.ceremony_spent,
+                   supplies_spent   = couple_budget_summary.supplies_spent + EXCLUDED.supplies_spent,
+                   etc_spent        = couple_budget_summary.etc_spent + EXCLUDED.etc_spent
+            """, nativeQuery = true)
+    int upsertSpentDelta(@Param("coupleId") UUID coupleId,
+                         @Param("totalDelta") long totalDelta,
+                         @Param("hallDelta") long hallDelta,
+                         @Param("sdmDelta") long sdmDelta,
+                         @Param("ceremonyDelta") long ceremonyDelta,
+                         @Param("suppliesDelta") long suppliesDelta,
+                         @Param("etcDelta") long etcDelta);
+}
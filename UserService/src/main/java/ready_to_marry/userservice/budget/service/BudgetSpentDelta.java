@@ -0,0 +1,42 @@
+package ready_to_marry.userservice.budget.service;
+
+import lombok.Getter;
+import ready_to_marry.userservice.budget.enums.BudgetCategory;
+
+/**
+ * 커플 지출 요약 내역에 반영할 총/카테고리별 지출 금액 증감분 누적기
+ */
+@Getter
+class BudgetSpentDelta {
+    // 총 지출 금액 증감분
+    private long total;
+
+    // 웨딩홀 지출 금액 증감분
+    private long hall;
+
+    // 스드메 지출 금액 증감분
+    private long sdm;
+
+    // 본식 지출 금액 증감분
+    private long ceremony;
+
+    // 혼수 지출 금액 증감분
+    private long supplies;
+
+    // 기타 지출 금액 증감분
+    private long etc;
+
+    /**
+     * 카테고리별 지출 금액 증감분 누적 (차감 시 음수 금액 전달)
+     */
+    void add(BudgetCategory category, long amount) {
+        total += amount;
+        switch (category) {
+            case HALL -> hall += amount;
+            case SDM -> sdm += amount;
+            case CEREMONY -> ceremony += amount;
+            case SUPPLIES -> supplies += amount;
+            case ETC -> etc += amount;
+        }
+    }
+}
@@ -2,15 +2,23 @@ package ready_to_marry.userservice.budget.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.data.domain.Page;
+import ready_to_marry.userservice.budget.dto.request.BudgetDetailBulkCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.BudgetDetailCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.TotalBudgetCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.TotalBudgetUpdateRequest;
+import ready_to_marry.userservice.budget.dto.response.BudgetDetailBulkCreateResponse;
 import ready_to_marry.userservice.budget.dto.response.CoupleBudgetDetailResponse;
 import ready_to_marry.userservice.budget.dto.response.CoupleBudgetSummaryResponse;
+import ready_to_marry.userservice.common.dto.request.CursorPagingRequest;
 import ready_to_marry.userservice.common.dto.request.PagingRequest;
+import ready_to_marry.userservice.common.dto.response.Meta;
 import ready_to_marry.userservice.common.exception.BusinessException;
 import ready_to_marry.userservice.common.exception.ForbiddenException;
 import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
+
+import java.io.InputStream;
+import java.util.List;
 
 /**
  * 커플 지출 도메인의 비즈니스 로직을 제공하는 서비스 인터페이스
@@ -41,12 +49,8 @@ public interface CoupleBudgetService {
      * 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
      * 2) 지출 내역 생성
      * 3) 지출 내역 저장
-     * 4) 해당 커플 ID의 커플 지출 요약 내역이 이미 존재하는지 검증
-     * 4-1) 해당 커플 ID의 커플 지출 요약 내역이 존재하는 경우
-     * 4-1-1) 총 예산이 이미 등록된 경우
-     * 4-1-2) 총 예산이 등록되지 않은 경우
-     * 4-2) 해당 커플 ID의 커플 지출 요약 내역이 존재하지 않은 경우
-     * 5) 지출 요약 내역 저장
+     * 4) 카테고리별 지출 금액 증가분 계산
+     * 5) 지출 요약 내역에 증가분을 원자적으로 반영 (지출 요약 내역이 없으면 생성)
      *
      * @param userId                    X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param request                   유저의 커플 지출 내역 등록 요청 DTO
@@ -57,15 +61,51 @@ public interface CoupleBudgetService {
      */
     void createBudgetDetail(Long userId, BudgetDetailCreateRequest request);
 
+    /**
+     * 유저 ID 기준으로 해당 커플의 지출 내역 목록 일괄 등록
+     * 1) 최대 등록 건수 검증
+     * 2) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
+     * 3) 지출 내역을 배치 단위로 저장하며 카테고리별 증가분 누적
+     * 4) 남은 지출 내역 저장 + 누적 증가분을 지출 요약 내역에 한 번에 반영
+     *
+     * @param userId                            X-User-Id 헤더에서 전달받은 유저 도메인 ID
+     * @param request                           유저의 커플 지출 내역 일괄 등록 요청 DTO
+     * @return BudgetDetailBulkCreateResponse   등록된 지출 내역 수 응답 DTO
+     * @throws EntityNotFoundException          본인의 프로필이 존재하지 않는 경우
+     * @throws ValidationException              최대 등록 건수를 초과한 경우
+     * @throws BusinessException                COUPLE_NOT_CONNECTED
+     * @throws InfrastructureException          DB_RETRIEVE_FAILURE
+     * @throws InfrastructureException          DB_SAVE_FAILURE
+     */
+    BudgetDetailBulkCreateResponse createBudgetDetails(Long userId, BudgetDetailBulkCreateRequest request);
+
+    /**
+     * 유저 ID 기준으로 해당 커플의 지출 내역을 CSV 스트림에서 읽어 일괄 등록
+     * 컬럼 순서: category,spentAmount,date,content (첫 줄 헤더는 선택)
+     * 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
+     * 2) CSV를 한 줄씩 읽어 검증 후 배치 단위로 저장하며 카테고리별 증가분 누적
+     * 3) 남은 지출 내역 저장 + 누적 증가분을 지출 요약 내역에 한 번에 반영
+     *
+     * @param userId                            X-User-Id 헤더에서 전달받은 유저 도메인 ID
+     * @param csv                               지출 내역 CSV 스트림 (UTF-8)
+     * @return BudgetDetailBulkCreateResponse   등록된 지출 내역 수 응답 DTO
+     * @throws EntityNotFoundException          본인의 프로필이 존재하지 않는 경우
+     * @throws ValidationException              CSV 형식 또는 값 검증에 실패하거나, 최대 등록 건수를 초과한 경우
+     * @throws BusinessException                COUPLE_NOT_CONNECTED
+     * @throws InfrastructureException          DB_RETRIEVE_FAILURE
+     * @throws InfrastructureException          DB_SAVE_FAILURE
+     */
+    BudgetDetailBulkCreateResponse importBudgetDetailsCsv(Long userId, InputStream csv);
+
     /**
      * 지출 내역 ID 기준으로 특정 커플이 등록한 지출 내역 삭제
      * 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
      * 2) 해당 지출 내역 ID의 지출 내역이 존재하는지 검증
      * 3) 해당 지출 내역이 요청한 유저의 커플에 속해있는지 검증
-     * 4) 삭제할 지출 내역의 정보 가져오기
+     * 4) 삭제할 지출 내역의 차감분 계산
      * 5) 지출 내역 삭제
-     * 6) 커플 지출 요약 내역 갱신
-     * 7) 지출 요약 내역 저장
+     * 6) 커플 지출 요약 내역에 차감분을 원자적으로 반영
+     * 7) 커플 지출 요약 내역이 존재하지 않는 경우
      *
      * @param userId                    X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param budgetDetailId            삭제할 지출 내역 ID
@@ -151,4 +191,23 @@ public interface CoupleBudgetService {
      * @throws InfrastructureException          DB_RETRIEVE_FAILURE
      */
     Page<CoupleBudgetDetailResponse> getBudgetDetailList(Long userId, PagingRequest pagingRequest);
+
+    /**
+     * 유저 ID 기준으로 해당 커플의 지출 내역을 (지출 날짜, 지출 내역 ID) 내림차순으로 커서 기반 조회 (count 쿼리 없음)
+     * 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
+     * 2) 다음 페이지 존재 여부 판단을 위해 요청 크기 + 1건 조회 (커서가 없으면 첫 페이지, 있으면 커서 이후)
+     * 3) 초과 조회된 1건을 제외하고 다음 커서 계산
+     * 4) 메타 정보 세팅
+     * 5) 조회된 Projection 데이터를 DTO로 매핑하여 반환
+     *
+     * @param userId                            현재 로그인한 유저의 ID
+     * @param pagingRequest                     커서 기반 페이징 요청 정보 (cursor, size)
+     * @param metaOut                           조회 메타 정보 (size, hasNext, nextCursor)
+     * @return List<CoupleBudgetDetailResponse> 커플 지출 내역 목록
+     * @throws EntityNotFoundException          본인의 프로필이 존재하지 않는 경우
+     * @throws BusinessException                COUPLE_NOT_CONNECTED
+     * @throws ValidationException              커서 형식이 올바르지 않은 경우
+     * @throws InfrastructureException          DB_RETRIEVE_FAILURE
+     */
+    List<CoupleBudgetDetailResponse> getBudgetDetailSlice(Long userId, CursorPagingRequest pagingRequest, Meta metaOut);
 }
@@ -1,6 +1,8 @@
 package ready_to_marry.userservice.budget.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -8,26 +10,42 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ready_to_marry.userservice.budget.config.BudgetBulkImportProperties;
+import ready_to_marry.userservice.budget.dto.request.BudgetDetailBulkCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.BudgetDetailCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.TotalBudgetCreateRequest;
 import ready_to_marry.userservice.budget.dto.request.TotalBudgetUpdateRequest;
+import ready_to_marry.userservice.budget.dto.response.BudgetDetailBulkCreateResponse;
 import ready_to_marry.userservice.budget.dto.response.CoupleBudgetDetailResponse;
 import ready_to_marry.userservice.budget.dto.response.CoupleBudgetSummaryResponse;
 import ready_to_marry.userservice.budget.entity.CoupleBudgetDetail;
 import ready_to_marry.userservice.budget.entity.CoupleBudgetSummary;
-import ready_to_marry.userservice.budget.enums.BudgetCategory;
+import ready_to_marry.userservice.budget.repository.CoupleBudgetDetailJdbcRepository;
 import ready_to_marry.userservice.budget.repository.CoupleBudgetDetailRepository;
 import ready_to_marry.userservice.budget.repository.CoupleBudgetSummaryRepository;
 import ready_to_marry.userservice.budget.repository.projection.CoupleBudgetDetailProjection;
+import ready_to_marry.userservice.budget.util.BudgetDetailCsvParser;
+import ready_to_marry.userservice.budget.util.BudgetDetailCursorCodec;
+import ready_to_marry.userservice.common.dto.request.CursorPagingRequest;
 import ready_to_marry.userservice.common.dto.request.PagingRequest;
+import ready_to_marry.userservice.common.dto.response.Meta;
 import ready_to_marry.userservice.common.exception.BusinessException;
 import ready_to_marry.userservice.common.exception.ErrorCode;
 import ready_to_marry.userservice.common.exception.ForbiddenException;
 import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
 import ready_to_marry.userservice.common.util.MaskingUtils;
 import ready_to_marry.userservice.profile.service.UserProfileService;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -36,7 +54,10 @@ import java.util.UUID;
 public class CoupleBudgetServiceImpl implements CoupleBudgetService {
     private final CoupleBudgetSummaryRepository coupleBudgetSummaryRepository;
     private final CoupleBudgetDetailRepository coupleBudgetDetailRepository;
+    private final CoupleBudgetDetailJdbcRepository coupleBudgetDetailJdbcRepository;
     private final UserProfileService userProfileService;
+    private final BudgetBulkImportProperties bulkImportProperties;
+    private final Validator validator;
 
     @Override
     @Transactional
@@ -44,10 +65,10 @@ public class CoupleBudgetServiceImpl implements CoupleBudgetService {
         // 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
         UUID coupleId = userProfileService.getCoupleIdOrThrow(userId);
 
-        // 2) 해당 커플 ID의 커플 지출 요약 내역이 이미 존재하는지 검증
+        // 2) 해당 커플 ID의 커플 지출 요약 내역이 이미 존재하는지 검증 (행 잠금 조회로 지출 금액 증감과의 갱신 유실 방지)
         CoupleBudgetSummary summary;
         try {
-            Optional<CoupleBudgetSummary> optional = coupleBudgetSummaryRepository.findByCoupleId(coupleId);
+            Optional<CoupleBudgetSummary> optional = coupleBudgetSummaryRepository.findByCoupleIdForUpdate(coupleId);
 
             // 2-1) 해당 커플 ID의 커플 지출 요약 내역이 존재하는 경우
             if (optional.isPresent()) {
@@ -111,61 +132,82 @@ public class CoupleBudgetServiceImpl implements CoupleBudgetService {
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
 
-        // 4) 해당 커플 ID의 커플 지출 요약 내역이 이미 존재하는지 검증
-        CoupleBudgetSummary summary;
+        // 4) 카테고리별 지출 금액 증가분 계산
+        BudgetSpentDelta delta = new BudgetSpentDelta();
+        delta.add(request.getCategory(), request.getSpentAmount());
+
+        // 5) 지출 요약 내역에 증가분을 원자적으로 반영 (지출 요약 내역이 없으면 생성)
         try {
-            Optional<CoupleBudgetSummary> optional = coupleBudgetSummaryRepository.findByCoupleId(coupleId);
+            coupleBudgetSummaryRepository.upsertSpentDelta(coupleId,
+                    delta.getTotal(), delta.getHall(), delta.getSdm(), delta.getCeremony(), delta.getSupplies(), delta.getEtc());
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
+            throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+        }
+    }
 
-            Long spent = request.getSpentAmount();
-            BudgetCategory category = request.getCategory();
+    @Override
+    @Transactional
+    public BudgetDetailBulkCreateResponse createBudgetDetails(Long userId, BudgetDetailBulkCreateRequest request) {
+        // 1) 최대 등록 건수 검증
+        if (request.getDetails().size() > bulkImportProperties.getMaxRows()) {
+            throw new ValidationException("details", "must contain at most " + bulkImportProperties.getMaxRows() + " items");
+        }
 
-            // 4-1) 해당 커플 ID의 커플 지출 요약 내역이 존재하는 경우
-            if (optional.isPresent()) {
-                summary = optional.get();
+        // 2) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
+        UUID coupleId = userProfileService.getCoupleIdOrThrow(userId);
 
-                // 총 지출 금액 증가
-                summary.setTotalSpent(summary.getTotalSpent() + spent);
+        // 3) 지출 내역을 배치 단위로 저장하며 카테고리별 증가분 누적
+        BudgetDetailBulkWriter writer = new BudgetDetailBulkWriter(coupleId);
+        request.getDetails().forEach(writer::add);
 
-                // 4-1-1) 총 예산이 이미 등록된 경우
-                if (summary.getTotalBudget() != null) {
-                    summary.setRemainingBudget(summary.getTotalBudget() - summary.getTotalSpent());
-                } else { // 4-1-2) 총 예산이 등록되지 않은 경우
-                    summary.setRemainingBudget(null);
+        // 4) 남은 지출 내역 저장 + 누적 증가분을 지출 요약 내역에 한 번에 반영
+        return BudgetDetailBulkCreateResponse.builder()
+                .createdCount(writer.finish())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public BudgetDetailBulkCreateResponse importBudgetDetailsCsv(Long userId, InputStream csv) {
+        // 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
+        UUID coupleId = userProfileService.getCoupleIdOrThrow(userId);
+
+        // 2) CSV를 한 줄씩 읽어 검증 후 배치 단위로 저장하며 카테고리별 증가분 누적
+        BudgetDetailBulkWriter writer = new BudgetDetailBulkWriter(coupleId);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1);
+                }
+                if (line.isBlank() || (lineNumber == 1 && BudgetDetailCsvParser.isHeader(line))) {
+                    continue;
                 }
 
-                // 카테고리별 총 지출 금액 증가
-                switch (category) {
-                    case HALL -> summary.setHallSpent(summary.getHallSpent() + spent);
-                    case SDM -> summary.setSdmSpent(summary.getSdmSpent() + spent);
-                    case CEREMONY -> summary.setCeremonySpent(summary.getCeremonySpent() + spent);
-                    case SUPPLIES -> summary.setSuppliesSpent(summary.getSuppliesSpent() + spent);
-                    case ETC -> summary.setEtcSpent(summary.getEtcSpent() + spent);
+                BudgetDetailCreateRequest row = BudgetDetailCsvParser.parse(line, lineNumber);
+                Set<ConstraintViolation<BudgetDetailCreateRequest>> violations = validator.validate(row);
+                if (!violations.isEmpty()) {
+                    ConstraintViolation<BudgetDetailCreateRequest> violation = violations.iterator().next();
+                    throw new ValidationException("line" + lineNumber + "." + violation.getPropertyPath(), violation.getMessage());
                 }
-            } else { // 4-2) 해당 커플 ID의 커플 지출 요약 내역이 존재하지 않은 경우
-                summary = CoupleBudgetSummary.builder()
-                        .coupleId(coupleId)
-                        .totalBudget(null)
-                        .totalSpent(spent)
-                        .remainingBudget(null)
-                        .hallSpent(category == BudgetCategory.HALL ? spent : 0L)
-                        .sdmSpent(category == BudgetCategory.SDM ? spent : 0L)
-                        .ceremonySpent(category == BudgetCategory.CEREMONY ? spent : 0L)
-                        .suppliesSpent(category == BudgetCategory.SUPPLIES ? spent : 0L)
-                        .etcSpent(category == BudgetCategory.ETC ? spent : 0L)
-                        .build();
+                writer.add(row);
             }
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
-            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        } catch (IOException ex) {
+            throw new ValidationException("body", "Unable to read CSV content");
         }
 
-        // 5) 지출 요약 내역 저장
-        try {
-            coupleBudgetSummaryRepository.save(summary);
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
-            throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+        // 3) 남은 지출 내역 저장 + 누적 증가분을 지출 요약 내역에 한 번에 반영
+        int created = writer.finish();
+        if (created == 0) {
+            throw new ValidationException("body", "must contain at least one budget detail");
         }
+
+        return BudgetDetailBulkCreateResponse.builder()
+                .createdCount(created)
+                .build();
     }
 
     @Override
@@ -193,9 +235,9 @@ public class CoupleBudgetServiceImpl implements CoupleBudgetService {
             throw new ForbiddenException(ErrorCode.FORBIDDEN);
         }
 
-        // 4) 삭제할 지출 내역의 정보 가져오기
-        Long spent = detail.getSpentAmount();
-        BudgetCategory category = detail.getCategory();
+        // 4) 삭제할 지출 내역의 차감분 계산
+        BudgetSpentDelta delta = new BudgetSpentDelta();
+        delta.add(detail.getCategory(), -detail.getSpentAmount());
 
         // 5) 지출 내역 삭제
         try {
@@ -205,43 +247,21 @@ public class CoupleBudgetServiceImpl implements CoupleBudgetService {
             throw new InfrastructureException(ErrorCode.DB_DELETE_FAILURE, ex);
         }
 
-        // 6) 커플 지출 요약 내역 갱신
-        CoupleBudgetSummary summary;
+        // 6) 커플 지출 요약 내역에 차감분을 원자적으로 반영
+        int updated;
         try {
-            summary = coupleBudgetSummaryRepository.findByCoupleId(coupleId)
-                    .orElseThrow(() -> {
-                        log.error("Couple budget summary not found: identifierType=coupleId, identifierValue={}", MaskingUtils.maskCoupleId(coupleId));
-                        return new EntityNotFoundException("Couple budget summary not found");
-                    });
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
-            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
-        }
-
-        // 총 지출 금액 갱신
-        summary.setTotalSpent(summary.getTotalSpent() - spent);
-
-        // 총 예산이 있는 경우 남은 예산 갱신
-        if (summary.getTotalBudget() != null) {
-            summary.setRemainingBudget(summary.getTotalBudget() - summary.getTotalSpent());
-        }
-
-        // 카테고리별 총 지출 금액 갱신
-        switch (category) {
-            case HALL -> summary.setHallSpent(summary.getHallSpent() - spent);
-            case SDM -> summary.setSdmSpent(summary.getSdmSpent() - spent);
-            case CEREMONY -> summary.setCeremonySpent(summary.getCeremonySpent() - spent);
-            case SUPPLIES -> summary.setSuppliesSpent(summary.getSuppliesSpent() - spent);
-            case ETC -> summary.setEtcSpent(summary.getEtcSpent() - spent);
-        }
-
-        // 7) 지출 요약 내역 저장
-        try {
-            coupleBudgetSummaryRepository.save(summary);
+            updated = coupleBudgetSummaryRepository.addSpentDelta(coupleId,
+                    delta.getTotal(), delta.getHall(), delta.getSdm(), delta.getCeremony(), delta.getSupplies(), delta.getEtc());
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
+
+        // 7) 커플 지출 요약 내역이 존재하지 않는 경우
+        if (updated == 0) {
+            log.error("Couple budget summary not found: identifierType=coupleId, identifierValue={}", MaskingUtils.maskCoupleId(coupleId));
+            throw new EntityNotFoundException("Couple budget summary not found");
+        }
     }
 
     @Override
@@ -252,10 +272,10 @@ public class CoupleBudgetServiceImpl implements CoupleBudgetService {
 
         Long newBudget = request.getTotalBudget();
 
-        // 2) 해당 커플 ID의 커플 지출 요약 내역이 존재하고, 이미 등록한 총 예산이 존재하는지 검증
+        // 2) 해당 커플 ID의 커플 지출 요약 내역이 존재하고, 이미 등록한 총 예산이 존재하는지 검증 (행 잠금 조회)
         CoupleBudgetSummary summary;
         try {
-            Optional<CoupleBudgetSummary> optional = coupleBudgetSummaryRepository.findByCoupleId(coupleId);
+            Optional<CoupleBudgetSummary> optional = coupleBudgetSummaryRepository.findByCoupleIdForUpdate(coupleId);
 
             // 2-1) 해당 커플 ID의 커플 지출 요약 내역이 존재하는 경우
             if (optional.isPresent()) {
@@ -293,10 +313,10 @@ public class CoupleBudgetServiceImpl implements CoupleBudgetService {
         // 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
         UUID coupleId = userProfileService.getCoupleIdOrThrow(userId);
 
-        // 2) 해당 커플 ID의 커플 지출 요약 내역이 존재하고, 이미 등록한 총 예산이 존재하는지 검증
+        // 2) 해당 커플 ID의 커플 지출 요약 내역이 존재하고, 이미 등록한 총 예산이 존재하는지 검증 (행 잠금 조회)
         CoupleBudgetSummary summary;
         try {
-            Optional<CoupleBudgetSummary> optional = coupleBudgetSummaryRepository.findByCoupleId(coupleId);
+            Optional<CoupleBudgetSummary> optional = coupleBudgetSummaryRepository.findByCoupleIdForUpdate(coupleId);
 
             // 2-1) 해당 커플 ID의 커플 지출 요약 내역이 존재하는 경우
             if (optional.isPresent()) {
@@ -388,4 +408,117 @@ public class CoupleBudgetServiceImpl implements CoupleBudgetService {
                 .build()
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoupleBudgetDetailResponse> getBudgetDetailSlice(Long userId, CursorPagingRequest pagingRequest, Meta metaOut) {
+        // 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
+        UUID coupleId = userProfileService.getCoupleIdOrThrow(userId);
+
+        // 2) 다음 페이지 존재 여부 판단을 위해 요청 크기 + 1건 조회 (커서가 없으면 첫 페이지, 있으면 커서 이후)
+        int size = pagingRequest.getSize();
+        PageRequest limit = PageRequest.of(0, size + 1);
+        BudgetDetailCursorCodec.Cursor cursor = pagingRequest.getCursor() == null || pagingRequest.getCursor().isBlank()
+                ? null
+                : BudgetDetailCursorCodec.decode(pagingRequest.getCursor());
+
+        List<CoupleBudgetDetailProjection> rows;
+        try {
+            rows = cursor == null
+                    ? coupleBudgetDetailRepository.findByCoupleIdOrderByDateDescBudgetDetailIdDesc(coupleId, limit)
+                    : coupleBudgetDetailRepository.findSliceAfterCursor(coupleId, cursor.getDate(), cursor.getBudgetDetailId(), limit);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+
+        // 3) 초과 조회된 1건을 제외하고 다음 커서 계산
+        boolean hasNext = rows.size() > size;
+        List<CoupleBudgetDetailProjection> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CoupleBudgetDetailProjection last = content.get(content.size() - 1);
+            nextCursor = BudgetDetailCursorCodec.encode(last.getDate(), last.getBudgetDetailId());
+        }
+
+        // 4) 메타 정보 세팅
+        metaOut.setSize(size);
+        metaOut.setHasNext(hasNext);
+        metaOut.setNextCursor(nextCursor);
+
+        // 5) 조회된 Projection 데이터를 DTO로 매핑하여 반환
+        return content.stream()
+                .map(proj -> CoupleBudgetDetailResponse.builder()
+                        .budgetDetailId(proj.getBudgetDetailId())
+                        .category(proj.getCategory())
+                        .spentAmount(proj.getSpentAmount())
+                        .date(proj.getDate())
+                        .content(proj.getContent())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 지출 내역을 배치 크기만큼 모아 JDBC 배치로 저장하고, 지출 요약 내역 증가분을 누적하는 일괄 등록 도우미
+     */
+    private final class BudgetDetailBulkWriter {
+        private final UUID coupleId;
+        private final List<CoupleBudgetDetail> buffer;
+        private final BudgetSpentDelta delta = new BudgetSpentDelta();
+        private int count;
+
+        private BudgetDetailBulkWriter(UUID coupleId) {
+            this.coupleId = coupleId;
+            this.buffer = new ArrayList<>(bulkImportProperties.getBatchSize());
+        }
+
+        private void add(BudgetDetailCreateRequest request) {
+            if (count >= bulkImportProperties.getMaxRows()) {
+                throw new ValidationException("details", "must contain at most " + bulkImportProperties.getMaxRows() + " items");
+            }
+
+            buffer.add(CoupleBudgetDetail.builder()
+                    .coupleId(coupleId)
+                    .category(request.getCategory())
+                    .spentAmount(request.getSpentAmount())
+                    .date(request.getDate())
+                    .content(request.getContent())
+                    .build());
+            delta.add(request.getCategory(), request.getSpentAmount());
+            count++;
+
+            if (buffer.size() >= bulkImportProperties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        private int finish() {
+            flush();
+
+            if (count > 0) {
+                try {
+                    coupleBudgetSummaryRepository.upsertSpentDelta(coupleId,
+                            delta.getTotal(), delta.getHall(), delta.getSdm(), delta.getCeremony(), delta.getSupplies(), delta.getEtc());
+                } catch (DataAccessException ex) {
+                    log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
+                    throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+                }
+            }
+            return count;
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+
+            try {
+                coupleBudgetDetailJdbcRepository.batchInsert(buffer, bulkImportProperties.getBatchSize());
+            } catch (DataAccessException ex) {
+                log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
+                throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+            }
+            buffer.clear();
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package ready_to_marry.userservice.budget.util;
+
+import ready_to_marry.userservice.budget.dto.request.BudgetDetailCreateRequest;
+import ready_to_marry.userservice.budget.enums.BudgetCategory;
+import ready_to_marry.userservice.common.exception.ValidationException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 지출 내역 CSV 한 줄을 지출 내역 등록 요청 DTO로 변환하는 유틸리티
+ *
+ * - 컬럼 순서: category,spentAmount,date,content
+ * - 쌍따옴표로 감싼 필드(쉼표 포함 가능, "" 는 " 로 해석) 지원
+ * - 첫 줄이 헤더(category로 시작)인 경우 호출 측에서 건너뜀
+ */
+public final class BudgetDetailCsvParser {
+    private static final int COLUMN_COUNT = 4;
+
+    private BudgetDetailCsvParser() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 헤더 행 여부 확인
+     */
+    public static boolean isHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("category");
+    }
+
+    /**
+     * CSV 한 줄을 지출 내역 등록 요청 DTO로 변환
+     *
+     * @param line       CSV 한 줄
+     * @param lineNumber 오류 메시지에 사용할 줄 번호 (1부터 시작)
+     * @return 지출 내역 등록 요청 DTO
+     * @throws ValidationException 컬럼 수, 카테고리, 금액, 날짜 형식이 올바르지 않은 경우
+     */
+    public static BudgetDetailCreateRequest parse(String line, int lineNumber) {
+        List<String> fields = split(line, lineNumber);
+        if (fields.size() != COLUMN_COUNT) {
+            throw new ValidationException(field(lineNumber), "must have " + COLUMN_COUNT + " columns (category,spentAmount,date,content)");
+        }
+
+        BudgetCategory category;
+        try {
+            category = BudgetCategory.valueOf(fields.get(0).trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException(field(lineNumber) + ".category", "Invalid budget category");
+        }
+
+        Long spentAmount;
+        try {
+            spentAmount = Long.valueOf(fields.get(1).trim());
+        } catch (NumberFormatException ex) {
+            throw new ValidationException(field(lineNumber) + ".spentAmount", "must be a number");
+        }
+
+        LocalDate date;
+        try {
+            date = LocalDate.parse(fields.get(2).trim());
+        } catch (DateTimeParseException ex) {
+            throw new ValidationException(field(lineNumber) + ".date", "must be yyyy-MM-dd");
+        }
+
+        return BudgetDetailCreateRequest.builder()
+                .category(category)
+                .spentAmount(spentAmount)
+                .date(date)
+                .content(fields.get(3))
+                .build();
+    }
+
+    private static List<String> split(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' && current.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new ValidationException(field(lineNumber), "Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String field(int lineNumber) {
+        return "line" + lineNumber;
+    }
+}
@@ -0,0 +1,69 @@
+package ready_to_marry.userservice.budget.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ready_to_marry.userservice.common.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 지출 내역 커서 기반 페이징용 커서 인코더/디코더
+ *
+ * - 커서는 마지막으로 조회한 행의 정렬 키 (date, budgetDetailId)
+ * - "yyyy-MM-dd|budgetDetailId" 문자열을 URL-safe Base64(패딩 없음)로 인코딩하여 클라이언트에는 불투명 값으로 노출
+ */
+public final class BudgetDetailCursorCodec {
+    private static final String DELIMITER = "|";
+
+    private BudgetDetailCursorCodec() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 정렬 키를 커서 문자열로 인코딩
+     *
+     * @param date           마지막 행의 지출 날짜
+     * @param budgetDetailId 마지막 행의 지출 내역 ID
+     * @return URL-safe Base64 커서
+     */
+    public static String encode(LocalDate date, Long budgetDetailId) {
+        String raw = date + DELIMITER + budgetDetailId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키로 디코딩
+     *
+     * @param cursor 클라이언트가 전달한 커서
+     * @return 정렬 키 (date, budgetDetailId)
+     * @throws ValidationException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(DELIMITER);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new IllegalArgumentException("missing delimiter");
+            }
+            return new Cursor(LocalDate.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+
+    /**
+     * 디코딩된 커서 (마지막으로 조회한 행의 정렬 키)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Cursor {
+        // 마지막 행의 지출 날짜
+        private final LocalDate date;
+
+        // 마지막 행의 지출 내역 ID
+        private final Long budgetDetailId;
+    }
+}
@@ -0,0 +1,12 @@
+package ready_to_marry.userservice.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 백그라운드 작업 활성화 (스레드 풀 크기: spring.task.scheduling.pool.size)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
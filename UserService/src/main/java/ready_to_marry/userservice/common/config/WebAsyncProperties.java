@@ -0,0 +1,36 @@
+package ready_to_marry.userservice.common.config;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 Spring MVC 비동기 요청 처리(StreamingResponseBody 등) 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "web.async")
+public class WebAsyncProperties {
+    // 비동기 응답을 쓰는 스레드 수 (기본)
+    @Positive
+    private int corePoolSize = 8;
+
+    // 비동기 응답을 쓰는 최대 스레드 수
+    @Positive
+    private int maxPoolSize = 32;
+
+    // 모든 스레드가 사용 중일 때 대기할 수 있는 최대 작업 수 (초과 시 요청 거부)
+    @PositiveOrZero
+    private int queueCapacity = 100;
+
+    // 비동기 요청 처리 제한 시간
+    private Duration timeout = Duration.ofSeconds(60);
+}
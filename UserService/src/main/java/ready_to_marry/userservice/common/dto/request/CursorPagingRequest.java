@@ -0,0 +1,24 @@
+package ready_to_marry.userservice.common.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 리스트 조회 시 커서(keyset) 기반 페이징 요청 정보 DTO
+ *
+ * - cursor : 직전 응답의 meta.nextCursor 값 (첫 요청 시에는 생략)
+ * - size   : 한 페이지당 조회할 데이터 개수 (1 ~ 100)
+ */
+@Getter
+@Setter
+public class CursorPagingRequest {
+    // 직전 응답에서 받은 불투명(opaque) 커서, 첫 요청 시에는 null
+    private String cursor;
+
+    // 한 페이지당 조회할 데이터 개수 (1 ~ 100)
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+}
@@ -1,5 +1,6 @@
 package ready_to_marry.userservice.common.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 /**
@@ -7,24 +8,33 @@ import lombok.*;
  *
  * - page          : 현재 페이지 번호 (0부터 시작)
  * - size          : 페이지당 데이터 개수
- * - totalElements : 전체 데이터 건수
- * - totalPages    : 전체 페이지 수
+ * - totalElements : 전체 데이터 건수 (커서 기반 조회에서는 생략)
+ * - totalPages    : 전체 페이지 수 (커서 기반 조회에서는 생략)
+ * - hasNext       : 다음 페이지 존재 여부 (커서 기반 조회에서만 포함)
+ * - nextCursor    : 다음 페이지 조회용 커서 (커서 기반 조회에서만 포함, 마지막 페이지면 생략)
  */
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class Meta {
     // 현재 페이지 번호
-    private int page;
+    private Integer page;
 
     // 페이지당 데이터 개수
     private int size;
 
     // 전체 데이터 건수
-    private long totalElements;
+    private Long totalElements;
 
     // 전체 페이지 수
-    private int totalPages;
-}
\ No newline at end of file
+    private Integer totalPages;
+
+    // 다음 페이지 존재 여부
+    private Boolean hasNext;
+
+    // 다음 페이지 조회용 커서
+    private String nextCursor;
+}
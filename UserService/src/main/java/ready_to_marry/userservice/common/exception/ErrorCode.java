@@ -15,6 +15,8 @@ public enum ErrorCode {
     COUPLE_NOT_CONNECTED(1106, "User is not connected to a couple"),
     TOTAL_BUDGET_ALREADY_EXISTS(1107, "Total budget already exists for this couple"),
     TOTAL_BUDGET_NOT_REGISTERED(1108, "Total budget is not registered"),
+    IDEMPOTENCY_KEY_REUSED(1109, "Idempotency key was already used for a different request"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(1110, "A request with the same idempotency key is still in progress"),
 
     // 2xxx: 인프라(시스템) 오류
     DB_SAVE_FAILURE(2101, "System error occurred while saving data to the database"),
@@ -27,9 +29,17 @@ public enum ErrorCode {
     INVITE_CODE_GENERATION_FAILURE(2108, "System error occurred while generating unique invite code after multiple attempts"),
     EXCLUSIVE_KEY_ENCODING_FAILURE(2109, "System error occurred while encoding DynamoDB ExclusiveStartKey"),
     EXCLUSIVE_KEY_DECODING_FAILURE(2110, "System error occurred while decoding DynamoDB ExclusiveStartKey"),
+    NOTIFICATION_COUNTER_UPDATE_FAILURE(2111, "System error occurred while updating notification counter in redis"),
+    NOTIFICATION_COUNTER_RETRIEVE_FAILURE(2112, "System error occurred while retrieving notification counter from redis"),
+    IMAGE_PROCESSING_FAILURE(2113, "System error occurred while processing profile image"),
+    IMAGE_PROCESSING_BUSY(2114, "Too many profile images are being processed, please try again later"),
+    IMAGE_UPLOAD_SESSION_FAILURE(2115, "System error occurred while accessing profile image upload session in redis"),
+    S3_RETRIEVE_FAILURE(2116, "System error occurred while retrieving image from S3"),
     KAFKA_SERIALIZATION_ERROR(2601, "Failed to serialization message to Kafka"),
     KAFKA_CONNECTION_ERROR(2602, "Failed to connect to Kafka broker"),
     UNKNOWN_ERROR(2603, "Unknown error"),
+    COUPON_BULK_JOB_FAILURE(2604, "System error occurred while accessing bulk coupon job status in redis"),
+    COUPON_IDEMPOTENCY_FAILURE(2605, "System error occurred while accessing coupon idempotency key in redis"),
 
     // 3xxx: 보안 및 인가 오류
     FORBIDDEN(3101, "You do not have permission to access this resource");
@@ -0,0 +1,23 @@
+package ready_to_marry.userservice.coupon.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 대량 쿠폰 발급 작업의 진행 상황을 Redis에 반영하는 전용 스레드 풀
+ * Kafka 프로듀서 I/O 스레드(전송 완료 콜백)에서 Redis를 호출하지 않도록 분리 (반영 순서를 지키기 위해 단일 스레드)
+ */
+@Configuration
+public class CouponBulkExecutorConfig {
+    @Bean(name = "couponBulkProgressExecutor")
+    public ThreadPoolTaskExecutor couponBulkProgressExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("coupon-bulk-progress-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package ready_to_marry.userservice.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 대량 쿠폰 발급 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "coupon.bulk")
+public class CouponBulkProperties {
+    // 노드 전체에서 ack를 기다리는 중인 최대 메시지 수 (가득 차면 입력 읽기를 멈춤)
+    private int maxInFlight = 10_000;
+
+    // 몇 건의 결과마다 작업 진행 상황을 Redis에 반영할지
+    private int progressFlushInterval = 1_000;
+
+    // 작업별로 보관할 최대 실패 항목 수
+    private int maxRecordedFailures = 1_000;
+
+    // 작업 상태 보관 기간
+    private Duration jobTtl = Duration.ofHours(24);
+}
@@ -0,0 +1,23 @@
+package ready_to_marry.userservice.coupon.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 쿠폰 발급 결과를 Idempotency-Key에 기록하는 전용 스레드 풀
+ * Kafka 프로듀서 I/O 스레드(전송 완료 콜백)에서 Redis를 호출하지 않도록 분리
+ */
+@Configuration
+public class CouponIdempotencyExecutorConfig {
+    @Bean(name = "couponIdempotencyExecutor")
+    public ThreadPoolTaskExecutor couponIdempotencyExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setThreadNamePrefix("coupon-idempotency-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
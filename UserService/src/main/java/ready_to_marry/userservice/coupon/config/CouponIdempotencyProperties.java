@@ -0,0 +1,26 @@
+package ready_to_marry.userservice.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 쿠폰 발급 Idempotency-Key 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "coupon.idempotency")
+public class CouponIdempotencyProperties {
+    // 첫 요청 결과 보관 기간 (이 기간 안의 재시도는 같은 결과를 반환)
+    private Duration ttl = Duration.ofHours(24);
+
+    // 처리 중 표시 보관 기간 (노드가 결과를 기록하지 못하고 죽어도 이 시간이 지나면 다시 요청 가능, delivery.timeout보다 길게)
+    private Duration pendingTtl = Duration.ofMinutes(1);
+
+    // Idempotency-Key 최대 길이
+    private int maxKeyLength = 128;
+}
@@ -0,0 +1,45 @@
+package ready_to_marry.userservice.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 쿠폰 발급 Kafka 프로듀서(처리량 튜닝 프로필) 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "coupon.kafka")
+public class CouponKafkaProperties {
+    // 쿠폰 발급 메시지 토픽
+    private String topic = "coupon";
+
+    // 메시지 직렬화 방식 (json: 기존 컨슈머 호환, avro: 스키마 기반 바이너리)
+    private String format = "json";
+
+    // 배치를 채우기 위해 전송을 지연하는 최대 시간 (linger.ms)
+    private Duration linger = Duration.ofMillis(20);
+
+    // 파티션별 배치 최대 크기 (batch.size)
+    private DataSize batchSize = DataSize.ofKilobytes(128);
+
+    // 압축 방식 (compression.type)
+    private String compressionType = "lz4";
+
+    // 전송 대기 버퍼 전체 크기 (buffer.memory)
+    private DataSize bufferMemory = DataSize.ofMegabytes(64);
+
+    // 버퍼가 가득 찼을 때 send 호출이 기다리는 최대 시간 (max.block.ms)
+    private Duration maxBlock = Duration.ofSeconds(5);
+
+    // 재시도를 포함한 전송 완료 최대 시간 (delivery.timeout.ms)
+    private Duration deliveryTimeout = Duration.ofSeconds(30);
+
+    // API 요청이 브로커 응답(ack)을 기다리는 최대 시간 (초과 시 FAILED 응답, 전송 자체는 계속될 수 있음)
+    private Duration ackTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,79 @@
+package ready_to_marry.userservice.coupon.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import ready_to_marry.userservice.coupon.serialization.AvroCouponMessageSerializer;
+import ready_to_marry.userservice.coupon.serialization.CouponMessageSerializer;
+import ready_to_marry.userservice.coupon.serialization.CouponSchemaRegistry;
+import ready_to_marry.userservice.coupon.serialization.JsonCouponMessageSerializer;
+
+import java.util.Map;
+
+/**
+ * Kafka 프로듀서 설정
+ * - 기본(kafkaTemplate): spring.kafka.* 설정 그대로 사용 (커플 이벤트 등)
+ * - 쿠폰 발급(couponKafkaTemplate): 처리량 튜닝 프로필 (멱등성, acks=all, linger/batch 튜닝, lz4 압축)
+ *   값은 coupon.kafka.format에 따라 couponMessageSerializer(json|avro)가 만든 바이트를 그대로 전송
+ * 프로듀서 팩토리를 직접 정의하면 Boot 자동 설정이 물러나므로 기본 템플릿도 여기서 함께 등록
+ */
+@Configuration
+public class KafkaProducerConfig {
+    @Bean
+    @Primary
+    public ProducerFactory<String, String> kafkaProducerFactory(KafkaProperties kafkaProperties) {
+        return new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties(),
+                new StringSerializer(), new StringSerializer());
+    }
+
+    @Bean
+    @Primary
+    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> kafkaProducerFactory) {
+        return new KafkaTemplate<>(kafkaProducerFactory);
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> couponProducerFactory(KafkaProperties kafkaProperties, CouponKafkaProperties couponKafkaProperties) {
+        Map<String, Object> config = kafkaProperties.buildProducerProperties();
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, (int) couponKafkaProperties.getLinger().toMillis());
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, (int) couponKafkaProperties.getBatchSize().toBytes());
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, couponKafkaProperties.getCompressionType());
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, couponKafkaProperties.getBufferMemory().toBytes());
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, couponKafkaProperties.getMaxBlock().toMillis());
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) couponKafkaProperties.getDeliveryTimeout().toMillis());
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(), new ByteArraySerializer());
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> couponKafkaTemplate(@Qualifier("couponProducerFactory") ProducerFactory<String, byte[]> couponProducerFactory) {
+        return new KafkaTemplate<>(couponProducerFactory);
+    }
+
+    @Bean
+    public CouponSchemaRegistry couponSchemaRegistry() {
+        return new CouponSchemaRegistry();
+    }
+
+    @Bean
+    public CouponMessageSerializer couponMessageSerializer(CouponKafkaProperties couponKafkaProperties,
+                                                           ObjectMapper objectMapper,
+                                                           CouponSchemaRegistry couponSchemaRegistry) {
+        return switch (couponKafkaProperties.getFormat()) {
+            case "json" -> new JsonCouponMessageSerializer(objectMapper);
+            case "avro" -> new AvroCouponMessageSerializer(couponSchemaRegistry);
+            default -> throw new IllegalStateException("Unsupported coupon.kafka.format: " + couponKafkaProperties.getFormat());
+        };
+    }
+}
@@ -1,22 +1,102 @@
 package ready_to_marry.userservice.coupon.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ready_to_marry.userservice.common.dto.response.ApiResponse;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.coupon.dto.BulkCouponJobResponse;
 import ready_to_marry.userservice.coupon.dto.CouponRequest;
-import ready_to_marry.userservice.coupon.service.CouponKafkaProducer;
+import ready_to_marry.userservice.coupon.dto.CouponSendResponse;
+import ready_to_marry.userservice.coupon.enums.CouponSendStatus;
+import ready_to_marry.userservice.coupon.service.BulkCouponService;
+import ready_to_marry.userservice.coupon.service.CouponRegistrationService;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 쿠폰 발급 요청을 Kafka로 전달하는 컨트롤러
+ */
 @RestController
 @RequestMapping("/coupons")
 @RequiredArgsConstructor
 public class CouponController {
-    private final CouponKafkaProducer couponKafkaProducer;
+    private final CouponRegistrationService couponRegistrationService;
+    private final BulkCouponService bulkCouponService;
 
+    /**
+     * 쿠폰 발급 메시지 전송 (브로커 ack를 비동기로 기다린 뒤 응답, 요청 스레드는 점유하지 않음)
+     * Idempotency-Key가 있으면 같은 키의 재시도는 Kafka로 다시 보내지 않고 첫 요청 결과를 반환
+     *
+     * @param idempotencyKey    재시도 식별 키 (선택)
+     * @param couponRequest     쿠폰 발급 요청 (userId, couponId)
+     * @return 브로커 ack 시 HTTP 202 + code=0, data=파티션·오프셋 / 실패 시 HTTP 503 + code=KAFKA_CONNECTION_ERROR, data=실패 사유
+     */
     @PostMapping
-    public String registerCoupon(@RequestBody CouponRequest couponRequest) {
-        couponKafkaProducer.sendCoupon(couponRequest);
-        return "Kafka Coupon 전송 완료";
+    public CompletableFuture<ResponseEntity<ApiResponse<CouponSendResponse>>> registerCoupon(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                                                             @RequestBody CouponRequest couponRequest) {
+        return couponRegistrationService.register(couponRequest, idempotencyKey).thenApply(result -> {
+            if (result.getStatus() == CouponSendStatus.ACCEPTED) {
+                ApiResponse<CouponSendResponse> response = ApiResponse.<CouponSendResponse>builder()
+                        .code(0)
+                        .message("Coupon accepted")
+                        .data(result)
+                        .build();
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            }
+
+            ApiResponse<CouponSendResponse> response = ApiResponse.<CouponSendResponse>builder()
+                    .code(ErrorCode.KAFKA_CONNECTION_ERROR.getCode())
+                    .message(ErrorCode.KAFKA_CONNECTION_ERROR.getMessage())
+                    .data(result)
+                    .build();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        });
+    }
+
+    /**
+     * 대량 쿠폰 발급 (NDJSON 또는 CSV 본문을 스트리밍으로 읽어 전송, 항목별 결과는 작업 상태로 조회)
+     *
+     * @param contentType   application/x-ndjson ({"userId":1,"couponId":"A"} 한 줄에 하나) 또는 text/csv (userId,couponId)
+     * @param body          요청 본문 스트림
+     * @return HTTP 202 + Location(작업 상태 URL), code=0, data=작업 ID와 입력을 모두 읽은 시점의 집계
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<BulkCouponJobResponse>> registerCouponsInBulk(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                                    InputStream body) {
+        BulkCouponJobResponse job = bulkCouponService.startJob(body, contentType);
+
+        ApiResponse<BulkCouponJobResponse> response = ApiResponse.<BulkCouponJobResponse>builder()
+                .code(0)
+                .message("Bulk coupon job accepted")
+                .data(job)
+                .build();
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/coupons/bulk/" + job.getJobId()))
+                .body(response);
+    }
+
+    /**
+     * 대량 쿠폰 발급 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 성공 시 code=0, data=작업 상태, 집계, 실패 항목
+     */
+    @GetMapping("/bulk/{jobId}")
+    public ResponseEntity<ApiResponse<BulkCouponJobResponse>> getBulkCouponJob(@PathVariable String jobId) {
+        BulkCouponJobResponse job = bulkCouponService.getJob(jobId);
+
+        ApiResponse<BulkCouponJobResponse> response = ApiResponse.<BulkCouponJobResponse>builder()
+                .code(0)
+                .message("Bulk coupon job retrieved successfully")
+                .data(job)
+                .build();
+
+        return ResponseEntity.ok(response);
     }
 }
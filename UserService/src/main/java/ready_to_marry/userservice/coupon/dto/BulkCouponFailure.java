@@ -0,0 +1,24 @@
+package ready_to_marry.userservice.coupon.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * 대량 쿠폰 발급 작업의 실패 항목
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkCouponFailure {
+    // 입력에서의 줄 번호 (1부터 시작)
+    private long line;
+
+    // 대상 유저 ID (파싱 실패 시 null)
+    private Long userId;
+
+    // 실패 사유
+    private String reason;
+}
@@ -0,0 +1,36 @@
+package ready_to_marry.userservice.coupon.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import ready_to_marry.userservice.coupon.enums.BulkCouponJobStatus;
+
+import java.util.List;
+
+/**
+ * 대량 쿠폰 발급 작업 상태 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkCouponJobResponse {
+    // 작업 ID
+    private String jobId;
+
+    // 작업 상태 (RUNNING, COMPLETED, ABORTED)
+    private BulkCouponJobStatus status;
+
+    // 읽은 항목 수
+    private long total;
+
+    // 브로커가 ack한 항목 수
+    private long accepted;
+
+    // 전송 실패 또는 형식 오류 항목 수
+    private long failed;
+
+    // 실패 항목 (최대 coupon.bulk.max-recorded-failures건)
+    private List<BulkCouponFailure> failures;
+}
@@ -0,0 +1,19 @@
+package ready_to_marry.userservice.coupon.dto;
+
+import lombok.*;
+
+/**
+ * Idempotency-Key에 저장되는 첫 요청의 처리 상태 (Redis 값, JSON)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CouponIdempotencyRecord {
+    // 첫 요청 식별값 (userId:couponId, 같은 키를 다른 요청에 재사용했는지 판별)
+    private String fingerprint;
+
+    // 첫 요청의 전송 결과 (처리 중이면 null)
+    private CouponSendResponse response;
+}
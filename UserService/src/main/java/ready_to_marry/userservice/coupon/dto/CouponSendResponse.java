@@ -0,0 +1,31 @@
+package ready_to_marry.userservice.coupon.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import ready_to_marry.userservice.coupon.enums.CouponSendStatus;
+
+/**
+ * 쿠폰 발급 메시지 전송 결과 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CouponSendResponse {
+    // 전송 결과 (ACCEPTED, FAILED)
+    private CouponSendStatus status;
+
+    // 기록된 파티션 (ACCEPTED만)
+    private Integer partition;
+
+    // 기록된 오프셋 (ACCEPTED만)
+    private Long offset;
+
+    // 실패 사유 (FAILED만)
+    private String reason;
+
+    // 같은 Idempotency-Key로 처리된 첫 요청의 결과를 재사용한 경우 true
+    private Boolean replayed;
+}
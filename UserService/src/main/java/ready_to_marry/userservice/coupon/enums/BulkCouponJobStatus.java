@@ -0,0 +1,7 @@
+package ready_to_marry.userservice.coupon.enums;
+
+public enum BulkCouponJobStatus {
+    RUNNING,    // 입력을 읽는 중이거나 ack를 기다리는 메시지가 남아 있음
+    COMPLETED,  // 모든 항목의 결과가 확정됨
+    ABORTED     // 입력을 읽는 도중 중단됨 (이미 전송한 항목의 결과는 반영됨)
+}
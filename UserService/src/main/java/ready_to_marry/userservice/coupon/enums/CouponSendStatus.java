@@ -0,0 +1,6 @@
+package ready_to_marry.userservice.coupon.enums;
+
+public enum CouponSendStatus {
+    ACCEPTED,   // 브로커가 기록을 확인(ack)함
+    FAILED      // 전송 실패 또는 ack 대기 시간 초과
+}
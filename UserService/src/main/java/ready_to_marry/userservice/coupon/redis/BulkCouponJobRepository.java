@@ -0,0 +1,55 @@
+package ready_to_marry.userservice.coupon.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 쿠폰 발급 작업 상태(상태·집계·실패 항목) 저장소 추상화 인터페이스
+ */
+public interface BulkCouponJobRepository {
+    /**
+     * 작업 생성 (status=RUNNING, 집계 0)
+     *
+     * @param jobId 작업 ID
+     * @param ttl   작업 상태 보관 기간
+     */
+    void create(String jobId, Duration ttl);
+
+    /**
+     * 집계 증가 및 실패 항목 추가를 한 번의 파이프라인으로 반영 (실패 항목은 최대 maxFailures건까지만 보관)
+     *
+     * @param jobId         작업 ID
+     * @param total         읽은 항목 수 증가분
+     * @param accepted      ack된 항목 수 증가분
+     * @param failed        실패 항목 수 증가분
+     * @param failures      추가할 실패 항목 (JSON 문자열)
+     * @param maxFailures   보관할 최대 실패 항목 수
+     * @param ttl           실패 항목 보관 기간
+     */
+    void addProgress(String jobId, long total, long accepted, long failed, List<String> failures, int maxFailures, Duration ttl);
+
+    /**
+     * 작업 상태 변경
+     *
+     * @param jobId     작업 ID
+     * @param status    변경할 상태
+     */
+    void updateStatus(String jobId, String status);
+
+    /**
+     * 작업 상태·집계 조회
+     *
+     * @param jobId 작업 ID
+     * @return 필드 → 값 (작업이 없으면 빈 Map)
+     */
+    Map<String, String> findJob(String jobId);
+
+    /**
+     * 작업의 실패 항목 조회
+     *
+     * @param jobId 작업 ID
+     * @return 실패 항목 (JSON 문자열)
+     */
+    List<String> findFailures(String jobId);
+}
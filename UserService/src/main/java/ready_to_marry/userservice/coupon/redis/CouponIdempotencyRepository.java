@@ -0,0 +1,35 @@
+package ready_to_marry.userservice.coupon.redis;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 쿠폰 발급 Idempotency-Key 저장소 추상화 인터페이스
+ */
+public interface CouponIdempotencyRepository {
+    /**
+     * 키 선점 (키가 없으면 value를 저장, 있으면 기존 값을 그대로 반환; 한 번의 왕복으로 원자적으로 처리)
+     *
+     * @param idempotencyKey    Idempotency-Key
+     * @param value             선점 시 저장할 값
+     * @param ttl               선점 값 보관 기간
+     * @return 이미 저장된 값 (선점에 성공하면 빈 값)
+     */
+    Optional<String> claim(String idempotencyKey, String value, Duration ttl);
+
+    /**
+     * 선점한 키에 처리 결과 기록 (키가 만료되어 사라졌으면 기록하지 않음)
+     *
+     * @param idempotencyKey    Idempotency-Key
+     * @param value             저장할 결과
+     * @param ttl               결과 보관 기간
+     */
+    void complete(String idempotencyKey, String value, Duration ttl);
+
+    /**
+     * 선점한 키 해제 (같은 키로 다시 요청 가능)
+     *
+     * @param idempotencyKey Idempotency-Key
+     */
+    void release(String idempotencyKey);
+}
@@ -0,0 +1,93 @@
+package ready_to_marry.userservice.coupon.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class RedisBulkCouponJobRepository implements BulkCouponJobRepository {
+    private static final String KEY_PREFIX = "coupon:bulk-job:";
+    private static final String FAILURES_SUFFIX = ":failures";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void create(String jobId, Duration ttl) {
+        String key = generateKey(jobId);
+        String failuresKey = generateFailuresKey(jobId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().putAll(key, Map.of(
+                        "status", "RUNNING",
+                        "total", "0",
+                        "accepted", "0",
+                        "failed", "0"));
+                operations.expire(key, ttl);
+                operations.delete(failuresKey);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void addProgress(String jobId, long total, long accepted, long failed, List<String> failures, int maxFailures, Duration ttl) {
+        String key = generateKey(jobId);
+        String failuresKey = generateFailuresKey(jobId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                if (total != 0) {
+                    operations.opsForHash().increment(key, "total", total);
+                }
+                if (accepted != 0) {
+                    operations.opsForHash().increment(key, "accepted", accepted);
+                }
+                if (failed != 0) {
+                    operations.opsForHash().increment(key, "failed", failed);
+                }
+                if (!failures.isEmpty()) {
+                    operations.opsForList().rightPushAll(failuresKey, failures);
+                    operations.opsForList().trim(failuresKey, 0, maxFailures - 1);
+                    operations.expire(failuresKey, ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void updateStatus(String jobId, String status) {
+        redisTemplate.opsForHash().put(generateKey(jobId), "status", status);
+    }
+
+    @Override
+    public Map<String, String> findJob(String jobId) {
+        Map<String, String> job = redisTemplate.<String, String>opsForHash().entries(generateKey(jobId));
+        return job == null ? Map.of() : job;
+    }
+
+    @Override
+    public List<String> findFailures(String jobId) {
+        List<String> failures = redisTemplate.opsForList().range(generateFailuresKey(jobId), 0, -1);
+        return failures == null ? List.of() : failures;
+    }
+
+    private String generateKey(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    private String generateFailuresKey(String jobId) {
+        return KEY_PREFIX + jobId + FAILURES_SUFFIX;
+    }
+}
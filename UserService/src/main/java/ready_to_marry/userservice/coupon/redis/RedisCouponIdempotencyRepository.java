@@ -0,0 +1,50 @@
+package ready_to_marry.userservice.coupon.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RedisCouponIdempotencyRepository implements CouponIdempotencyRepository {
+    private static final String KEY_PREFIX = "coupon:idempotency:";
+
+    // KEYS[1] = 키 / ARGV[1] = 선점 값, ARGV[2] = TTL(ms)
+    // 기존 값이 있으면 반환, 없으면 선점 값 저장
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if current then return current end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "return false",
+            String.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<String> claim(String idempotencyKey, String value, Duration ttl) {
+        String current = redisTemplate.execute(CLAIM_SCRIPT, List.of(generateKey(idempotencyKey)),
+                value, String.valueOf(ttl.toMillis()));
+        return Optional.ofNullable(current);
+    }
+
+    @Override
+    public void complete(String idempotencyKey, String value, Duration ttl) {
+        redisTemplate.opsForValue().setIfPresent(generateKey(idempotencyKey), value, ttl);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        redisTemplate.delete(generateKey(idempotencyKey));
+    }
+
+    private String generateKey(String idempotencyKey) {
+        return KEY_PREFIX + idempotencyKey;
+    }
+}
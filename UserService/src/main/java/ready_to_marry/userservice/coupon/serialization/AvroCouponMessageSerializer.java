@@ -0,0 +1,68 @@
+package ready_to_marry.userservice.coupon.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.coupon.dto.CouponRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 쿠폰 발급 메시지 Avro 바이너리 직렬화
+ * - 필드 이름 없이 값만 기록 (userId: zigzag varint, couponId: union 인덱스 + 길이 + UTF-8)
+ * - 스키마는 CouponSchemaRegistry에서 버전별로 조회하며, 메시지에는 schema-version 헤더로 버전만 전달
+ * - 스레드별 출력 버퍼와 인코더를 재사용해 메시지당 할당을 줄임
+ */
+public class AvroCouponMessageSerializer implements CouponMessageSerializer {
+    public static final String CONTENT_TYPE = "application/avro";
+    public static final String SUBJECT = "coupon-request";
+    public static final int SCHEMA_VERSION = 1;
+
+    private final Schema schema;
+    private final GenericDatumWriter<GenericRecord> writer;
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    public AvroCouponMessageSerializer(CouponSchemaRegistry schemaRegistry) {
+        this.schema = schemaRegistry.getSchema(SUBJECT, SCHEMA_VERSION);
+        this.writer = new GenericDatumWriter<>(schema);
+    }
+
+    @Override
+    public byte[] serialize(CouponRequest dto) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("userId", dto.getUserId());
+        record.put("couponId", dto.getCouponId());
+
+        Buffer buffer = buffers.get();
+        buffer.out.reset();
+        try {
+            buffer.encoder = EncoderFactory.get().directBinaryEncoder(buffer.out, buffer.encoder);
+            writer.write(record, buffer.encoder);
+            buffer.encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new InfrastructureException(ErrorCode.KAFKA_SERIALIZATION_ERROR, e);
+        }
+        return buffer.out.toByteArray();
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    private static final class Buffer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        private BinaryEncoder encoder;
+    }
+}
@@ -0,0 +1,31 @@
+package ready_to_marry.userservice.coupon.serialization;
+
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.coupon.dto.CouponRequest;
+
+/**
+ * 쿠폰 발급 메시지(coupon 토픽) 직렬화 방식
+ * - 전송 시 contentType / schemaVersion을 레코드 헤더로 함께 실어 컨슈머가 디코딩 방식을 선택할 수 있게 함
+ */
+public interface CouponMessageSerializer {
+    // 레코드 헤더 이름: 직렬화 방식
+    String CONTENT_TYPE_HEADER = "content-type";
+
+    // 레코드 헤더 이름: 스키마 버전
+    String SCHEMA_VERSION_HEADER = "schema-version";
+
+    /**
+     * 쿠폰 발급 요청을 메시지 바이트로 직렬화
+     *
+     * @param dto 쿠폰 발급 요청 (userId, couponId)
+     * @return 직렬화된 메시지
+     * @throws InfrastructureException KAFKA_SERIALIZATION_ERROR
+     */
+    byte[] serialize(CouponRequest dto);
+
+    // 직렬화 방식 (content-type 헤더 값)
+    String contentType();
+
+    // 스키마 버전 (schema-version 헤더 값)
+    int schemaVersion();
+}
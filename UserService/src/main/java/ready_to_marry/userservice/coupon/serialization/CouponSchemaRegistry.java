@@ -0,0 +1,45 @@
+package ready_to_marry.userservice.coupon.serialization;
+
+import org.apache.avro.Schema;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 메시지 Avro 스키마 저장소 (외부 스키마 레지스트리 대용)
+ * - 스키마는 classpath:avro/{subject}-v{version}.avsc 로 애플리케이션에 내장
+ * - 버전 번호는 schema-version 헤더로 전달되어 컨슈머가 같은 버전의 스키마로 디코딩
+ */
+public class CouponSchemaRegistry {
+    private static final String SCHEMA_LOCATION = "avro/%s-v%d.avsc";
+
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * subject/version에 해당하는 스키마 조회 (최초 조회 시 classpath에서 파싱 후 캐싱)
+     *
+     * @param subject 스키마 이름 (예: coupon-request)
+     * @param version 스키마 버전
+     * @return Avro 스키마
+     * @throws InfrastructureException KAFKA_SERIALIZATION_ERROR (스키마가 없거나 파싱 실패)
+     */
+    public Schema getSchema(String subject, int version) {
+        return schemas.computeIfAbsent(subject + ":" + version, key -> load(subject, version));
+    }
+
+    private Schema load(String subject, int version) {
+        String location = String.format(SCHEMA_LOCATION, subject, version);
+        try (InputStream in = CouponSchemaRegistry.class.getClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                throw new IOException("schema not found: " + location);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException | RuntimeException e) {
+            throw new InfrastructureException(ErrorCode.KAFKA_SERIALIZATION_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ready_to_marry.userservice.coupon.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.coupon.dto.CouponRequest;
+
+/**
+ * 쿠폰 발급 메시지 JSON 직렬화 (기존 컨슈머 호환 기본값)
+ */
+public class JsonCouponMessageSerializer implements CouponMessageSerializer {
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonCouponMessageSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(CouponRequest dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new InfrastructureException(ErrorCode.KAFKA_SERIALIZATION_ERROR, e);
+        }
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+}
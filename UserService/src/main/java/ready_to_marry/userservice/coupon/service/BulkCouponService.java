@@ -0,0 +1,39 @@
+package ready_to_marry.userservice.coupon.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
+import ready_to_marry.userservice.coupon.dto.BulkCouponJobResponse;
+
+import java.io.InputStream;
+
+/**
+ * 대량 쿠폰 발급(스트리밍 입력 → Kafka) 작업 실행 및 상태 조회 서비스 인터페이스
+ */
+public interface BulkCouponService {
+    /**
+     * 대량 쿠폰 발급 작업 실행
+     * 1) Content-Type 확인 (NDJSON 또는 CSV)
+     * 2) 작업 생성 (Redis, status=RUNNING)
+     * 3) 입력을 한 줄씩 읽어 파싱 후 전송 (전체를 메모리에 올리지 않음, 노드 전체 in-flight 상한에 도달하면 ack가 돌아올 때까지 읽기를 멈춤)
+     * 4) 전송 결과는 비동기로 집계해 일정 건수마다 Redis에 반영, 모든 결과가 확정되면 COMPLETED(읽기 중 오류 시 ABORTED)로 변경
+     * 5) 입력을 모두 읽은 시점의 작업 상태 반환 (남은 ack는 작업 상태 조회로 확인)
+     *
+     * @param body                      요청 본문 스트림 (NDJSON: {"userId":1,"couponId":"A"} / CSV: userId,couponId)
+     * @param contentType               요청 Content-Type
+     * @return BulkCouponJobResponse    작업 ID와 입력을 모두 읽은 시점의 집계
+     * @throws ValidationException      지원하지 않는 Content-Type인 경우
+     * @throws InfrastructureException  COUPON_BULK_JOB_FAILURE
+     */
+    BulkCouponJobResponse startJob(InputStream body, String contentType);
+
+    /**
+     * 대량 쿠폰 발급 작업 상태 조회
+     *
+     * @param jobId                     작업 ID
+     * @return BulkCouponJobResponse    작업 상태, 집계, 실패 항목
+     * @throws EntityNotFoundException  작업이 없거나 보관 기간이 지난 경우
+     * @throws InfrastructureException  COUPON_BULK_JOB_FAILURE
+     */
+    BulkCouponJobResponse getJob(String jobId);
+}
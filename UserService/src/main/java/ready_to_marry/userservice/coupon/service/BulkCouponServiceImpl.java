@@ -0,0 +1,341 @@
+package ready_to_marry.userservice.coupon.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
+import ready_to_marry.userservice.coupon.config.CouponBulkProperties;
+import ready_to_marry.userservice.coupon.dto.BulkCouponFailure;
+import ready_to_marry.userservice.coupon.dto.BulkCouponJobResponse;
+import ready_to_marry.userservice.coupon.dto.CouponRequest;
+import ready_to_marry.userservice.coupon.enums.BulkCouponJobStatus;
+import ready_to_marry.userservice.coupon.enums.CouponSendStatus;
+import ready_to_marry.userservice.coupon.redis.BulkCouponJobRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class BulkCouponServiceImpl implements BulkCouponService {
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final CouponKafkaProducer couponKafkaProducer;
+    private final BulkCouponJobRepository bulkCouponJobRepository;
+    private final CouponBulkProperties couponBulkProperties;
+    private final ObjectMapper objectMapper;
+    private final Executor couponBulkProgressExecutor;
+
+    // 노드 전체에서 ack를 기다리는 메시지 수 상한 (프로듀서 버퍼 고갈 방지)
+    private final Semaphore inFlight;
+
+    public BulkCouponServiceImpl(CouponKafkaProducer couponKafkaProducer,
+                                 BulkCouponJobRepository bulkCouponJobRepository,
+                                 CouponBulkProperties couponBulkProperties,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("couponBulkProgressExecutor") Executor couponBulkProgressExecutor) {
+        this.couponKafkaProducer = couponKafkaProducer;
+        this.bulkCouponJobRepository = bulkCouponJobRepository;
+        this.couponBulkProperties = couponBulkProperties;
+        this.objectMapper = objectMapper;
+        this.couponBulkProgressExecutor = couponBulkProgressExecutor;
+        this.inFlight = new Semaphore(couponBulkProperties.getMaxInFlight());
+    }
+
+    @Override
+    public BulkCouponJobResponse startJob(InputStream body, String contentType) {
+        // 1) Content-Type 확인 (NDJSON 또는 CSV)
+        String mediaType = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+        if (!mediaType.equals(NDJSON) && !mediaType.equals(CSV)) {
+            throw new ValidationException("Content-Type", "must be " + NDJSON + " or " + CSV);
+        }
+        boolean csv = mediaType.equals(CSV);
+
+        // 2) 작업 생성 (Redis, status=RUNNING)
+        String jobId = UUID.randomUUID().toString();
+        try {
+            bulkCouponJobRepository.create(jobId, couponBulkProperties.getJobTtl());
+        } catch (DataAccessException ex) {
+            log.error("{}: jobId={}", ErrorCode.COUPON_BULK_JOB_FAILURE.getMessage(), jobId, ex);
+            throw new InfrastructureException(ErrorCode.COUPON_BULK_JOB_FAILURE, ex);
+        }
+        BulkJob job = new BulkJob(jobId);
+
+        // 3) 입력을 한 줄씩 읽어 파싱 후 전송 (in-flight 상한에 도달하면 ack가 돌아올 때까지 대기)
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (csv && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+
+                CouponRequest request;
+                try {
+                    request = csv ? parseCsv(line) : parseNdjson(line);
+                } catch (IllegalArgumentException ex) {
+                    job.read();
+                    job.fail(lineNumber, null, ex.getMessage());
+                    continue;
+                }
+
+                send(job, lineNumber, request);
+            }
+        } catch (IOException ex) {
+            log.warn("Bulk coupon input stream aborted: jobId={}", jobId, ex);
+            job.abort();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.abort();
+        }
+
+        // 4) 입력 읽기 종료 (ack를 기다리는 메시지가 없으면 바로 완료 처리)
+        job.finishReading();
+
+        // 5) 입력을 모두 읽은 시점의 작업 상태 반환
+        return job.snapshot();
+    }
+
+    @Override
+    public BulkCouponJobResponse getJob(String jobId) {
+        Map<String, String> job;
+        List<String> failures;
+        try {
+            job = bulkCouponJobRepository.findJob(jobId);
+            failures = job.isEmpty() ? List.of() : bulkCouponJobRepository.findFailures(jobId);
+        } catch (DataAccessException ex) {
+            log.error("{}: jobId={}", ErrorCode.COUPON_BULK_JOB_FAILURE.getMessage(), jobId, ex);
+            throw new InfrastructureException(ErrorCode.COUPON_BULK_JOB_FAILURE, ex);
+        }
+        if (job.isEmpty()) {
+            throw new EntityNotFoundException("Bulk coupon job not found");
+        }
+
+        List<BulkCouponFailure> failureItems = new ArrayList<>(failures.size());
+        for (String failure : failures) {
+            try {
+                failureItems.add(objectMapper.readValue(failure, BulkCouponFailure.class));
+            } catch (JsonProcessingException ex) {
+                log.warn("Skipping unreadable bulk coupon failure entry: jobId={}", jobId, ex);
+            }
+        }
+
+        return BulkCouponJobResponse.builder()
+                .jobId(jobId)
+                .status(BulkCouponJobStatus.valueOf(job.get("status")))
+                .total(Long.parseLong(job.getOrDefault("total", "0")))
+                .accepted(Long.parseLong(job.getOrDefault("accepted", "0")))
+                .failed(Long.parseLong(job.getOrDefault("failed", "0")))
+                .failures(failureItems)
+                .build();
+    }
+
+    /**
+     * in-flight 허가를 얻은 뒤 전송하고, 결과가 확정되면 허가 반환 후 집계
+     */
+    private void send(BulkJob job, long lineNumber, CouponRequest request) throws InterruptedException {
+        inFlight.acquire();
+        job.read();
+        job.begin();
+        try {
+            couponKafkaProducer.send(request).whenComplete((result, ex) -> {
+                inFlight.release();
+                if (ex == null && result.getStatus() == CouponSendStatus.ACCEPTED) {
+                    job.accept();
+                } else {
+                    job.fail(lineNumber, request.getUserId(), ex != null ? ex.getClass().getSimpleName() : result.getReason());
+                }
+                job.end();
+            });
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            job.fail(lineNumber, request.getUserId(), ex.getClass().getSimpleName());
+            job.end();
+        }
+    }
+
+    private boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("userid");
+    }
+
+    private CouponRequest parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < 2) {
+            throw new IllegalArgumentException("expected userId,couponId");
+        }
+        return toRequest(columns[0].trim(), columns[1].trim());
+    }
+
+    private CouponRequest parseNdjson(String line) {
+        CouponRequest request;
+        try {
+            request = objectMapper.readValue(line, CouponRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("invalid JSON");
+        }
+        if (request.getUserId() == null || request.getCouponId() == null || request.getCouponId().isBlank()) {
+            throw new IllegalArgumentException("userId and couponId are required");
+        }
+        return request;
+    }
+
+    private CouponRequest toRequest(String userId, String couponId) {
+        if (couponId.isEmpty()) {
+            throw new IllegalArgumentException("userId and couponId are required");
+        }
+        CouponRequest request = new CouponRequest();
+        try {
+            request.setUserId(Long.valueOf(userId));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("invalid userId");
+        }
+        request.setCouponId(couponId);
+        return request;
+    }
+
+    /**
+     * 실행 중인 작업의 노드 로컬 집계
+     * - 결과는 증가분으로 모아 두었다가 progressFlushInterval건마다 전용 스레드에서 Redis에 반영
+     * - pending은 입력 읽기(1) + ack 대기 메시지 수로, 0이 되는 순간 한 번만 최종 반영 후 상태 변경
+     */
+    private class BulkJob {
+        private final String jobId;
+        private final AtomicLong pending = new AtomicLong(1);
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong accepted = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong totalDelta = new AtomicLong();
+        private final AtomicLong acceptedDelta = new AtomicLong();
+        private final AtomicLong failedDelta = new AtomicLong();
+        private final AtomicLong outcomes = new AtomicLong();
+        private final AtomicInteger recordedFailures = new AtomicInteger();
+        private final Queue<String> failureDelta = new ConcurrentLinkedQueue<>();
+        private volatile boolean aborted;
+
+        BulkJob(String jobId) {
+            this.jobId = jobId;
+        }
+
+        void read() {
+            total.incrementAndGet();
+            totalDelta.incrementAndGet();
+        }
+
+        void begin() {
+            pending.incrementAndGet();
+        }
+
+        void end() {
+            if (pending.decrementAndGet() == 0) {
+                couponBulkProgressExecutor.execute(this::complete);
+            }
+        }
+
+        void accept() {
+            accepted.incrementAndGet();
+            acceptedDelta.incrementAndGet();
+            outcome();
+        }
+
+        void fail(long lineNumber, Long userId, String reason) {
+            failed.incrementAndGet();
+            failedDelta.incrementAndGet();
+            if (recordedFailures.getAndIncrement() < couponBulkProperties.getMaxRecordedFailures()) {
+                try {
+                    failureDelta.add(objectMapper.writeValueAsString(BulkCouponFailure.builder()
+                            .line(lineNumber)
+                            .userId(userId)
+                            .reason(reason)
+                            .build()));
+                } catch (JsonProcessingException ex) {
+                    log.warn("Failed to serialize bulk coupon failure entry: jobId={}", jobId, ex);
+                }
+            }
+            outcome();
+        }
+
+        void abort() {
+            aborted = true;
+        }
+
+        void finishReading() {
+            end();
+        }
+
+        BulkCouponJobResponse snapshot() {
+            return BulkCouponJobResponse.builder()
+                    .jobId(jobId)
+                    .status(pending.get() == 0 ? (aborted ? BulkCouponJobStatus.ABORTED : BulkCouponJobStatus.COMPLETED) : BulkCouponJobStatus.RUNNING)
+                    .total(total.get())
+                    .accepted(accepted.get())
+                    .failed(failed.get())
+                    .build();
+        }
+
+        private void outcome() {
+            if (outcomes.incrementAndGet() % couponBulkProperties.getProgressFlushInterval() == 0) {
+                couponBulkProgressExecutor.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            List<String> failures = new ArrayList<>();
+            String failure;
+            while ((failure = failureDelta.poll()) != null) {
+                failures.add(failure);
+            }
+            long totalIncrement = totalDelta.getAndSet(0);
+            long acceptedIncrement = acceptedDelta.getAndSet(0);
+            long failedIncrement = failedDelta.getAndSet(0);
+            if (totalIncrement == 0 && acceptedIncrement == 0 && failedIncrement == 0 && failures.isEmpty()) {
+                return;
+            }
+
+            try {
+                bulkCouponJobRepository.addProgress(jobId, totalIncrement, acceptedIncrement, failedIncrement,
+                        failures, couponBulkProperties.getMaxRecordedFailures(), couponBulkProperties.getJobTtl());
+            } catch (DataAccessException ex) {
+                // 반영하지 못한 증가분은 다음 반영 때 함께 시도
+                totalDelta.addAndGet(totalIncrement);
+                acceptedDelta.addAndGet(acceptedIncrement);
+                failedDelta.addAndGet(failedIncrement);
+                failureDelta.addAll(failures);
+                log.warn("{}: jobId={}", ErrorCode.COUPON_BULK_JOB_FAILURE.getMessage(), jobId, ex);
+            }
+        }
+
+        private void complete() {
+            flush();
+            BulkCouponJobStatus status = aborted ? BulkCouponJobStatus.ABORTED : BulkCouponJobStatus.COMPLETED;
+            try {
+                bulkCouponJobRepository.updateStatus(jobId, status.name());
+            } catch (DataAccessException ex) {
+                log.warn("{}: jobId={}", ErrorCode.COUPON_BULK_JOB_FAILURE.getMessage(), jobId, ex);
+            }
+            log.info("Bulk coupon job finished: jobId={}, status={}, total={}, accepted={}, failed={}",
+                    jobId, status, total.get(), accepted.get(), failed.get());
+        }
+    }
+}
@@ -1,34 +1,141 @@
 package ready_to_marry.userservice.coupon.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
-import org.apache.kafka.common.errors.NetworkException;
-import org.apache.kafka.common.errors.TimeoutException;
-import org.springframework.kafka.KafkaException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 import ready_to_marry.userservice.common.exception.ErrorCode;
 import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
+import ready_to_marry.userservice.coupon.config.CouponKafkaProperties;
 import ready_to_marry.userservice.coupon.dto.CouponRequest;
+import ready_to_marry.userservice.coupon.dto.CouponSendResponse;
+import ready_to_marry.userservice.coupon.enums.CouponSendStatus;
+import ready_to_marry.userservice.coupon.serialization.CouponMessageSerializer;
 
-@RequiredArgsConstructor
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 메시지를 Kafka로 전송하는 프로듀서
+ * - key: userId (같은 유저의 메시지는 같은 파티션에 순서대로 기록)
+ * - value: couponMessageSerializer(json|avro) 직렬화 결과, 헤더로 content-type / schema-version 전달
+ * - 처리량 튜닝 프로필(couponKafkaTemplate)로 전송하고, 브로커 ack 결과를 지연 시간과 함께 Micrometer에 기록
+ *   (coupon.kafka.send{result=accepted|failed, exception=...})
+ */
+@Slf4j
 @Service
 public class CouponKafkaProducer {
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
-    private static final String TOPIC = "coupon";
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final CouponMessageSerializer couponMessageSerializer;
+    private final CouponKafkaProperties couponKafkaProperties;
+    private final MeterRegistry meterRegistry;
+
+    public CouponKafkaProducer(@Qualifier("couponKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate,
+                               CouponMessageSerializer couponMessageSerializer,
+                               CouponKafkaProperties couponKafkaProperties,
+                               MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.couponMessageSerializer = couponMessageSerializer;
+        this.couponKafkaProperties = couponKafkaProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 쿠폰 발급 메시지 전송 (단건 API용: ackTimeout 안에 ack를 받지 못하면 FAILED로 응답)
+     *
+     * @param dto 쿠폰 발급 요청 (userId, couponId)
+     * @return 전송 결과 (ACCEPTED: 파티션·오프셋 포함, FAILED: 실패 사유 포함, 예외로 완료되지 않음)
+     * @throws ValidationException      userId가 없는 경우
+     * @throws InfrastructureException  KAFKA_SERIALIZATION_ERROR
+     */
+    public CompletableFuture<CouponSendResponse> sendCoupon(CouponRequest dto) {
+        return withAckTimeout(send(dto));
+    }
+
+    /**
+     * 전송 결과를 ackTimeout까지만 기다리는 사본 생성 (원본 전송 결과는 시간 초과와 무관하게 그대로 확정됨)
+     *
+     * @param delivery send 결과
+     * @return ackTimeout 안에 확정되지 않으면 FAILED(AckTimeout)로 완료되는 사본
+     */
+    public CompletableFuture<CouponSendResponse> withAckTimeout(CompletableFuture<CouponSendResponse> delivery) {
+        return delivery.copy().completeOnTimeout(
+                CouponSendResponse.builder()
+                        .status(CouponSendStatus.FAILED)
+                        .reason("AckTimeout")
+                        .build(),
+                couponKafkaProperties.getAckTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
 
-    public void sendCoupon(CouponRequest dto) {
+    /**
+     * 쿠폰 발급 메시지 전송 (전송 결과는 delivery.timeout 안에 반드시 확정됨)
+     * 1) userId 검증 및 메시지 직렬화
+     * 2) userId를 key로, 직렬화 방식·스키마 버전을 헤더로 전송 (버퍼가 가득 차 send가 실패해도 FAILED로 처리)
+     * 3) 브로커 ack 또는 실패 시 지연 시간과 결과를 기록하고 전송 결과로 변환
+     *
+     * @param dto 쿠폰 발급 요청 (userId, couponId)
+     * @return 전송 결과 (ACCEPTED: 파티션·오프셋 포함, FAILED: 실패 사유 포함, 예외로 완료되지 않음)
+     * @throws ValidationException      userId가 없는 경우
+     * @throws InfrastructureException  KAFKA_SERIALIZATION_ERROR
+     */
+    public CompletableFuture<CouponSendResponse> send(CouponRequest dto) {
+        // 1) userId 검증 및 메시지 직렬화
+        if (dto.getUserId() == null) {
+            throw new ValidationException("userId", "must not be null");
+        }
+
+        byte[] payload = couponMessageSerializer.serialize(dto);
+
+        // 2) userId를 key로, 직렬화 방식·스키마 버전을 헤더로 전송
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(couponKafkaProperties.getTopic(), String.valueOf(dto.getUserId()), payload);
+        record.headers()
+                .add(CouponMessageSerializer.CONTENT_TYPE_HEADER, couponMessageSerializer.contentType().getBytes(StandardCharsets.UTF_8))
+                .add(CouponMessageSerializer.SCHEMA_VERSION_HEADER, ByteBuffer.allocate(Integer.BYTES).putInt(couponMessageSerializer.schemaVersion()).array());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<SendResult<String, byte[]>> send;
         try {
-            String json = objectMapper.writeValueAsString(dto);
-            kafkaTemplate.send(TOPIC, json);
-        } catch (JsonProcessingException e) {
-            throw new InfrastructureException(ErrorCode.KAFKA_SERIALIZATION_ERROR, e);
-        } catch (KafkaException | TimeoutException | NetworkException e) {
-            throw new InfrastructureException(ErrorCode.KAFKA_CONNECTION_ERROR, e);
+            send = kafkaTemplate.send(record);
         } catch (Exception e) {
-            throw new InfrastructureException(ErrorCode.UNKNOWN_ERROR, e);
+            send = CompletableFuture.failedFuture(e);
         }
+
+        // 3) 브로커 ack 또는 실패 시 결과 기록
+        return send.handle((result, ex) -> {
+            if (ex == null) {
+                record(sample, "accepted", "none");
+                return CouponSendResponse.builder()
+                        .status(CouponSendStatus.ACCEPTED)
+                        .partition(result.getRecordMetadata().partition())
+                        .offset(result.getRecordMetadata().offset())
+                        .build();
+            }
+
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            record(sample, "failed", cause.getClass().getSimpleName());
+            log.warn("{}: couponId={}", ErrorCode.KAFKA_CONNECTION_ERROR.getMessage(), dto.getCouponId(), cause);
+            return CouponSendResponse.builder()
+                    .status(CouponSendStatus.FAILED)
+                    .reason(cause.getClass().getSimpleName())
+                    .build();
+        });
+    }
+
+    private void record(Timer.Sample sample, String result, String exception) {
+        sample.stop(Timer.builder("coupon.kafka.send")
+                .description("Coupon message send latency until broker acknowledgement")
+                .tag("result", result)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
     }
 }
@@ -0,0 +1,32 @@
+package ready_to_marry.userservice.coupon.service;
+
+import ready_to_marry.userservice.common.exception.BusinessException;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
+import ready_to_marry.userservice.coupon.dto.CouponRequest;
+import ready_to_marry.userservice.coupon.dto.CouponSendResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 단건 쿠폰 발급(Idempotency-Key 기반 중복 전송 방지) 서비스 인터페이스
+ */
+public interface CouponRegistrationService {
+    /**
+     * 쿠폰 발급 메시지 전송
+     * 1) Idempotency-Key가 없으면 그대로 전송
+     * 2) 요청 검증 (userId, Idempotency-Key 형식)
+     * 3) Idempotency-Key 선점 (Redis 한 번 왕복, 처리 중 표시)
+     * 4) 이미 처리된 키면 Kafka를 거치지 않고 첫 요청 결과 반환 (다른 요청에 재사용됐거나 아직 처리 중이면 예외)
+     * 5) 전송 후 결과 확정 시 비동기로 키에 기록 (ACCEPTED: 결과 보관, FAILED: 키 해제로 재시도 허용)
+     * 6) ackTimeout까지만 기다린 전송 결과 반환
+     *
+     * @param dto               쿠폰 발급 요청 (userId, couponId)
+     * @param idempotencyKey    Idempotency-Key 헤더 (없으면 null)
+     * @return 전송 결과 (첫 요청 결과를 재사용한 경우 replayed=true)
+     * @throws ValidationException      userId가 없거나 Idempotency-Key 형식이 잘못된 경우
+     * @throws BusinessException        IDEMPOTENCY_KEY_REUSED, IDEMPOTENCY_REQUEST_IN_PROGRESS
+     * @throws InfrastructureException  COUPON_IDEMPOTENCY_FAILURE, KAFKA_SERIALIZATION_ERROR
+     */
+    CompletableFuture<CouponSendResponse> register(CouponRequest dto, String idempotencyKey);
+}
@@ -0,0 +1,140 @@
+package ready_to_marry.userservice.coupon.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import ready_to_marry.userservice.common.exception.BusinessException;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
+import ready_to_marry.userservice.coupon.config.CouponIdempotencyProperties;
+import ready_to_marry.userservice.coupon.dto.CouponIdempotencyRecord;
+import ready_to_marry.userservice.coupon.dto.CouponRequest;
+import ready_to_marry.userservice.coupon.dto.CouponSendResponse;
+import ready_to_marry.userservice.coupon.enums.CouponSendStatus;
+import ready_to_marry.userservice.coupon.redis.CouponIdempotencyRepository;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Service
+public class CouponRegistrationServiceImpl implements CouponRegistrationService {
+    private final CouponKafkaProducer couponKafkaProducer;
+    private final CouponIdempotencyRepository couponIdempotencyRepository;
+    private final CouponIdempotencyProperties couponIdempotencyProperties;
+    private final ObjectMapper objectMapper;
+    private final Executor couponIdempotencyExecutor;
+
+    public CouponRegistrationServiceImpl(CouponKafkaProducer couponKafkaProducer,
+                                         CouponIdempotencyRepository couponIdempotencyRepository,
+                                         CouponIdempotencyProperties couponIdempotencyProperties,
+                                         ObjectMapper objectMapper,
+                                         @Qualifier("couponIdempotencyExecutor") Executor couponIdempotencyExecutor) {
+        this.couponKafkaProducer = couponKafkaProducer;
+        this.couponIdempotencyRepository = couponIdempotencyRepository;
+        this.couponIdempotencyProperties = couponIdempotencyProperties;
+        this.objectMapper = objectMapper;
+        this.couponIdempotencyExecutor = couponIdempotencyExecutor;
+    }
+
+    @Override
+    public CompletableFuture<CouponSendResponse> register(CouponRequest dto, String idempotencyKey) {
+        // 1) Idempotency-Key가 없으면 그대로 전송
+        if (idempotencyKey == null) {
+            return couponKafkaProducer.sendCoupon(dto);
+        }
+
+        // 2) 요청 검증 (userId, Idempotency-Key 형식)
+        if (dto.getUserId() == null) {
+            throw new ValidationException("userId", "must not be null");
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > couponIdempotencyProperties.getMaxKeyLength()
+                || !idempotencyKey.chars().allMatch(c -> c > 0x20 && c < 0x7f)) {
+            throw new ValidationException("Idempotency-Key",
+                    "must be 1-" + couponIdempotencyProperties.getMaxKeyLength() + " visible ASCII characters");
+        }
+
+        // 3) Idempotency-Key 선점 (처리 중 표시)
+        String fingerprint = dto.getUserId() + ":" + dto.getCouponId();
+        Optional<String> existing;
+        try {
+            existing = couponIdempotencyRepository.claim(idempotencyKey,
+                    toJson(new CouponIdempotencyRecord(fingerprint, null)), couponIdempotencyProperties.getPendingTtl());
+        } catch (DataAccessException ex) {
+            log.error("{}: idempotencyKey={}", ErrorCode.COUPON_IDEMPOTENCY_FAILURE.getMessage(), idempotencyKey, ex);
+            throw new InfrastructureException(ErrorCode.COUPON_IDEMPOTENCY_FAILURE, ex);
+        }
+
+        // 4) 이미 처리된 키면 첫 요청 결과 반환
+        if (existing.isPresent()) {
+            CouponIdempotencyRecord record = fromJson(existing.get());
+            if (!fingerprint.equals(record.getFingerprint())) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (record.getResponse() == null) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            CouponSendResponse replay = record.getResponse();
+            replay.setReplayed(true);
+            return CompletableFuture.completedFuture(replay);
+        }
+
+        // 5) 전송 후 결과 확정 시 비동기로 키에 기록
+        CompletableFuture<CouponSendResponse> delivery;
+        try {
+            delivery = couponKafkaProducer.send(dto);
+        } catch (RuntimeException ex) {
+            releaseQuietly(idempotencyKey);
+            throw ex;
+        }
+        delivery.thenAcceptAsync(result -> recordOutcome(idempotencyKey, fingerprint, result), couponIdempotencyExecutor);
+
+        // 6) ackTimeout까지만 기다린 전송 결과 반환
+        return couponKafkaProducer.withAckTimeout(delivery);
+    }
+
+    // 전송 결과 기록 (ACCEPTED: 결과 보관, FAILED: 키 해제)
+    private void recordOutcome(String idempotencyKey, String fingerprint, CouponSendResponse result) {
+        if (result.getStatus() != CouponSendStatus.ACCEPTED) {
+            releaseQuietly(idempotencyKey);
+            return;
+        }
+
+        try {
+            couponIdempotencyRepository.complete(idempotencyKey,
+                    toJson(new CouponIdempotencyRecord(fingerprint, result)), couponIdempotencyProperties.getTtl());
+        } catch (DataAccessException | InfrastructureException ex) {
+            // 기록에 실패해도 처리 중 표시는 pendingTtl 후 만료되므로 로그만 남김
+            log.warn("{}: idempotencyKey={}", ErrorCode.COUPON_IDEMPOTENCY_FAILURE.getMessage(), idempotencyKey, ex);
+        }
+    }
+
+    private void releaseQuietly(String idempotencyKey) {
+        try {
+            couponIdempotencyRepository.release(idempotencyKey);
+        } catch (DataAccessException ex) {
+            log.warn("{}: idempotencyKey={}", ErrorCode.COUPON_IDEMPOTENCY_FAILURE.getMessage(), idempotencyKey, ex);
+        }
+    }
+
+    private String toJson(CouponIdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException ex) {
+            throw new InfrastructureException(ErrorCode.COUPON_IDEMPOTENCY_FAILURE, ex);
+        }
+    }
+
+    private CouponIdempotencyRecord fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, CouponIdempotencyRecord.class);
+        } catch (JsonProcessingException ex) {
+            throw new InfrastructureException(ErrorCode.COUPON_IDEMPOTENCY_FAILURE, ex);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package ready_to_marry.userservice.fcm.buffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.fcm.config.FcmTokenWriteBehindProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * DB 반영 전 FCM 토큰 변경을 유저별로 모아 두는 노드 로컬 쓰기 지연 버퍼
+ *
+ * - 같은 유저의 변경은 마지막 값만 남김 (last write wins)
+ * - 크기 상한(maxPending)에 도달하면 새 유저는 받지 않음 (호출자가 즉시 upsert로 처리)
+ * - 반영(flush)은 한 번에 하나씩만 실행되며, 반영에 성공한 항목만 제거 (반영 중 더 새로운 값이 들어오면 다음 반영까지 유지)
+ * - 배치가 실패하면 한 건씩 다시 반영해, 데이터 자체가 잘못된 항목만 버리고 나머지 배치 반영은 계속 진행
+ * - 대기 중인 유저 수, 가득 차서 받지 못한 건수, 버린 건수는
+ *   Micrometer(fcm.token.write_behind.pending, fcm.token.write_behind.rejected, fcm.token.write_behind.dropped)로 노출
+ */
+@Slf4j
+@Component
+public class FcmTokenWriteBuffer {
+    private final FcmTokenWriteBehindProperties properties;
+    private final Map<Long, String> pending = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    // 반영과 삭제 전 정리를 직렬화 (삭제 직후 이전 값이 뒤늦게 반영되는 것을 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public FcmTokenWriteBuffer(FcmTokenWriteBehindProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("fcm.token.write_behind.pending", pending, Map::size)
+                .description("FCM token updates waiting to be flushed to the database")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("fcm.token.write_behind.rejected");
+        this.droppedCounter = meterRegistry.counter("fcm.token.write_behind.dropped");
+    }
+
+    /**
+     * 토큰 변경을 버퍼에 기록
+     *
+     * @param userId    유저 도메인 ID
+     * @param token     새 FCM 토큰
+     * @return 기록되었으면 true, 버퍼가 가득 차 새 유저를 받을 수 없으면 false
+     */
+    public boolean offer(Long userId, String token) {
+        if (pending.size() >= properties.getMaxPending() && !pending.containsKey(userId)) {
+            rejectedCounter.increment();
+            return false;
+        }
+        pending.put(userId, token);
+        return true;
+    }
+
+    /**
+     * 아직 반영되지 않은 토큰 조회
+     *
+     * @param userId 유저 도메인 ID
+     * @return 대기 중인 토큰 (없으면 빈 값)
+     */
+    public Optional<String> get(Long userId) {
+        return Optional.ofNullable(pending.get(userId));
+    }
+
+    /**
+     * 대기 중인 변경 폐기 (진행 중인 반영이 끝날 때까지 대기)
+     *
+     * @param userId 유저 도메인 ID
+     * @return 폐기한 변경이 있었으면 true
+     */
+    public boolean discard(Long userId) {
+        flushLock.lock();
+        try {
+            return pending.remove(userId) != null;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 변경을 최대 batchSize건씩 writer로 반영하고, 반영된 항목을 버퍼에서 제거
+     * 배치 반영이 실패하면 한 건씩 다시 반영
+     * - 데이터 무결성 위반(컬럼 길이 초과 등)으로 실패한 항목은 다시 시도해도 실패하므로 버림
+     * - 그 외 오류(DB 장애 등)로 실패하면 남은 항목을 버퍼에 두고 다음 반영 때 다시 시도
+     * 한 배치가 실패해도 나머지 배치 반영은 계속 진행
+     *
+     * @param batchSize 한 번에 반영할 최대 건수
+     * @param writer    (userId, token) 목록을 DB에 반영하는 함수
+     * @return 반영한 건수
+     */
+    public int flush(int batchSize, Consumer<List<Map.Entry<Long, String>>> writer) {
+        flushLock.lock();
+        try {
+            int flushed = 0;
+            List<Map.Entry<Long, String>> batch = new ArrayList<>(batchSize);
+            for (Map.Entry<Long, String> entry : pending.entrySet()) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+                if (batch.size() == batchSize) {
+                    flushed += write(batch, writer);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushed += write(batch, writer);
+            }
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int write(List<Map.Entry<Long, String>> batch, Consumer<List<Map.Entry<Long, String>>> writer) {
+        try {
+            writer.accept(batch);
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                dropIfInvalid(batch.get(0), ex);
+                return 0;
+            }
+            log.warn("{}: identifierType=fcmTokenWriteBehind, identifierValue=batch of {}, retrying row by row",
+                    ErrorCode.DB_SAVE_FAILURE.getMessage(), batch.size(), ex);
+            return writeRowByRow(batch, writer);
+        }
+        // 반영한 값과 같을 때만 제거 (반영 중 더 새로운 값이 들어왔으면 유지)
+        batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        return batch.size();
+    }
+
+    /**
+     * 실패한 배치를 한 건씩 반영 (데이터 무결성 위반 외의 오류가 나면 남은 항목은 다음 반영으로 미룸)
+     */
+    private int writeRowByRow(List<Map.Entry<Long, String>> batch, Consumer<List<Map.Entry<Long, String>>> writer) {
+        int flushed = 0;
+        for (Map.Entry<Long, String> entry : batch) {
+            try {
+                writer.accept(List.of(entry));
+                pending.remove(entry.getKey(), entry.getValue());
+                flushed++;
+            } catch (RuntimeException ex) {
+                if (!dropIfInvalid(entry, ex)) {
+                    break;
+                }
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * 한 건 반영 실패 처리: 데이터 무결성 위반이면 버리고 true, 그 외 오류면 버퍼에 남기고 false
+     */
+    private boolean dropIfInvalid(Map.Entry<Long, String> entry, RuntimeException ex) {
+        if (ex instanceof DataIntegrityViolationException) {
+            pending.remove(entry.getKey(), entry.getValue());
+            droppedCounter.increment();
+            log.error("{}: identifierType=userId, identifierValue={}, dropping invalid buffered token",
+                    ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(entry.getKey()), ex);
+            return true;
+        }
+        log.error("{}: identifierType=userId, identifierValue={}, keeping buffered token for next flush",
+                ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(entry.getKey()), ex);
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+package ready_to_marry.userservice.fcm.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.fcm.config.CoupleFcmTokenCacheProperties;
+import ready_to_marry.userservice.fcm.config.FcmTokenCacheProperties;
+import ready_to_marry.userservice.fcm.dto.response.CoupleFcmTokenResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 커플 ID → 구성원별 FCM 토큰 목록을 보관하는 노드 로컬 캐시
+ *
+ * - 크기 제한 + TTL 기반 Caffeine 캐시 (구성원이 있는 커플만 캐싱)
+ * - 커플 연결/해제 시 Redis Pub/Sub(couple-fcm-token-cache 채널)으로 모든 노드에 커플 단위 무효화 메시지 전파
+ * - 토큰 변경은 FcmTokenCache가 발행하는 유저 단위 무효화 메시지를 함께 구독해, 유저 ID → 커플 ID 색인으로 찾은 커플 항목만 무효화
+ * - 조회는 커플 단위로 한 번만 수행(Caffeine 원자적 계산)하고, 조회 도중 들어온 같은 커플의 무효화는 조회가 끝난 뒤 적용되어 변경 전 값이 남지 않음
+ * - 적중/미적중 통계는 Micrometer(cache.gets 등, cache=coupleFcmTokenCache)로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoupleFcmTokenCache implements MessageListener {
+    private static final String CACHE_NAME = "coupleFcmTokenCache";
+
+    // 조회 도중 구성원 토큰이 바뀐 경우를 가려내기 위해 토큰 변경 시각을 보관하는 시간 (DB 조회 제한 시간보다 충분히 길게)
+    private static final Duration TOKEN_CHANGE_GUARD = Duration.ofSeconds(30);
+
+    private final CoupleFcmTokenCacheProperties properties;
+    private final FcmTokenCacheProperties fcmTokenCacheProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<UUID, List<CoupleFcmTokenResponse>> cache;
+
+    // 유저 ID → 캐싱된 커플 ID (토큰 변경 시 해당 커플 항목만 찾기 위한 색인, 커플 항목보다 늦게 만료되도록 크기 제한 없이 TTL로만 정리)
+    private Cache<Long, UUID> members;
+
+    // 유저 ID → 마지막 토큰 변경 시각 (System.nanoTime, 색인에 기록되기 전의 조회 도중 바뀐 토큰을 가려냄)
+    private Cache<Long, Long> tokenChangedAt;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.members = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl().plus(TOKEN_CHANGE_GUARD))
+                .build();
+        this.tokenChangedAt = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize() * 10)
+                .expireAfterWrite(TOKEN_CHANGE_GUARD)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(properties.getInvalidationChannel()),
+                new ChannelTopic(fcmTokenCacheProperties.getInvalidationChannel())));
+    }
+
+    /**
+     * 캐시에서 커플 구성원별 FCM 토큰 조회, 미적중 시 loader로 조회 후 캐싱
+     *
+     * @param coupleId  커플 ID
+     * @param loader    캐시 미적중 시 구성원별 토큰을 조회할 함수 (커플이 없으면 빈 목록 반환)
+     * @return 구성원별 FCM 토큰 목록 (커플이 없으면 빈 목록)
+     */
+    public List<CoupleFcmTokenResponse> get(UUID coupleId, Function<UUID, List<CoupleFcmTokenResponse>> loader) {
+        List<CoupleFcmTokenResponse> cached = cache.getIfPresent(coupleId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 같은 커플의 조회는 한 번만 수행 (조회 도중 들어온 같은 커플의 무효화는 조회가 끝날 때까지 기다렸다가 적용됨)
+        AtomicReference<List<CoupleFcmTokenResponse>> loaded = new AtomicReference<>(List.of());
+        List<CoupleFcmTokenResponse> tokens = cache.get(coupleId, key -> {
+            long startedAt = System.nanoTime();
+            List<CoupleFcmTokenResponse> result = List.copyOf(loader.apply(key));
+            loaded.set(result);
+            if (result.isEmpty()) {
+                return null;
+            }
+
+            // 1) 색인을 먼저 기록 (이후 도착하는 토큰 변경은 색인으로 이 커플을 찾아 무효화)
+            result.forEach(member -> members.put(member.getUserId(), key));
+
+            // 2) 색인 기록 전, 조회 도중 구성원의 토큰이 바뀌었으면 캐싱하지 않음
+            boolean changed = result.stream().anyMatch(member -> {
+                Long changedAt = tokenChangedAt.getIfPresent(member.getUserId());
+                return changedAt != null && changedAt - startedAt >= 0;
+            });
+            return changed ? null : result;
+        });
+        return tokens != null ? tokens : loaded.get();
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 모든 노드에서 해당 커플의 캐시 항목 무효화
+     * 트랜잭션이 없으면 즉시 무효화
+     *
+     * @param coupleId 무효화할 커플 ID
+     */
+    public void evictAfterCommit(UUID coupleId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(coupleId);
+                }
+            });
+        } else {
+            evict(coupleId);
+        }
+    }
+
+    /**
+     * 다른 노드(및 자기 자신)가 발행한 무효화 메시지 수신
+     * 메시지 본문: 커플 ID(couple-fcm-token-cache 채널) 또는 유저 도메인 ID(fcm-token-cache 채널)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        try {
+            if (channel.equals(properties.getInvalidationChannel())) {
+                invalidateLocal(UUID.fromString(body));
+            } else {
+                invalidateMember(Long.valueOf(body));
+            }
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignored malformed couple fcm token cache invalidation message: channel={}", channel);
+        }
+    }
+
+    private void evict(UUID coupleId) {
+        // 1) 로컬 캐시 즉시 무효화
+        invalidateLocal(coupleId);
+
+        // 2) 다른 노드에 무효화 메시지 전파 (실패 시 TTL 만료로 정합성 회복)
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), coupleId.toString());
+        } catch (DataAccessException ex) {
+            log.warn("System error occurred while publishing couple fcm token cache invalidation: identifierType=coupleId, identifierValue={}",
+                    MaskingUtils.maskCoupleId(coupleId), ex);
+        }
+    }
+
+    private void invalidateLocal(UUID coupleId) {
+        cache.invalidate(coupleId);
+    }
+
+    private void invalidateMember(Long userId) {
+        // 1) 토큰 변경 시각 기록 (색인에 기록되기 전인 조회가 변경 전 토큰을 캐싱하지 않도록)
+        tokenChangedAt.put(userId, System.nanoTime());
+
+        // 2) 색인으로 찾은 커플 항목만 무효화
+        UUID coupleId = members.getIfPresent(userId);
+        if (coupleId != null) {
+            invalidateLocal(coupleId);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package ready_to_marry.userservice.fcm.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.fcm.config.FcmTokenCacheProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 유저 ID → FCM 토큰을 보관하는 2단계 조회 캐시 (로컬 Caffeine → Redis → DB)
+ *
+ * - 토큰이 없다는 결과도 빈 문자열로 캐싱 (Redis는 negativeTtl로 짧게 보관)
+ * - DB 조회 결과는 Redis에 SET NX로만 채워, 동시에 커밋된 변경을 오래된 값으로 덮어쓰지 않음
+ * - 토큰 저장/삭제 시 커밋 이후 Redis에 새 값을 덮어쓰고, Redis Pub/Sub으로 모든 노드의 로컬 항목 무효화
+ * - 계층별 적중/미적중 건수와 지연 시간은 Micrometer(fcm.token.cache.lookup{tier=local|redis|db, result=hit|miss})로,
+ *   로컬 캐시 통계는 cache.gets 등(cache=fcmTokenCache)으로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenCache implements MessageListener {
+    private static final String CACHE_NAME = "fcmTokenCache";
+    private static final String KEY_PREFIX = "fcm:token:";
+
+    // 토큰이 없다는 결과를 나타내는 캐시 값
+    private static final String NO_TOKEN = "";
+
+    // 조회 도중 무효화된 값을 가려내기 위해 유저별 무효화 시각을 보관하는 시간 (Redis·DB 조회 제한 시간보다 충분히 길게)
+    private static final Duration INVALIDATION_GUARD = Duration.ofSeconds(30);
+
+    private final FcmTokenCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<Long, String> cache;
+
+    // 유저 ID → 마지막 무효화 시각 (System.nanoTime, 같은 유저의 조회 도중 무효화된 값이 로컬에 다시 캐싱되는 것을 방지)
+    private Cache<Long, Long> invalidatedAt;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(INVALIDATION_GUARD)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getInvalidationChannel()));
+    }
+
+    /**
+     * FCM 토큰 조회 (로컬 → Redis → loader 순, 하위 계층에서 찾은 값은 상위 계층에 채움)
+     * Redis 장애 시 로그만 남기고 loader로 조회
+     *
+     * @param userId    유저 도메인 ID
+     * @param loader    모든 캐시 미적중 시 토큰을 조회할 함수 (토큰이 없으면 빈 값)
+     * @return FCM 토큰 (토큰이 없으면 빈 값)
+     */
+    public Optional<String> get(Long userId, Function<Long, Optional<String>> loader) {
+        // 1) 로컬 캐시
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            record(sample, "local", "hit");
+            return toToken(cached);
+        }
+        record(sample, "local", "miss");
+
+        long startedAt = System.nanoTime();
+
+        // 2) Redis 캐시
+        sample = Timer.start(meterRegistry);
+        try {
+            String shared = redisTemplate.opsForValue().get(generateKey(userId));
+            record(sample, "redis", shared != null ? "hit" : "miss");
+            if (shared != null) {
+                putLocal(userId, shared, startedAt);
+                return toToken(shared);
+            }
+        } catch (DataAccessException ex) {
+            record(sample, "redis", "error");
+            log.warn("System error occurred while retrieving fcm token cache from redis: identifierType=userId, identifierValue={}",
+                    MaskingUtils.maskUserId(userId), ex);
+        }
+
+        // 3) loader(DB) 조회 후 Redis(SET NX), 로컬 순으로 채움
+        sample = Timer.start(meterRegistry);
+        Optional<String> token = loader.apply(userId);
+        record(sample, "db", token.isPresent() ? "hit" : "miss");
+
+        String value = token.orElse(NO_TOKEN);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(generateKey(userId), value, ttlOf(value));
+        } catch (DataAccessException ex) {
+            log.warn("System error occurred while saving fcm token cache to redis: identifierType=userId, identifierValue={}",
+                    MaskingUtils.maskUserId(userId), ex);
+        }
+        putLocal(userId, value, startedAt);
+        return token;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 Redis 캐시를 새 값으로 덮어쓰고 모든 노드의 로컬 항목 무효화
+     * 트랜잭션이 없으면 즉시 반영
+     *
+     * @param userId    유저 도메인 ID
+     * @param token     새 FCM 토큰 (삭제된 경우 null)
+     */
+    public void updateAfterCommit(Long userId, String token) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(userId, token);
+                }
+            });
+        } else {
+            update(userId, token);
+        }
+    }
+
+    /**
+     * 다른 노드(및 자기 자신)가 발행한 무효화 메시지 수신
+     * 메시지 본문: 유저 도메인 ID
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(Long.valueOf(body.trim()));
+        } catch (NumberFormatException ex) {
+            log.warn("Ignored malformed fcm token cache invalidation message: channel={}", properties.getInvalidationChannel());
+        }
+    }
+
+    private void update(Long userId, String token) {
+        // 1) 로컬 캐시 즉시 무효화
+        invalidateLocal(userId);
+
+        // 2) Redis 캐시를 새 값으로 덮어쓰고 다른 노드에 무효화 메시지 전파 (실패 시 TTL 만료로 정합성 회복)
+        String value = token == null ? NO_TOKEN : token;
+        try {
+            redisTemplate.opsForValue().set(generateKey(userId), value, ttlOf(value));
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), String.valueOf(userId));
+        } catch (DataAccessException ex) {
+            log.warn("System error occurred while updating fcm token cache: identifierType=userId, identifierValue={}",
+                    MaskingUtils.maskUserId(userId), ex);
+        }
+    }
+
+    private void putLocal(Long userId, String value, long startedAt) {
+        // 조회 도중 같은 유저의 무효화가 발생하지 않은 경우에만 캐싱
+        // 저장 직후 다시 확인해, 확인과 저장 사이에 도착한 무효화가 저장 전 항목만 보고 지나친 경우에도 되돌림
+        if (invalidatedSince(userId, startedAt)) {
+            return;
+        }
+        cache.put(userId, value);
+        if (invalidatedSince(userId, startedAt)) {
+            cache.asMap().remove(userId, value);
+        }
+    }
+
+    private boolean invalidatedSince(Long userId, long startedAt) {
+        Long invalidated = invalidatedAt.getIfPresent(userId);
+        return invalidated != null && invalidated - startedAt >= 0;
+    }
+
+    private void invalidateLocal(Long userId) {
+        invalidatedAt.put(userId, System.nanoTime());
+        cache.invalidate(userId);
+    }
+
+    private Optional<String> toToken(String value) {
+        return NO_TOKEN.equals(value) ? Optional.empty() : Optional.of(value);
+    }
+
+    private Duration ttlOf(String value) {
+        return NO_TOKEN.equals(value) ? properties.getNegativeTtl() : properties.getRedisTtl();
+    }
+
+    private void record(Timer.Sample sample, String tier, String result) {
+        sample.stop(Timer.builder("fcm.token.cache.lookup")
+                .description("FCM token lookup latency per cache tier")
+                .tag("tier", tier)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private String generateKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,26 @@
+package ready_to_marry.userservice.fcm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 커플 ID → 구성원 FCM 토큰 로컬 캐시 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "couple-fcm-token-cache")
+public class CoupleFcmTokenCacheProperties {
+    // 캐시에 보관할 최대 커플 수
+    private long maximumSize = 10_000;
+
+    // 캐시 항목 TTL (저장 시점 기준)
+    private Duration ttl = Duration.ofMinutes(5);
+
+    // 커플 연결/해제 시 노드 간 캐시 무효화 메시지를 주고받을 Redis 채널
+    private String invalidationChannel = "couple-fcm-token-cache:invalidation";
+}
@@ -0,0 +1,22 @@
+package ready_to_marry.userservice.fcm.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * application.properties의 FCM 토큰 일괄 조회(INTERNAL API) 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "fcm-token-batch-lookup")
+public class FcmTokenBatchLookupProperties {
+    // 쿼리 한 번(user_id = ANY(?))에 조회할 최대 유저 수
+    @Positive
+    private int chunkSize = 1_000;
+}
@@ -0,0 +1,32 @@
+package ready_to_marry.userservice.fcm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 FCM 토큰 조회 캐시(로컬 + Redis) 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "fcm-token-cache")
+public class FcmTokenCacheProperties {
+    // 노드 로컬 캐시에 보관할 최대 항목 수
+    private long localMaximumSize = 50_000;
+
+    // 노드 로컬 캐시 항목 TTL (저장 시점 기준)
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    // Redis(공유) 캐시 항목 TTL
+    private Duration redisTtl = Duration.ofMinutes(30);
+
+    // 토큰이 없다는 결과(네거티브 캐시)의 Redis TTL
+    private Duration negativeTtl = Duration.ofMinutes(1);
+
+    // 노드 간 로컬 캐시 무효화 메시지를 주고받을 Redis 채널
+    private String invalidationChannel = "fcm-token-cache:invalidation";
+}
@@ -0,0 +1,29 @@
+package ready_to_marry.userservice.fcm.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 FCM 토큰 쓰기 지연(write-behind) 모드 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "fcm-token-write-behind")
+public class FcmTokenWriteBehindProperties {
+    // 쓰기 지연 모드 사용 여부 (false면 요청마다 즉시 upsert)
+    private boolean enabled = false;
+
+    // 버퍼를 DB에 반영하는 주기
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // 버퍼에 보관할 최대 유저 수 (가득 차면 새 유저는 즉시 upsert로 처리)
+    private int maxPending = 100_000;
+
+    // JDBC 배치 한 번에 반영할 최대 행 수
+    private int batchSize = 1_000;
+}
@@ -22,15 +22,15 @@ public class FcmTokenController {
      *
      * @param userId  게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
      * @param request FCM 토큰 등록/업데이트 요청 정보
-     * @return 성공 시 code=0, data=null
+     * @return 성공 시 code=0, data=null (기존 토큰과 같으면 message로 구분)
      */
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> saveOrUpdateFcmToken(@RequestHeader("X-User-Id") Long userId, @Valid @RequestBody FcmTokenCreateOrUpdateRequest request) {
-        fcmTokenService.saveOrUpdateToken(userId, request);
+        boolean changed = fcmTokenService.saveOrUpdateToken(userId, request);
 
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .code(0)
-                .message("FCM token created/updated successfully")
+                .message(changed ? "FCM token created/updated successfully" : "FCM token unchanged")
                 .data(null)
                 .build();
 
@@ -1,14 +1,28 @@
 package ready_to_marry.userservice.fcm.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ready_to_marry.userservice.common.dto.response.ApiResponse;
+import ready_to_marry.userservice.fcm.config.FcmTokenBatchLookupProperties;
+import ready_to_marry.userservice.fcm.dto.request.FcmTokenBatchLookupRequest;
+import ready_to_marry.userservice.fcm.dto.response.CoupleFcmTokenResponse;
 import ready_to_marry.userservice.fcm.service.FcmTokenService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * INTERNAL API 컨트롤러 - 유저 FCM 토큰 조회용
  */
@@ -17,6 +31,8 @@ import ready_to_marry.userservice.fcm.service.FcmTokenService;
 @RequiredArgsConstructor
 public class FcmTokenInternalController {
     private final FcmTokenService fcmTokenService;
+    private final ObjectMapper objectMapper;
+    private final FcmTokenBatchLookupProperties fcmTokenBatchLookupProperties;
 
     @GetMapping
     public ResponseEntity<ApiResponse<String>> getFcmToken(@RequestHeader("X-User-Id") Long userId) {
@@ -30,4 +46,83 @@ public class FcmTokenInternalController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 유저의 FCM 토큰 일괄 조회 (멀티캐스트 푸시용, 조회한 순서대로 응답 본문에 바로 기록)
+     * 첫 chunk는 응답을 시작하기 전에 조회하므로 DB 오류는 일반 오류 응답으로 처리되고,
+     * 스트리밍 도중 오류가 나면 JSON을 닫지 않고 연결을 끊어 잘린 응답이 성공으로 해석되지 않도록 함
+     *
+     * @param request 조회할 유저 도메인 ID 목록 (최대 50,000건)
+     * @return 성공 시 code=0, data={"tokens": {userId: token, ...}, "missing": [토큰이 없는 userId, ...]}
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> getFcmTokens(@Valid @RequestBody FcmTokenBatchLookupRequest request) {
+        // 중복 userId 제거 (요청 순서 유지) 후 첫 chunk를 미리 조회
+        List<Long> userIds = new ArrayList<>(new LinkedHashSet<>(request.getUserIds()));
+        int firstChunkSize = Math.min(userIds.size(), fcmTokenBatchLookupProperties.getChunkSize());
+        Map<Long, String> firstTokens = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        fcmTokenService.findInternalFcmTokens(userIds.subList(0, firstChunkSize), firstTokens::put, missing::add);
+        List<Long> remaining = userIds.subList(firstChunkSize, userIds.size());
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // 오류로 닫힐 때 열린 객체를 자동으로 닫아 유효한(잘린) JSON이 되지 않도록 함
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+                generator.writeStartObject();
+                generator.writeNumberField("code", 0);
+                generator.writeStringField("message", "FCM tokens retrieved successfully");
+                generator.writeObjectFieldStart("data");
+
+                // 토큰은 조회되는 대로 기록하고, 토큰이 없는 유저 ID만 모아 마지막에 기록
+                generator.writeObjectFieldStart("tokens");
+                for (Map.Entry<Long, String> entry : firstTokens.entrySet()) {
+                    generator.writeStringField(String.valueOf(entry.getKey()), entry.getValue());
+                }
+                fcmTokenService.findInternalFcmTokens(remaining,
+                        (userId, token) -> {
+                            try {
+                                generator.writeStringField(String.valueOf(userId), token);
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        },
+                        missing::add);
+                generator.writeEndObject();
+
+                generator.writeArrayFieldStart("missing");
+                for (Long userId : missing) {
+                    generator.writeNumber(userId);
+                }
+                generator.writeEndArray();
+
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 커플 구성원 전체의 FCM 토큰 조회 (파트너 알림용, 구성원 조회와 토큰 조회를 한 번에 처리)
+     *
+     * @param coupleId 커플 ID
+     * @return 성공 시 code=0, data=구성원별 userId와 토큰 목록 (토큰이 없는 구성원은 token=null)
+     */
+    @GetMapping("/couples/{coupleId}")
+    public ResponseEntity<ApiResponse<List<CoupleFcmTokenResponse>>> getCoupleFcmTokens(@PathVariable UUID coupleId) {
+        List<CoupleFcmTokenResponse> tokens = fcmTokenService.getInternalCoupleFcmTokens(coupleId);
+
+        ApiResponse<List<CoupleFcmTokenResponse>> response = ApiResponse.<List<CoupleFcmTokenResponse>>builder()
+                .code(0)
+                .message("Couple FCM tokens retrieved successfully")
+                .data(tokens)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
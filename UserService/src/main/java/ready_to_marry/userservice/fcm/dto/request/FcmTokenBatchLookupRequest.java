@@ -0,0 +1,26 @@
+package ready_to_marry.userservice.fcm.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * INTERNAL API - 여러 유저의 FCM 토큰 일괄 조회 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FcmTokenBatchLookupRequest {
+    // 한 번에 조회할 수 있는 최대 유저 수
+    public static final int MAX_USER_IDS = 50_000;
+
+    // 조회할 유저 도메인 ID 목록 (중복은 한 번만 조회)
+    @NotEmpty
+    @Size(max = MAX_USER_IDS)
+    private List<@NotNull Long> userIds;
+}
@@ -1,6 +1,7 @@
 package ready_to_marry.userservice.fcm.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 /**
@@ -14,5 +15,6 @@ import lombok.*;
 public class FcmTokenCreateOrUpdateRequest {
     // FCM 토큰 문자열
     @NotBlank
+    @Size(max = 255)
     private String token;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package ready_to_marry.userservice.fcm.dto.response;
+
+import lombok.*;
+
+/**
+ * INTERNAL API - 커플 구성원별 FCM 토큰 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoupleFcmTokenResponse {
+    // 유저 도메인 ID
+    private Long userId;
+
+    // FCM 토큰 문자열 (등록된 토큰이 없으면 null)
+    private String token;
+}
@@ -0,0 +1,90 @@
+package ready_to_marry.userservice.fcm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import ready_to_marry.userservice.fcm.dto.response.CoupleFcmTokenResponse;
+
+import java.sql.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * FcmToken 일괄 조회/반영용 JDBC 레포지토리
+ *
+ * 유저 ID 목록을 배열 파라미터 하나로 바인딩해 IN 목록 길이와 무관하게 같은 PreparedStatement를 재사용하고,
+ * 결과는 엔티티로 만들지 않고 행 단위로 바로 전달
+ */
+@Repository
+@RequiredArgsConstructor
+public class FcmTokenJdbcRepository {
+    private static final String SELECT_BY_USER_IDS_SQL = """
+            SELECT user_id, fcm_token
+            FROM fcm_token
+            WHERE user_id = ANY(?)
+            """;
+
+    // user_profile.couple_id 인덱스(idx_user_profile_couple_id)로 구성원을 찾고 토큰은 PK로 조인 (토큰이 없는 구성원도 포함)
+    private static final String SELECT_BY_COUPLE_ID_SQL = """
+            SELECT p.user_id, t.fcm_token
+            FROM user_profile p
+            LEFT JOIN fcm_token t ON t.user_id = p.user_id
+            WHERE p.couple_id = ?
+            ORDER BY p.user_id
+            """;
+
+    // 기존 토큰과 같으면 행을 건드리지 않음 (FcmTokenRepository.upsert와 동일)
+    private static final String UPSERT_SQL = """
+            INSERT INTO fcm_token (user_id, fcm_token, created_at, updated_at)
+            VALUES (?, ?, now(), now())
+            ON CONFLICT (user_id) DO UPDATE
+            SET fcm_token = EXCLUDED.fcm_token, updated_at = now()
+            WHERE fcm_token.fcm_token IS DISTINCT FROM EXCLUDED.fcm_token
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 유저 ID 목록에 해당하는 FCM 토큰을 한 번의 쿼리로 조회
+     *
+     * @param userIds   조회할 유저 도메인 ID 목록
+     * @param consumer  조회된 행마다 (userId, token)으로 호출
+     */
+    public void findTokens(Collection<Long> userIds, BiConsumer<Long, String> consumer) {
+        jdbcTemplate.query(SELECT_BY_USER_IDS_SQL,
+                ps -> {
+                    Array array = ps.getConnection().createArrayOf("bigint", userIds.toArray());
+                    ps.setArray(1, array);
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getString(2)));
+    }
+
+    /**
+     * 커플 구성원별 FCM 토큰을 user_profile과 fcm_token 조인 쿼리 한 번으로 조회
+     *
+     * @param coupleId  커플 ID
+     * @return 구성원별 FCM 토큰 목록 (토큰이 없는 구성원은 token=null, 커플이 없으면 빈 목록)
+     */
+    public List<CoupleFcmTokenResponse> findTokensByCoupleId(UUID coupleId) {
+        return jdbcTemplate.query(SELECT_BY_COUPLE_ID_SQL,
+                (rs, rowNum) -> new CoupleFcmTokenResponse(rs.getLong(1), rs.getString(2)),
+                coupleId);
+    }
+
+    /**
+     * (userId, token) 목록을 JDBC 배치 upsert로 반영
+     *
+     * @param tokens    반영할 (userId, token) 목록
+     * @return 행별 반영 건수 (등록 또는 변경 시 1, 기존 토큰과 같으면 0)
+     */
+    public int[] batchUpsert(List<Map.Entry<Long, String>> tokens) {
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, tokens, tokens.size(), (ps, token) -> {
+            ps.setLong(1, token.getKey());
+            ps.setString(2, token.getValue());
+        })[0];
+    }
+}
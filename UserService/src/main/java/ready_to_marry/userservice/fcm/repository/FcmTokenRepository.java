@@ -1,7 +1,11 @@
 package ready_to_marry.userservice.fcm.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import ready_to_marry.userservice.fcm.entity.FcmToken;
 
 /**
@@ -9,5 +13,19 @@ import ready_to_marry.userservice.fcm.entity.FcmToken;
  */
 @Repository
 public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
-
+    /**
+     * FCM 토큰 등록 또는 변경 (한 문장으로 처리, 기존 토큰과 같으면 행을 건드리지 않아 updated_at 유지)
+     *
+     * @param userId    유저 도메인 ID
+     * @param token     FCM 토큰 문자열
+     * @return 등록 또는 변경된 건수 (토큰이 같아 변경이 없으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO fcm_token (user_id, fcm_token, created_at, updated_at) " +
+            "VALUES (:userId, :token, now(), now()) " +
+            "ON CONFLICT (user_id) DO UPDATE " +
+            "SET fcm_token = EXCLUDED.fcm_token, updated_at = now() " +
+            "WHERE fcm_token.fcm_token IS DISTINCT FROM EXCLUDED.fcm_token", nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("token") String token);
 }
\ No newline at end of file
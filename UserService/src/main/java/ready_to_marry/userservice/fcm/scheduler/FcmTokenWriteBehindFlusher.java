@@ -0,0 +1,75 @@
+package ready_to_marry.userservice.fcm.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ready_to_marry.userservice.fcm.buffer.FcmTokenWriteBuffer;
+import ready_to_marry.userservice.fcm.cache.FcmTokenCache;
+import ready_to_marry.userservice.fcm.config.FcmTokenWriteBehindProperties;
+import ready_to_marry.userservice.fcm.repository.FcmTokenJdbcRepository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 지연 버퍼에 모인 FCM 토큰 변경을 주기적으로 JDBC 배치 upsert로 반영하는 백그라운드 작업
+ * - 반영에 실패한 배치는 한 건씩 다시 반영하고, 잘못된 항목만 버린 뒤 나머지는 다음 주기에 재시도 (FcmTokenWriteBuffer 참고)
+ * - 종료 시 남은 변경을 모두 반영
+ * - 반영된 행 수는 Micrometer(fcm.token.write_behind.flushed{result=changed|unchanged})로 노출
+ */
+@Component
+@ConditionalOnProperty(prefix = "fcm-token-write-behind", name = "enabled", havingValue = "true")
+public class FcmTokenWriteBehindFlusher {
+    private final FcmTokenWriteBuffer fcmTokenWriteBuffer;
+    private final FcmTokenJdbcRepository fcmTokenJdbcRepository;
+    private final FcmTokenCache fcmTokenCache;
+    private final FcmTokenWriteBehindProperties properties;
+    private final Counter changedCounter;
+    private final Counter unchangedCounter;
+
+    public FcmTokenWriteBehindFlusher(FcmTokenWriteBuffer fcmTokenWriteBuffer,
+                                      FcmTokenJdbcRepository fcmTokenJdbcRepository,
+                                      FcmTokenCache fcmTokenCache,
+                                      FcmTokenWriteBehindProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.fcmTokenWriteBuffer = fcmTokenWriteBuffer;
+        this.fcmTokenJdbcRepository = fcmTokenJdbcRepository;
+        this.fcmTokenCache = fcmTokenCache;
+        this.properties = properties;
+        this.changedCounter = meterRegistry.counter("fcm.token.write_behind.flushed", "result", "changed");
+        this.unchangedCounter = meterRegistry.counter("fcm.token.write_behind.flushed", "result", "unchanged");
+    }
+
+    @Scheduled(fixedDelayString = "#{@fcmTokenWriteBehindProperties.flushInterval.toMillis()}")
+    public void flush() {
+        fcmTokenWriteBuffer.flush(properties.getBatchSize(), this::write);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 배치 한 번 반영
+     * 1) JDBC 배치 upsert (기존 토큰과 같은 행은 변경하지 않음)
+     * 2) 변경된 유저의 조회 캐시 갱신 (드라이버가 행별 건수를 알려주지 않으면 변경된 것으로 간주)
+     */
+    private void write(List<Map.Entry<Long, String>> batch) {
+        // 1) JDBC 배치 upsert
+        int[] counts = fcmTokenJdbcRepository.batchUpsert(batch);
+
+        // 2) 변경된 유저의 조회 캐시 갱신
+        for (int i = 0; i < batch.size(); i++) {
+            if (counts[i] == 0) {
+                unchangedCounter.increment();
+                continue;
+            }
+            changedCounter.increment();
+            fcmTokenCache.updateAfterCommit(batch.get(i).getKey(), batch.get(i).getValue());
+        }
+    }
+}
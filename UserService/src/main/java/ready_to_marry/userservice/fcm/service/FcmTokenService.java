@@ -3,6 +3,12 @@ package ready_to_marry.userservice.fcm.service;
 import jakarta.persistence.EntityNotFoundException;
 import ready_to_marry.userservice.common.exception.InfrastructureException;
 import ready_to_marry.userservice.fcm.dto.request.FcmTokenCreateOrUpdateRequest;
+import ready_to_marry.userservice.fcm.dto.response.CoupleFcmTokenResponse;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * 유저 FCM 토큰 도메인의 비즈니스 로직을 제공하는 서비스 인터페이스
@@ -10,24 +16,27 @@ import ready_to_marry.userservice.fcm.dto.request.FcmTokenCreateOrUpdateRequest;
 public interface FcmTokenService {
     /**
      * 현재 로그인한 유저의 FCM 토큰을 등록하거나, 이미 존재하면 업데이트
-     * 1) userId로 기존 FcmToken을 조회하거나 새 엔티티를 준비
-     * 1-1) 해당 userId의 토큰이 존재하는 경우
-     * 1-1-1) DB에 저장된 토큰과 요청으로 들어온 토큰이 다른 경우 → 업데이트
-     * 1-1-2) DB에 저장된 토큰과 요청 토큰이 동일한 경우
-     * 1-2) 해당 userId의 토큰이 존재하지 않는 경우 → 새로운 엔티티 생성
-     * 2) 저장 혹은 업데이트
+     * 1) 쓰기 지연 모드면 버퍼에 기록 (호출자 트랜잭션 안이면 즉시 반영)
+     * 1-1) 같은 토큰이 이미 대기 중인 경우 → 변경 없음
+     * 1-2) 버퍼에 기록된 경우 → 다음 반영 주기에 DB에 반영
+     * 1-3) 버퍼가 가득 찬 경우 → 즉시 반영
+     * 2) INSERT ... ON CONFLICT DO UPDATE 한 문장으로 등록 또는 변경 (기존 토큰과 같으면 변경하지 않음)
+     * 3) 변경된 경우 커밋 이후 조회 캐시 갱신
      *
      * @param userId                    X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param request                   유저의 FCM 토큰 등록/업데이트 요청 DTO
-     * @throws InfrastructureException  DB_RETRIEVE_FAILURE
+     * @return boolean                  등록 또는 변경되었으면(버퍼에 기록된 경우 포함) true, 기존 토큰과 같으면 false
      * @throws InfrastructureException  DB_SAVE_FAILURE
      */
-    void saveOrUpdateToken(Long userId, FcmTokenCreateOrUpdateRequest request);
+    boolean saveOrUpdateToken(Long userId, FcmTokenCreateOrUpdateRequest request);
 
     /**
      * 현재 로그인한 유저의 FCM 토큰을 삭제
-     * 1) userId로 기존 FcmToken을 조회
-     * 2) 삭제
+     * 1) 쓰기 지연 버퍼에 대기 중인 변경 폐기
+     * 2) userId로 기존 FcmToken을 조회
+     * 2-1) 버퍼에만 있던 토큰인 경우 → 삭제할 행 없음
+     * 3) 삭제
+     * 4) 커밋 이후 조회 캐시 갱신 (토큰 없음으로 기록)
      *
      * @param userId                    X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @throws EntityNotFoundException  본인의 등록된 FCM 토큰 정보가 존재하지 않는 경우
@@ -38,8 +47,9 @@ public interface FcmTokenService {
 
     /**
      * Internal API로 전달받은 userId로 해당 유저의 FCM 토큰을 조회
-     * 1) userId로 FcmToken 엔티티를 조회
-     * 2) 조회된 토큰(String) 반환
+     * 1) 쓰기 지연 버퍼에 대기 중인 토큰 조회
+     * 2) 캐시(로컬 → Redis)에서 조회, 모두 미적중이면 userId로 FcmToken 엔티티를 조회 (토큰 없음 결과도 캐싱)
+     * 3) 조회된 토큰(String) 반환
      *
      * @param userId                    X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @return String                   조회된 FCM 토큰 문자열
@@ -50,11 +60,47 @@ public interface FcmTokenService {
 
     /**
      * 현재 로그인한 유저의 FCM 토큰이 저장되어 있는지 확인
-     * 1) userId로 저장된 FcmToken이 존재하는지 확인
+     * 1) 쓰기 지연 버퍼에 대기 중이거나 userId로 저장된 FcmToken이 존재하는지 확인
      *
      * @param userId                    X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @return boolean                  토큰이 있으면 true, 없으면 false
      * @throws InfrastructureException  DB_RETRIEVE_FAILURE
      */
     boolean existsByUserId(Long userId);
+
+    /**
+     * 쓰기 지연 버퍼에 아직 DB에 반영되지 않은 FCM 토큰이 있는지 확인 (DB를 조회하지 않음)
+     * DB 조회 결과와 함께 푸시 허용 여부를 판단할 때 사용
+     *
+     * @param userId                    유저 도메인 ID
+     * @return boolean                  대기 중인 토큰이 있으면 true, 없으면 false
+     */
+    boolean hasPendingToken(Long userId);
+
+    /**
+     * Internal API로 전달받은 여러 유저의 FCM 토큰을 일괄 조회 (결과는 모아 두지 않고 콜백으로 바로 전달)
+     * 1) 중복 userId 제거 (요청 순서 유지)
+     * 2) chunkSize 단위로 user_id = ANY(?) 쿼리 한 번씩 조회해 토큰이 있는 유저 전달
+     * 3) 같은 chunk에서 조회되지 않은 유저를 토큰 없음으로 전달
+     * (쓰기 지연 버퍼에 대기 중인 유저는 대기 중인 토큰으로 전달)
+     *
+     * @param userIds                   조회할 유저 도메인 ID 목록
+     * @param onFound                   토큰이 있는 유저마다 (userId, token)으로 호출
+     * @param onMissing                 토큰이 없는 유저마다 userId로 호출
+     * @throws InfrastructureException  DB_RETRIEVE_FAILURE
+     */
+    void findInternalFcmTokens(List<Long> userIds, BiConsumer<Long, String> onFound, Consumer<Long> onMissing);
+
+    /**
+     * Internal API로 전달받은 coupleId로 커플 구성원별 FCM 토큰을 조회
+     * 1) 커플 캐시에서 조회, 미적중이면 user_profile과 fcm_token 조인 쿼리 한 번으로 조회 후 캐싱
+     * 2) 쓰기 지연 버퍼에 대기 중인 구성원 토큰 반영
+     * 3) 구성원이 없으면 예외 발생
+     *
+     * @param coupleId                      커플 ID
+     * @return List<CoupleFcmTokenResponse> 구성원별 FCM 토큰 목록 (토큰이 없는 구성원은 token=null)
+     * @throws EntityNotFoundException      해당 coupleId로 연결된 유저가 없는 경우
+     * @throws InfrastructureException      DB_RETRIEVE_FAILURE
+     */
+    List<CoupleFcmTokenResponse> getInternalCoupleFcmTokens(UUID coupleId);
 }
\ No newline at end of file
@@ -6,98 +6,137 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ready_to_marry.userservice.common.exception.ErrorCode;
 import ready_to_marry.userservice.common.exception.InfrastructureException;
 import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.fcm.buffer.FcmTokenWriteBuffer;
+import ready_to_marry.userservice.fcm.cache.CoupleFcmTokenCache;
+import ready_to_marry.userservice.fcm.cache.FcmTokenCache;
+import ready_to_marry.userservice.fcm.config.FcmTokenBatchLookupProperties;
+import ready_to_marry.userservice.fcm.config.FcmTokenWriteBehindProperties;
 import ready_to_marry.userservice.fcm.dto.request.FcmTokenCreateOrUpdateRequest;
+import ready_to_marry.userservice.fcm.dto.response.CoupleFcmTokenResponse;
 import ready_to_marry.userservice.fcm.entity.FcmToken;
+import ready_to_marry.userservice.fcm.repository.FcmTokenJdbcRepository;
 import ready_to_marry.userservice.fcm.repository.FcmTokenRepository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmTokenServiceImpl implements FcmTokenService {
     private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTokenJdbcRepository fcmTokenJdbcRepository;
+    private final FcmTokenCache fcmTokenCache;
+    private final CoupleFcmTokenCache coupleFcmTokenCache;
+    private final FcmTokenBatchLookupProperties fcmTokenBatchLookupProperties;
+    private final FcmTokenWriteBuffer fcmTokenWriteBuffer;
+    private final FcmTokenWriteBehindProperties fcmTokenWriteBehindProperties;
 
     @Override
-    @Transactional
-    public void saveOrUpdateToken(Long userId, FcmTokenCreateOrUpdateRequest request) {
-        // 1) userId로 기존 FcmToken을 조회하거나 새 엔티티를 준비
-        FcmToken fcmToken;
-        try {
-            Optional<FcmToken> optional = fcmTokenRepository.findById(userId);
-
-            String token = request.getToken();
-
-            // 1-1) 해당 userId의 토큰이 존재하는 경우
-            if (optional.isPresent()) {
-                fcmToken = optional.get();
+    public boolean saveOrUpdateToken(Long userId, FcmTokenCreateOrUpdateRequest request) {
+        // 트랜잭션을 열지 않음: 쓰기 지연 모드에서는 DB 커넥션 없이 버퍼에만 기록 (upsert는 레포지토리 트랜잭션으로 실행)
+        String token = request.getToken();
 
-                // 1-1-1) DB에 저장된 토큰과 요청으로 들어온 토큰이 다른 경우 → 업데이트
-                if (!fcmToken.getToken().equals(token)) {
-                    fcmToken.setToken(token);
-                } else { // 1-1-2) DB에 저장된 토큰과 요청 토큰이 동일한 경우
-                    return;
-                }
-            } else { // 1-2) 해당 userId의 토큰이 존재하지 않는 경우 → 새로운 엔티티 생성
-                fcmToken = FcmToken.builder()
-                        .userId(userId)
-                        .token(token)
-                        .build();
+        // 1) 쓰기 지연 모드면 버퍼에 기록 (호출자 트랜잭션 안이면 롤백과 함께 되돌려지도록 즉시 반영)
+        if (fcmTokenWriteBehindProperties.isEnabled() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 1-1) 같은 토큰이 이미 대기 중인 경우 → 변경 없음
+            if (token.equals(fcmTokenWriteBuffer.get(userId).orElse(null))) {
+                return false;
             }
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
-            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+            // 1-2) 버퍼에 기록된 경우 → 다음 반영 주기에 DB에 반영
+            if (fcmTokenWriteBuffer.offer(userId, token)) {
+                return true;
+            }
+            // 1-3) 버퍼가 가득 찬 경우 → 즉시 반영 (요청 스레드가 DB 반영을 기다리는 것으로 유입 속도 제한)
         }
 
-        // 2) 저장 혹은 업데이트
+        // 2) 한 문장으로 등록 또는 변경 (기존 토큰과 같으면 변경하지 않음)
+        boolean changed;
         try {
-            fcmTokenRepository.save(fcmToken);
+            changed = fcmTokenRepository.upsert(userId, token) > 0;
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
+
+        // 3) 변경된 경우 커밋 이후 조회 캐시 갱신
+        if (changed) {
+            fcmTokenCache.updateAfterCommit(userId, token);
+        }
+        return changed;
     }
 
     @Override
     @Transactional
     public void deleteToken(Long userId) {
-        // 1) userId로 기존 FcmToken을 조회
-        FcmToken fcmToken;
+        // 1) 쓰기 지연 버퍼에 대기 중인 변경 폐기 (진행 중인 반영이 끝난 뒤 폐기되므로 삭제 후 되살아나지 않음)
+        boolean discarded = fcmTokenWriteBuffer.discard(userId);
+
+        // 2) userId로 기존 FcmToken을 조회
+        Optional<FcmToken> fcmToken;
         try {
-            fcmToken = fcmTokenRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        log.error("Fcm token not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
-                        return new EntityNotFoundException("Fcm token not found");
-                    });
+            fcmToken = fcmTokenRepository.findById(userId);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
             throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
         }
 
-        // 2) 삭제
+        if (fcmToken.isEmpty()) {
+            // 2-1) 버퍼에만 있던 토큰인 경우 → 삭제할 행 없음
+            if (discarded) {
+                fcmTokenCache.updateAfterCommit(userId, null);
+                return;
+            }
+            log.error("Fcm token not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
+            throw new EntityNotFoundException("Fcm token not found");
+        }
+
+        // 3) 삭제
         try {
-            fcmTokenRepository.delete(fcmToken);
+            fcmTokenRepository.delete(fcmToken.get());
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_DELETE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
             throw new InfrastructureException(ErrorCode.DB_DELETE_FAILURE, ex);
         }
+
+        // 4) 커밋 이후 조회 캐시 갱신 (토큰 없음으로 기록)
+        fcmTokenCache.updateAfterCommit(userId, null);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public String getInternalFcmToken(Long userId) {
-        // 1) userId로 FcmToken 엔티티를 조회
+        // 1) 쓰기 지연 버퍼에 대기 중인 토큰 조회
+        Optional<String> pending = fcmTokenWriteBuffer.get(userId);
+        if (pending.isPresent()) {
+            return pending.get();
+        }
+
+        // 2) 캐시(로컬 → Redis)에서 조회, 모두 미적중이면 userId로 FcmToken 엔티티를 조회
+        return fcmTokenCache.get(userId, this::findToken)
+                // 3) 조회된 토큰(String) 반환
+                .orElseThrow(() -> {
+                    log.error("Fcm token not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
+                    return new EntityNotFoundException("Fcm token not found");
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByUserId(Long userId) {
+        // 1) 쓰기 지연 버퍼에 대기 중이거나 userId로 저장된 FcmToken이 존재하는지 확인
         try {
-            return fcmTokenRepository.findById(userId)
-                    // 2) 조회된 토큰(String) 반환
-                    .map(FcmToken::getToken)
-                    .orElseThrow(() -> {
-                        log.error("Fcm token not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
-                        return new EntityNotFoundException("Fcm token not found");
-                    });
+            return fcmTokenWriteBuffer.get(userId).isPresent() || fcmTokenRepository.existsById(userId);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
             throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
@@ -105,14 +144,82 @@ public class FcmTokenServiceImpl implements FcmTokenService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public boolean existsByUserId(Long userId) {
-        // 1) userId로 저장된 FcmToken이 존재하는지 확인
+    public boolean hasPendingToken(Long userId) {
+        // 1) 쓰기 지연 버퍼에 대기 중인 토큰이 있는지 확인
+        return fcmTokenWriteBuffer.get(userId).isPresent();
+    }
+
+    @Override
+    public void findInternalFcmTokens(List<Long> userIds, BiConsumer<Long, String> onFound, Consumer<Long> onMissing) {
+        // 1) 중복 userId 제거 (요청 순서 유지)
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(userIds));
+        int chunkSize = fcmTokenBatchLookupProperties.getChunkSize();
+
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+
+            // 2) chunk 단위로 한 번씩 조회해 토큰이 있는 유저 전달
+            Set<Long> found = new HashSet<>(chunk.size() * 2);
+            try {
+                fcmTokenJdbcRepository.findTokens(chunk, (userId, token) -> {
+                    found.add(userId);
+                    onFound.accept(userId, fcmTokenWriteBuffer.get(userId).orElse(token));
+                });
+            } catch (DataAccessException ex) {
+                log.error("{}: identifierType=userIds, identifierValue=chunk[{}..{}] of {}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(),
+                        from, from + chunk.size() - 1, distinct.size(), ex);
+                throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+            }
+
+            // 3) 조회되지 않은 유저를 토큰 없음으로 전달 (쓰기 지연 버퍼에 대기 중이면 그 토큰 전달)
+            for (Long userId : chunk) {
+                if (!found.contains(userId)) {
+                    Optional<String> pending = fcmTokenWriteBuffer.get(userId);
+                    if (pending.isPresent()) {
+                        onFound.accept(userId, pending.get());
+                    } else {
+                        onMissing.accept(userId);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<CoupleFcmTokenResponse> getInternalCoupleFcmTokens(UUID coupleId) {
+        // 1) 커플 캐시에서 조회, 미적중이면 조인 쿼리 한 번으로 조회 후 캐싱
+        List<CoupleFcmTokenResponse> tokens = coupleFcmTokenCache.get(coupleId, this::findCoupleTokens);
+
+        // 2) 쓰기 지연 버퍼에 대기 중인 구성원 토큰 반영 (캐시 항목은 변경하지 않음)
+        List<CoupleFcmTokenResponse> result = tokens.stream()
+                .map(member -> fcmTokenWriteBuffer.get(member.getUserId())
+                        .map(token -> new CoupleFcmTokenResponse(member.getUserId(), token))
+                        .orElse(member))
+                .toList();
+
+        // 3) 구성원이 없으면 예외 발생
+        if (result.isEmpty()) {
+            log.error("Couple not found: identifierType=coupleId, identifierValue={}", MaskingUtils.maskCoupleId(coupleId));
+            throw new EntityNotFoundException("Couple not found");
+        }
+        return result;
+    }
+
+    private Optional<String> findToken(Long userId) {
         try {
-            return fcmTokenRepository.existsById(userId);
+            return fcmTokenRepository.findById(userId).map(FcmToken::getToken);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
             throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
         }
     }
+
+    private List<CoupleFcmTokenResponse> findCoupleTokens(UUID coupleId) {
+        try {
+            return fcmTokenJdbcRepository.findTokensByCoupleId(coupleId);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+    }
 }
\ No newline at end of file
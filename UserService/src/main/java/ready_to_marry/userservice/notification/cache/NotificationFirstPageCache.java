@@ -0,0 +1,89 @@
+package ready_to_marry.userservice.notification.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ready_to_marry.userservice.notification.config.NotificationHistoryProperties;
+import ready_to_marry.userservice.notification.dto.response.NotificationHistoryResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 알림 목록 첫 페이지를 짧은 TTL로 보관하는 노드 로컬 캐시
+ *
+ * - 알림 탭 진입(커서 없는 첫 페이지 조회)이 대부분이므로 첫 페이지만 캐싱
+ * - 키: 유저 ID + 페이지 크기, 동일 키의 동시 미적중은 진행 중인 한 번의 비동기 조회로 합쳐짐 (실패한 조회는 캐싱하지 않음)
+ * - 응답 DTO는 변경 가능하므로 조회 결과의 복사본을 보관하고, 적중할 때마다 다시 복사해 반환 (호출 측 변경이 캐시에 남지 않음)
+ * - 적중/미적중 통계는 Micrometer(cache.gets 등, cache=notificationFirstPageCache)로 노출
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "notification.history", name = "client", havingValue = "async")
+public class NotificationFirstPageCache {
+    private static final String CACHE_NAME = "notificationFirstPageCache";
+
+    private final NotificationHistoryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private AsyncCache<String, List<NotificationHistoryResponse>> cache;
+
+    @PostConstruct
+    public void init() {
+        NotificationHistoryProperties.FirstPageCache config = properties.getFirstPageCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    /**
+     * 캐시에서 첫 페이지 조회, 미적중 시 loader로 비동기 조회 후 복사본을 캐싱
+     *
+     * @param userId    유저 도메인 ID
+     * @param size      페이지 크기
+     * @param loader    캐시 미적중 시 첫 페이지를 비동기로 조회할 함수
+     * @return 알림 목록 첫 페이지 (호출마다 새로 복사한 DTO 목록)
+     */
+    public CompletableFuture<List<NotificationHistoryResponse>> get(String userId, int size, Supplier<CompletableFuture<List<NotificationHistoryResponse>>> loader) {
+        return cache.get(key(userId, size), (k, executor) -> loader.get().thenApply(this::copyOf))
+                .thenApply(this::copyOf);
+    }
+
+    /**
+     * 해당 유저의 첫 페이지 캐시를 페이지 크기와 무관하게 모두 제거
+     *
+     * @param userId 유저 도메인 ID
+     */
+    public void evict(String userId) {
+        String prefix = userId + ":";
+        cache.synchronous().asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private List<NotificationHistoryResponse> copyOf(List<NotificationHistoryResponse> responses) {
+        return responses.stream()
+                .map(response -> NotificationHistoryResponse.builder()
+                        .createdAt(response.getCreatedAt())
+                        .title(response.getTitle())
+                        .message(response.getMessage())
+                        .amount(response.getAmount())
+                        .contractId(response.getContractId())
+                        .status(response.getStatus())
+                        .nextExclusiveStartKey(response.getNextExclusiveStartKey())
+                        .build())
+                .toList();
+    }
+
+    private String key(String userId, int size) {
+        return userId + ":" + size;
+    }
+}
@@ -0,0 +1,256 @@
+package ready_to_marry.userservice.notification.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 버전·타입 태그가 붙은 바이너리 커서 형식 변환기 (HMAC 서명 + URL-safe Base64)
+ *
+ * - 형식(v1): [version:1][count:1] { [nameLen:varint][name:UTF-8][type:1][valueLen:varint][value] } × count [hmac:16]
+ * - type: 1=S, 2=N, 3=B (N 타입 정렬 키도 그대로 왕복)
+ * - hmac: 앞선 모든 바이트에 대한 HMAC-SHA256의 앞 16바이트 (변조된 커서는 디코딩 실패)
+ * - 인코딩 시 최종 크기를 먼저 계산해 버퍼를 한 번만 할당하고, Mac은 스레드별로 재사용
+ * - 바이너리 형식 도입 이전에 발급된 JSON 커서("ey"로 시작)는 서명이 없으므로, legacy 변환기와 허용 기한을 명시한 경우에만 기한까지 디코딩
+ */
+@Slf4j
+public class BinaryExclusiveStartKeyCodec implements ExclusiveStartKeyCodec {
+    static final byte VERSION = 1;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 16;
+    private static final int MAX_ATTRIBUTES = 255;
+    private static final String LEGACY_JSON_PREFIX = "ey";
+
+    private static final byte TYPE_S = 1;
+    private static final byte TYPE_N = 2;
+    private static final byte TYPE_B = 3;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<byte[]> macScratch = ThreadLocal.withInitial(() -> new byte[32]);
+    private final ExclusiveStartKeyCodec legacyCodec;
+    private final Instant legacyAcceptedUntil;
+
+    /**
+     * 기존 형식 커서를 받지 않는 변환기 생성
+     *
+     * @param secret HMAC 서명 키
+     */
+    public BinaryExclusiveStartKeyCodec(byte[] secret) {
+        this(secret, null, null);
+    }
+
+    /**
+     * @param secret              HMAC 서명 키
+     * @param legacyCodec         기존 형식 커서 디코딩에 사용할 변환기 (null이면 기존 형식 미지원)
+     * @param legacyAcceptedUntil 기존 형식 커서를 받는 기한 (null이면 기존 형식 미지원)
+     */
+    public BinaryExclusiveStartKeyCodec(byte[] secret, ExclusiveStartKeyCodec legacyCodec, Instant legacyAcceptedUntil) {
+        if (secret == null || secret.length == 0) {
+            throw new IllegalArgumentException("HMAC secret must not be empty");
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(keySpec));
+        this.legacyCodec = legacyAcceptedUntil == null ? null : legacyCodec;
+        this.legacyAcceptedUntil = legacyAcceptedUntil;
+
+        // 잘못된 키/알고리즘은 기동 시점에 실패하도록 한 번 생성
+        macs.get();
+    }
+
+    @Override
+    public String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        try {
+            if (lastEvaluatedKey.size() > MAX_ATTRIBUTES) {
+                throw new IllegalArgumentException("too many key attributes: " + lastEvaluatedKey.size());
+            }
+
+            // 1) 각 속성의 이름/값 바이트와 최종 크기 계산
+            int count = lastEvaluatedKey.size();
+            byte[][] names = new byte[count][];
+            byte[][] values = new byte[count][];
+            byte[] types = new byte[count];
+            int size = 2;
+            int i = 0;
+            for (Map.Entry<String, AttributeValue> e : lastEvaluatedKey.entrySet()) {
+                AttributeValue v = e.getValue();
+                names[i] = e.getKey().getBytes(StandardCharsets.UTF_8);
+                if (v.s() != null) {
+                    types[i] = TYPE_S;
+                    values[i] = v.s().getBytes(StandardCharsets.UTF_8);
+                } else if (v.n() != null) {
+                    types[i] = TYPE_N;
+                    values[i] = v.n().getBytes(StandardCharsets.US_ASCII);
+                } else if (v.b() != null) {
+                    types[i] = TYPE_B;
+                    values[i] = v.b().asByteArrayUnsafe();
+                } else {
+                    throw new IllegalArgumentException("unsupported key attribute type: " + e.getKey());
+                }
+                size += varIntSize(names[i].length) + names[i].length + 1 + varIntSize(values[i].length) + values[i].length;
+                i++;
+            }
+
+            // 2) 버전, 개수, 속성들을 한 번 할당한 버퍼에 기록
+            byte[] buf = new byte[size + MAC_LENGTH];
+            int pos = 0;
+            buf[pos++] = VERSION;
+            buf[pos++] = (byte) count;
+            for (int k = 0; k < count; k++) {
+                pos = writeVarInt(buf, pos, names[k].length);
+                System.arraycopy(names[k], 0, buf, pos, names[k].length);
+                pos += names[k].length;
+                buf[pos++] = types[k];
+                pos = writeVarInt(buf, pos, values[k].length);
+                System.arraycopy(values[k], 0, buf, pos, values[k].length);
+                pos += values[k].length;
+            }
+
+            // 3) HMAC 서명(앞 16바이트)을 덧붙이고 URL-safe Base64로 인코딩
+            sign(buf, pos, buf, pos);
+            return ENCODER.encodeToString(buf);
+        } catch (RuntimeException | GeneralSecurityException ex) {
+            log.error("{}: identifierType=exclusiveStartKey, identifierValue={}", ErrorCode.EXCLUSIVE_KEY_ENCODING_FAILURE.getMessage(), MaskingUtils.maskExclusiveStartKey(lastEvaluatedKey.toString()), ex);
+            throw new InfrastructureException(ErrorCode.EXCLUSIVE_KEY_ENCODING_FAILURE, ex);
+        }
+    }
+
+    @Override
+    public Map<String, AttributeValue> decode(String cursor) {
+        // 기존 JSON 커서(Base64('{"...'))는 허용 기한까지만 legacy 변환기로 디코딩 (기한 이후에는 서명 검증에서 실패)
+        if (legacyCodec != null && cursor.startsWith(LEGACY_JSON_PREFIX) && Instant.now().isBefore(legacyAcceptedUntil)) {
+            return legacyCodec.decode(cursor);
+        }
+
+        try {
+            // 1) Base64 디코딩 및 최소 길이, 버전 확인
+            byte[] buf = DECODER.decode(cursor);
+            int payloadLength = buf.length - MAC_LENGTH;
+            if (payloadLength < 2) {
+                throw new IllegalArgumentException("cursor too short");
+            }
+            if (buf[0] != VERSION) {
+                throw new IllegalArgumentException("unsupported cursor version: " + buf[0]);
+            }
+
+            // 2) HMAC 서명 검증 (상수 시간 비교)
+            byte[] expected = new byte[MAC_LENGTH];
+            sign(buf, payloadLength, expected, 0);
+            if (!MessageDigest.isEqual(expected, Arrays.copyOfRange(buf, payloadLength, buf.length))) {
+                throw new IllegalArgumentException("cursor signature mismatch");
+            }
+
+            // 3) 속성들을 타입에 맞게 AttributeValue로 복원
+            int count = buf[1] & 0xFF;
+            Map<String, AttributeValue> key = new LinkedHashMap<>((int) (count / 0.75f) + 1);
+            int[] pos = {2};
+            for (int k = 0; k < count; k++) {
+                int nameLength = readLength(buf, pos, payloadLength);
+                String name = new String(buf, pos[0], nameLength, StandardCharsets.UTF_8);
+                pos[0] += nameLength;
+
+                if (pos[0] >= payloadLength) {
+                    throw new IllegalArgumentException("truncated cursor");
+                }
+                byte type = buf[pos[0]++];
+
+                int valueLength = readLength(buf, pos, payloadLength);
+                int valueStart = pos[0];
+                pos[0] += valueLength;
+
+                AttributeValue value = switch (type) {
+                    case TYPE_S -> AttributeValue.fromS(new String(buf, valueStart, valueLength, StandardCharsets.UTF_8));
+                    case TYPE_N -> AttributeValue.fromN(new String(buf, valueStart, valueLength, StandardCharsets.US_ASCII));
+                    case TYPE_B -> AttributeValue.fromB(SdkBytes.fromByteArray(Arrays.copyOfRange(buf, valueStart, valueStart + valueLength)));
+                    default -> throw new IllegalArgumentException("unknown attribute type: " + type);
+                };
+                key.put(name, value);
+            }
+            if (pos[0] != payloadLength) {
+                throw new IllegalArgumentException("trailing bytes in cursor");
+            }
+            return key;
+        } catch (RuntimeException | GeneralSecurityException ex) {
+            log.error("{}: identifierType=exclusiveStartKey, identifierValue={}", ErrorCode.EXCLUSIVE_KEY_DECODING_FAILURE.getMessage(), MaskingUtils.maskExclusiveStartKey(cursor), ex);
+            throw new InfrastructureException(ErrorCode.EXCLUSIVE_KEY_DECODING_FAILURE, ex);
+        }
+    }
+
+    /**
+     * buf[0, length)에 대한 HMAC-SHA256을 계산해 앞 16바이트를 out[offset, offset + 16)에 기록
+     */
+    private void sign(byte[] buf, int length, byte[] out, int offset) throws GeneralSecurityException {
+        Mac mac = macs.get();
+        byte[] scratch = macScratch.get();
+        mac.update(buf, 0, length);
+        mac.doFinal(scratch, 0);
+        System.arraycopy(scratch, 0, out, offset, MAC_LENGTH);
+    }
+
+    private static Mac newMac(SecretKeySpec keySpec) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to initialize " + HMAC_ALGORITHM, ex);
+        }
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * pos[0] 위치의 varint 길이를 읽고 pos[0]을 그 다음으로 이동 (길이만큼의 바이트가 limit 안에 있는지 검증)
+     */
+    private static int readLength(byte[] buf, int[] pos, int limit) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= limit || shift > 28) {
+                throw new IllegalArgumentException("malformed length");
+            }
+            byte b = buf[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+        if (value < 0 || value > limit - pos[0]) {
+            throw new IllegalArgumentException("truncated cursor");
+        }
+        return value;
+    }
+
+    private static int writeVarInt(byte[] buf, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+}
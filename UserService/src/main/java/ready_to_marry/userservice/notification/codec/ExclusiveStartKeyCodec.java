@@ -0,0 +1,29 @@
+package ready_to_marry.userservice.notification.codec;
+
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+
+/**
+ * DynamoDB LastEvaluatedKey ↔ 클라이언트 커서(nextExclusiveStartKey) 변환기
+ */
+public interface ExclusiveStartKeyCodec {
+    /**
+     * LastEvaluatedKey를 클라이언트에 전달할 커서 문자열로 인코딩
+     *
+     * @param lastEvaluatedKey DynamoDB Query 응답의 LastEvaluatedKey
+     * @return 커서 문자열
+     * @throws InfrastructureException EXCLUSIVE_KEY_ENCODING_FAILURE
+     */
+    String encode(Map<String, AttributeValue> lastEvaluatedKey);
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 ExclusiveStartKey로 디코딩
+     *
+     * @param cursor 커서 문자열
+     * @return DynamoDB Query 요청의 ExclusiveStartKey
+     * @throws InfrastructureException EXCLUSIVE_KEY_DECODING_FAILURE
+     */
+    Map<String, AttributeValue> decode(String cursor);
+}
@@ -0,0 +1,72 @@
+package ready_to_marry.userservice.notification.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 JSON 커서 형식 변환기 (Map<String, String> → JSON → Base64)
+ *
+ * - 값의 타입 정보가 없으므로 디코딩 시 모든 값을 S 타입으로 복원 (N/B 타입 키는 왕복 불가)
+ * - 바이너리 형식 도입 이전에 발급된 커서를 읽기 위한 하위 호환 용도로 유지
+ */
+@Slf4j
+public class JsonExclusiveStartKeyCodec implements ExclusiveStartKeyCodec {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * LastEvaluatedKey(Map<String, AttributeValue>)를 JSON으로 바꾸고 Base64 인코딩
+     */
+    @Override
+    public String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        try {
+            // AttributeValue 맵을 simpleMap(Map<String, String>)으로 바꾸자
+            Map<String, String> simpleMap = lastEvaluatedKey.entrySet().stream()
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            e -> {
+                                AttributeValue v = e.getValue();
+                                if (v.s() != null) return v.s();
+                                if (v.n() != null) return v.n();
+                                // (필요시 다른 타입 처리)
+                                return "";
+                            }
+                    ));
+            String json = objectMapper.writeValueAsString(simpleMap);
+            return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException ex) {
+            log.error("{}: identifierType=exclusiveStartKey, identifierValue={}", ErrorCode.EXCLUSIVE_KEY_ENCODING_FAILURE.getMessage(), MaskingUtils.maskExclusiveStartKey(lastEvaluatedKey.toString()), ex);
+            throw new InfrastructureException(ErrorCode.EXCLUSIVE_KEY_ENCODING_FAILURE, ex);
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 Base64(String) → JSON(Map<String, String>) → Map<String, AttributeValue> 역직렬화
+     */
+    @Override
+    public Map<String, AttributeValue> decode(String cursor) {
+        try {
+            byte[] decodedBytes = Base64.getDecoder().decode(cursor);
+            String json = new String(decodedBytes, StandardCharsets.UTF_8);
+            Map<String, String> simpleMap = objectMapper.readValue(json, new TypeReference<>() {});
+            return simpleMap.entrySet().stream()
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            e -> AttributeValue.fromS(e.getValue())
+                    ));
+        } catch (Exception ex) {
+            log.error("{}: identifierType=exclusiveStartKey, identifierValue={}", ErrorCode.EXCLUSIVE_KEY_DECODING_FAILURE.getMessage(), MaskingUtils.maskExclusiveStartKey(cursor), ex);
+            throw new InfrastructureException(ErrorCode.EXCLUSIVE_KEY_DECODING_FAILURE, ex);
+        }
+    }
+}
@@ -1,34 +1,66 @@
 package ready_to_marry.userservice.notification.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import ready_to_marry.userservice.common.config.AwsProperties;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 /**
- * AWS DynamoDB에 접근하기 위한 DynamoDbClient를 생성 및 설정하는 Configuration 클래스
+ * AWS DynamoDB에 접근하기 위한 DynamoDbClient / DynamoDbAsyncClient를 생성 및 설정하는 Configuration 클래스
  */
 @Configuration
 @RequiredArgsConstructor
 public class DynamoDbConfig {
     private final AwsProperties awsProperties;
+    private final NotificationHistoryProperties notificationHistoryProperties;
 
     @Bean
     public DynamoDbClient dynamoDbClient() {
         return DynamoDbClient.builder()
                 .region(Region.of(awsProperties.getRegion().getStaticRegion()))
-                .credentialsProvider(
-                        StaticCredentialsProvider.create(
-                                AwsBasicCredentials.create(
-                                        awsProperties.getCredentials().getAccessKey(),
-                                        awsProperties.getCredentials().getSecretKey()
-                                )
-                        )
-                )
+                .credentialsProvider(credentialsProvider())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * notification.history.client=async 인 경우에만 생성되는 비동기 클라이언트
+     * - Netty 기반 논블로킹 HTTP 클라이언트 + 커넥션 풀/타임아웃 튜닝
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "notification.history", name = "client", havingValue = "async")
+    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        NotificationHistoryProperties.Async async = notificationHistoryProperties.getAsync();
+
+        return DynamoDbAsyncClient.builder()
+                .region(Region.of(awsProperties.getRegion().getStaticRegion()))
+                .credentialsProvider(credentialsProvider())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(async.getMaxConcurrency())
+                        .connectionAcquisitionTimeout(async.getConnectionAcquisitionTimeout())
+                        .connectionTimeout(async.getConnectionTimeout())
+                        .readTimeout(async.getReadTimeout())
+                        .connectionMaxIdleTime(async.getConnectionMaxIdleTime())
+                        .tcpKeepAlive(true))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(async.getApiCallTimeout())
+                        .build())
+                .build();
+    }
+
+    private StaticCredentialsProvider credentialsProvider() {
+        return StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(
+                        awsProperties.getCredentials().getAccessKey(),
+                        awsProperties.getCredentials().getSecretKey()
+                )
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package ready_to_marry.userservice.notification.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ready_to_marry.userservice.notification.codec.BinaryExclusiveStartKeyCodec;
+import ready_to_marry.userservice.notification.codec.ExclusiveStartKeyCodec;
+import ready_to_marry.userservice.notification.codec.JsonExclusiveStartKeyCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 알림 목록 커서(nextExclusiveStartKey) 변환기를 설정된 형식에 맞게 생성하는 Configuration 클래스
+ *
+ * - binary: 타입 태그 + HMAC 서명 바이너리 형식 (legacy-json-accepted-until을 지정하면 그때까지 기존 JSON 커서도 디코딩)
+ * - json  : 기존 JSON 형식
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ExclusiveStartKeyCodecConfig {
+    private final NotificationHistoryProperties notificationHistoryProperties;
+
+    @Bean
+    public ExclusiveStartKeyCodec exclusiveStartKeyCodec() {
+        NotificationHistoryProperties.Cursor cursor = notificationHistoryProperties.getCursor();
+        JsonExclusiveStartKeyCodec jsonCodec = new JsonExclusiveStartKeyCodec();
+
+        if ("json".equalsIgnoreCase(cursor.getFormat())) {
+            return jsonCodec;
+        }
+
+        if (cursor.getHmacSecret() == null || cursor.getHmacSecret().isBlank()) {
+            throw new IllegalStateException("notification.history.cursor.hmac-secret must be set when cursor format is binary");
+        }
+        return new BinaryExclusiveStartKeyCodec(cursor.getHmacSecret().getBytes(StandardCharsets.UTF_8), jsonCodec, cursor.getLegacyJsonAcceptedUntil());
+    }
+}
@@ -0,0 +1,94 @@
+package ready_to_marry.userservice.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * application.properties의 알림 이력(DynamoDB) 조회 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "notification.history")
+public class NotificationHistoryProperties {
+    // 조회에 사용할 DynamoDB 클라이언트 종류 (sync: DynamoDbClient, async: DynamoDbAsyncClient)
+    private String client = "sync";
+
+    // 첫 페이지 캐시 설정 (async 클라이언트 사용 시에만 적용)
+    private FirstPageCache firstPageCache = new FirstPageCache();
+
+    // 비동기 클라이언트(Netty HTTP 클라이언트) 설정
+    private Async async = new Async();
+
+    // 클라이언트 커서(nextExclusiveStartKey) 형식 설정
+    private Cursor cursor = new Cursor();
+
+    // 유저별 알림 건수 카운터 설정
+    private Counter counter = new Counter();
+
+    @Getter
+    @Setter
+    public static class FirstPageCache {
+        // 캐시에 보관할 최대 항목 수 (유저 ID + 페이지 크기 단위)
+        private long maximumSize = 10_000;
+
+        // 캐시 항목 TTL (저장 시점 기준)
+        private Duration ttl = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Async {
+        // 동시에 열 수 있는 최대 커넥션(요청) 수
+        private int maxConcurrency = 100;
+
+        // 커넥션 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+        private Duration connectionAcquisitionTimeout = Duration.ofSeconds(2);
+
+        // TCP 연결 수립 제한 시간
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+        // 응답 읽기 제한 시간
+        private Duration readTimeout = Duration.ofSeconds(3);
+
+        // 유휴 커넥션을 풀에서 제거하기까지의 시간
+        private Duration connectionMaxIdleTime = Duration.ofSeconds(60);
+
+        // 재시도를 포함한 API 호출 전체 제한 시간
+        private Duration apiCallTimeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Cursor {
+        // 커서 형식 (binary: 타입 태그 + HMAC 서명 바이너리, json: 기존 JSON 형식)
+        private String format = "binary";
+
+        // binary 형식 커서의 HMAC 서명 키 (모든 노드가 같은 값을 사용해야 함)
+        private String hmacSecret;
+
+        // binary 형식 전환 전 발급된 서명 없는 JSON 커서를 받는 기한 (미설정 시 받지 않음, 전환 직후 한시적으로만 지정)
+        private Instant legacyJsonAcceptedUntil;
+    }
+
+    @Getter
+    @Setter
+    public static class Counter {
+        // 전체 알림 건수를 DynamoDB 건수(Select.COUNT)로 다시 맞추는 주기 (조회 시 마지막 보정 이후 이 시간이 지났으면 보정 요청)
+        private Duration reconcileInterval = Duration.ofDays(1);
+
+        // 보정 대기 목록 확인 주기
+        private Duration reconcilePollInterval = Duration.ofSeconds(5);
+
+        // 한 번에 보정 대기 목록에서 꺼낼 최대 유저 수
+        private int reconcileBatchSize = 50;
+
+        // 유저 단위 보정 락 유지 시간 (한 유저의 파티션을 세는 시간보다 길게)
+        private Duration reconcileLockTtl = Duration.ofMinutes(5);
+    }
+}
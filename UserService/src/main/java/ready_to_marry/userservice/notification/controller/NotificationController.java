@@ -7,10 +7,12 @@ import org.springframework.web.bind.annotation.*;
 import ready_to_marry.userservice.common.dto.response.ApiResponse;
 import ready_to_marry.userservice.common.dto.response.Meta;
 import ready_to_marry.userservice.notification.dto.request.DynamoPagingRequest;
+import ready_to_marry.userservice.notification.dto.response.NotificationCountResponse;
 import ready_to_marry.userservice.notification.dto.response.NotificationHistoryResponse;
 import ready_to_marry.userservice.notification.service.NotificationHistoryService;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 유저 알림 목록 조회 컨트롤러
@@ -22,24 +24,61 @@ public class NotificationController {
     private final NotificationHistoryService notificationHistoryService;
 
     /**
-     * 현재 로그인한 유저의 알림 목록 조회 (DynamoDB 커서 기반 페이징)
+     * 현재 로그인한 유저의 알림 목록 조회 (DynamoDB 커서 기반 페이징, 쿼리 완료를 비동기로 기다린 뒤 응답, 요청 스레드는 점유하지 않음)
      *
      * @param userId        게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
      * @param pagingRequest DynamoDB 커서 기반 페이징 요청 정보
      * @return 성공 시 code=0, data=유저의 알림 목록 정보
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<NotificationHistoryResponse>>> getMyNotifications(@RequestHeader("X-User-Id") String userId, @Valid @ModelAttribute DynamoPagingRequest pagingRequest) {
+    public CompletableFuture<ResponseEntity<ApiResponse<List<NotificationHistoryResponse>>>> getMyNotifications(@RequestHeader("X-User-Id") String userId, @Valid @ModelAttribute DynamoPagingRequest pagingRequest) {
         Meta meta = new Meta();
-        List<NotificationHistoryResponse> notifications = notificationHistoryService.getNotificationList(userId, pagingRequest, meta);
+        return notificationHistoryService.getNotificationList(userId, pagingRequest, meta).thenApply(notifications -> {
+            ApiResponse<List<NotificationHistoryResponse>> response = ApiResponse.<List<NotificationHistoryResponse>>builder()
+                    .code(0)
+                    .message("Notification list retrieved successfully")
+                    .data(notifications)
+                    .meta(meta)
+                    .build();
 
-        ApiResponse<List<NotificationHistoryResponse>> response = ApiResponse.<List<NotificationHistoryResponse>>builder()
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    /**
+     * 현재 로그인한 유저의 전체/읽지 않은 알림 건수 조회
+     *
+     * @param userId        게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @return 성공 시 code=0, data=전체/읽지 않은 알림 건수 정보
+     */
+    @GetMapping("/count")
+    public ResponseEntity<ApiResponse<NotificationCountResponse>> getMyNotificationCount(@RequestHeader("X-User-Id") String userId) {
+        NotificationCountResponse count = notificationHistoryService.getNotificationCount(userId);
+
+        ApiResponse<NotificationCountResponse> response = ApiResponse.<NotificationCountResponse>builder()
+                .code(0)
+                .message("Notification count retrieved successfully")
+                .data(count)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 현재 로그인한 유저의 알림 모두 읽음 처리
+     *
+     * @param userId        게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @return 성공 시 code=0
+     */
+    @PostMapping("/read-all")
+    public ResponseEntity<ApiResponse<Void>> markAllAsRead(@RequestHeader("X-User-Id") String userId) {
+        notificationHistoryService.markAllAsRead(userId);
+
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .code(0)
-                .message("Notification list retrieved successfully")
-                .data(notifications)
-                .meta(meta)
+                .message("All notifications marked as read successfully")
                 .build();
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package ready_to_marry.userservice.notification.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ready_to_marry.userservice.common.dto.response.ApiResponse;
+import ready_to_marry.userservice.notification.service.NotificationHistoryService;
+
+/**
+ * INTERNAL API 컨트롤러 - 유저 알림 건수 카운터 갱신용
+ */
+@RestController
+@RequestMapping("/internal/user-notifications")
+@RequiredArgsConstructor
+public class NotificationInternalController {
+    private final NotificationHistoryService notificationHistoryService;
+
+    /**
+     * 알림 1건 생성 반영 (알림을 DynamoDB에 기록한 서비스가 기록 직후 호출)
+     *
+     * @param userId 알림을 받은 유저 도메인 ID
+     * @return 성공 시 code=0
+     */
+    @PostMapping("/created")
+    public ResponseEntity<ApiResponse<Void>> recordNotificationCreated(@RequestHeader("X-User-Id") String userId) {
+        notificationHistoryService.recordNotificationCreated(userId);
+
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .code(0)
+                .message("Notification counter updated successfully")
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,22 @@
+package ready_to_marry.userservice.notification.dto;
+
+import lombok.*;
+
+/**
+ * Redis에 저장된 유저별 알림 건수 카운터 값
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationCounterRecord {
+    // 전체 알림 건수 (아직 DynamoDB 건수로 초기화되지 않았으면 null)
+    private Long totalCount;
+
+    // 읽지 않은 알림 건수
+    private long unreadCount;
+
+    // 전체 건수를 마지막으로 DynamoDB 건수와 맞춘 시각 (epoch ms, 없으면 null)
+    private Long reconciledAt;
+}
@@ -0,0 +1,19 @@
+package ready_to_marry.userservice.notification.dto.response;
+
+import lombok.*;
+
+/**
+ * 알림 건수 조회 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationCountResponse {
+    // 전체 알림 건수
+    private long totalCount;
+
+    // 읽지 않은 알림 건수
+    private long unreadCount;
+}
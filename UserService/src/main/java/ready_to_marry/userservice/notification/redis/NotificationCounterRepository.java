@@ -0,0 +1,84 @@
+package ready_to_marry.userservice.notification.redis;
+
+import ready_to_marry.userservice.notification.dto.NotificationCounterRecord;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 유저별 알림 건수 카운터 저장소 추상화 인터페이스
+ */
+public interface NotificationCounterRepository {
+    /**
+     * 알림 1건 생성 시 전체/읽지 않은 알림 건수를 원자적으로 1씩 증가
+     * 전체 건수가 아직 초기화되지 않았으면 읽지 않은 건수만 증가 (전체 건수는 백그라운드 보정 작업이 DynamoDB 건수로 초기화)
+     * 보정이 진행 중이면 보정 중 증가분도 함께 기록
+     *
+     * @param userId    유저 도메인 ID
+     */
+    void increment(String userId);
+
+    /**
+     * 전체/읽지 않은 알림 건수와 마지막 보정 시각 조회
+     *
+     * @param userId    유저 도메인 ID
+     * @return 카운터 값 (전체 건수가 초기화되지 않았으면 totalCount가 null)
+     */
+    NotificationCounterRecord find(String userId);
+
+    /**
+     * 전체 건수 초기화·보정이 필요한 유저를 보정 대기 목록에 추가 (이미 있으면 무시)
+     *
+     * @param userId    유저 도메인 ID
+     */
+    void requestReconcile(String userId);
+
+    /**
+     * 보정 대기 목록에서 유저를 최대 count명 꺼냄
+     *
+     * @param count 꺼낼 최대 유저 수
+     * @return 꺼낸 유저 도메인 ID 목록 (없으면 빈 리스트)
+     */
+    List<String> popReconcileRequests(int count);
+
+    /**
+     * 유저 단위 보정 락 획득 시도 (같은 유저의 파티션을 여러 노드가 동시에 세지 않도록)
+     *
+     * @param userId    유저 도메인 ID
+     * @param ttl       락 유지 시간 (해제하지 못해도 만료되면 자동 해제)
+     * @return 획득 시 해제에 필요한 토큰 (다른 노드가 보유 중이면 Optional.empty())
+     */
+    Optional<String> tryAcquireReconcileLock(String userId, Duration ttl);
+
+    /**
+     * 본인이 보유한 보정 락만 해제
+     *
+     * @param userId    유저 도메인 ID
+     * @param token     획득 시 받은 토큰
+     */
+    void releaseReconcileLock(String userId, String token);
+
+    /**
+     * 보정 시작 표시 (이후 증가분을 따로 모아 보정 결과에 더함)
+     *
+     * @param userId    유저 도메인 ID
+     */
+    void beginReconcile(String userId);
+
+    /**
+     * 전체 알림 건수를 DynamoDB에서 센 건수 + 보정 시작 이후 증가분으로 기록하고 보정 시각 기록 (초기화 및 주기적 보정)
+     *
+     * @param userId        유저 도메인 ID
+     * @param totalCount    DynamoDB에서 센 전체 알림 건수
+     * @param reconciledAt  보정 시각 (epoch ms)
+     */
+    void reconcileTotal(String userId, long totalCount, long reconciledAt);
+
+    /**
+     * 읽지 않은 알림 건수를 0으로 초기화
+     *
+     * @param userId    유저 도메인 ID
+     */
+    void resetUnread(String userId);
+}
@@ -0,0 +1,128 @@
+package ready_to_marry.userservice.notification.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import ready_to_marry.userservice.notification.dto.NotificationCounterRecord;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 유저별 알림 건수를 Redis Hash(notification:counter:{userId} → total, unread, reconciled_at, reconcile_delta)로 관리
+ * - 보정 대기 목록: notification:counter:reconcile-pending (Set)
+ * - 유저 단위 보정 락: notification:counter:reconcile-lock:{userId}
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisNotificationCounterRepository implements NotificationCounterRepository {
+    private static final String KEY_PREFIX = "notification:counter:";
+    private static final String PENDING_KEY = "notification:counter:reconcile-pending";
+    private static final String LOCK_KEY_PREFIX = "notification:counter:reconcile-lock:";
+    private static final String FIELD_TOTAL = "total";
+    private static final String FIELD_UNREAD = "unread";
+    private static final String FIELD_RECONCILED_AT = "reconciled_at";
+    private static final String FIELD_RECONCILE_DELTA = "reconcile_delta";
+
+    // total(초기화된 경우에만), reconcile_delta(보정 중인 경우에만), unread 필드를 한 번의 왕복으로 원자적으로 증가
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('HINCRBY', KEYS[1], ARGV[1], 1) " +
+            "end " +
+            "if redis.call('HEXISTS', KEYS[1], ARGV[3]) == 1 then " +
+            "  redis.call('HINCRBY', KEYS[1], ARGV[3], 1) " +
+            "end " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[2], 1)",
+            Long.class);
+
+    // ARGV[1] = total, ARGV[2] = reconciled_at, ARGV[3] = reconcile_delta / ARGV[4] = 센 건수, ARGV[5] = 보정 시각
+    // 센 건수에 보정 시작 이후 증가분을 더해 total로 기록 (건수를 세는 동안의 증가가 덮어써져 사라지지 않도록)
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local delta = tonumber(redis.call('HGET', KEYS[1], ARGV[3]) or '0') " +
+            "local total = tonumber(ARGV[4]) + delta " +
+            "redis.call('HSET', KEYS[1], ARGV[1], total, ARGV[2], ARGV[5]) " +
+            "redis.call('HDEL', KEYS[1], ARGV[3]) " +
+            "return total",
+            Long.class);
+
+    // 토큰이 일치할 때만 삭제 (compare-and-delete)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void increment(String userId) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(generateKey(userId)), FIELD_TOTAL, FIELD_UNREAD, FIELD_RECONCILE_DELTA);
+    }
+
+    @Override
+    public NotificationCounterRecord find(String userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(generateKey(userId), List.of(FIELD_TOTAL, FIELD_UNREAD, FIELD_RECONCILED_AT));
+        return NotificationCounterRecord.builder()
+                .totalCount(toNullableLong(values.get(0)))
+                .unreadCount(toLong(values.get(1)))
+                .reconciledAt(toNullableLong(values.get(2)))
+                .build();
+    }
+
+    @Override
+    public void requestReconcile(String userId) {
+        redisTemplate.opsForSet().add(PENDING_KEY, userId);
+    }
+
+    @Override
+    public List<String> popReconcileRequests(int count) {
+        List<String> userIds = redisTemplate.opsForSet().pop(PENDING_KEY, count);
+        return userIds == null ? List.of() : userIds;
+    }
+
+    @Override
+    public Optional<String> tryAcquireReconcileLock(String userId, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + userId, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    @Override
+    public void releaseReconcileLock(String userId, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + userId), token);
+    }
+
+    @Override
+    public void beginReconcile(String userId) {
+        redisTemplate.opsForHash().put(generateKey(userId), FIELD_RECONCILE_DELTA, "0");
+    }
+
+    @Override
+    public void reconcileTotal(String userId, long totalCount, long reconciledAt) {
+        redisTemplate.execute(RECONCILE_SCRIPT, List.of(generateKey(userId)),
+                FIELD_TOTAL, FIELD_RECONCILED_AT, FIELD_RECONCILE_DELTA, String.valueOf(totalCount), String.valueOf(reconciledAt));
+    }
+
+    @Override
+    public void resetUnread(String userId) {
+        redisTemplate.opsForHash().put(generateKey(userId), FIELD_UNREAD, "0");
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private Long toNullableLong(Object value) {
+        return value == null ? null : Long.parseLong(value.toString());
+    }
+
+    private String generateKey(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,108 @@
+package ready_to_marry.userservice.notification.repository;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.notification.cache.NotificationFirstPageCache;
+import ready_to_marry.userservice.notification.dto.request.DynamoPagingRequest;
+import ready_to_marry.userservice.notification.dto.response.NotificationHistoryResponse;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 비동기 DynamoDbAsyncClient(Netty 커넥션 풀) 기반 알림 이력 레포지토리 (notification.history.client=async)
+ *
+ * - 목록 조회는 쿼리 완료를 기다리지 않고 future를 그대로 반환 (요청 스레드는 컨트롤러의 비동기 응답으로 반환됨)
+ * - 커서 없는 첫 페이지 조회는 유저별 짧은 TTL 로컬 캐시를 거침
+ * - 건수 조회는 백그라운드 보정 작업에서만 호출되므로 페이지마다 완료를 기다림
+ * - 모든 쿼리 소요 시간을 notification.history.query 타이머로 기록
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "notification.history", name = "client", havingValue = "async")
+public class NotificationHistoryAsyncDynamoRepository implements NotificationHistoryRepository {
+    private static final String CLIENT_TAG = "async";
+
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final NotificationHistoryQuerySupport querySupport;
+    private final NotificationFirstPageCache firstPageCache;
+
+    @Override
+    public CompletableFuture<List<NotificationHistoryResponse>> findByUserId(String userId, DynamoPagingRequest pagingRequest) {
+        // 1) 첫 페이지 요청이면 로컬 캐시를 거쳐 조회
+        if (querySupport.isFirstPage(pagingRequest)) {
+            return firstPageCache.get(userId, pagingRequest.getSize(), () -> query(userId, pagingRequest, true));
+        }
+
+        // 2) 다음 페이지 요청이면 바로 조회
+        return query(userId, pagingRequest, false);
+    }
+
+    @Override
+    public long countByUserId(String userId) {
+        // 1) LastEvaluatedKey가 없을 때까지 Select.COUNT 쿼리를 이어서 실행하며 건수 합산 (보정 작업 스레드에서 각 쿼리 완료 대기)
+        long count = 0;
+        Map<String, AttributeValue> startKey = null;
+        try {
+            do {
+                QueryResponse response = dynamoDbAsyncClient.query(querySupport.buildCountRequest(userId, startKey)).join();
+                count += response.count();
+                startKey = querySupport.nextCountStartKey(response);
+            } while (startKey != null);
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), cause);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, cause);
+        } catch (Exception ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+        return count;
+    }
+
+    /**
+     * DynamoDB 비동기 쿼리 실행 후 DTO로 매핑
+     * 1) QueryRequest 생성 (exclusiveStartKey가 있으면 디코딩해서 ExclusiveStartKey로 설정)
+     * 2) 비동기 쿼리 실행 (완료를 기다리지 않음, 소요 시간 기록, 제한 시간은 클라이언트의 apiCallTimeout)
+     * 3) 완료 시 조회된 아이템을 DTO로 매핑하고, LastEvaluatedKey를 마지막 DTO의 nextExclusiveStartKey로 설정 (실패 시 DB_RETRIEVE_FAILURE로 완료)
+     */
+    private CompletableFuture<List<NotificationHistoryResponse>> query(String userId, DynamoPagingRequest pagingRequest, boolean firstPage) {
+        // 1) QueryRequest 생성 (exclusiveStartKey가 있으면 디코딩해서 ExclusiveStartKey로 설정)
+        QueryRequest request = querySupport.buildQueryRequest(userId, pagingRequest);
+
+        // 2) 비동기 쿼리 실행 (완료를 기다리지 않음, 소요 시간 기록, 제한 시간은 클라이언트의 apiCallTimeout)
+        CompletableFuture<QueryResponse> future;
+        Timer.Sample sample = querySupport.startQuery();
+        try {
+            future = dynamoDbAsyncClient.query(request)
+                    .whenComplete((res, ex) -> querySupport.recordQuery(sample, CLIENT_TAG, firstPage, ex == null));
+        } catch (Exception ex) {
+            querySupport.recordQuery(sample, CLIENT_TAG, firstPage, false);
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+
+        // 3) 완료 시 조회된 아이템을 DTO로 매핑하고, LastEvaluatedKey를 마지막 DTO의 nextExclusiveStartKey로 설정
+        return future.handle((response, ex) -> {
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), cause);
+                throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, cause);
+            }
+            return querySupport.toResponses(response);
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package ready_to_marry.userservice.notification.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ready_to_marry.userservice.common.config.AwsProperties;
+import ready_to_marry.userservice.notification.codec.ExclusiveStartKeyCodec;
+import ready_to_marry.userservice.notification.dto.request.DynamoPagingRequest;
+import ready_to_marry.userservice.notification.dto.response.NotificationHistoryResponse;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동기/비동기 알림 이력 레포지토리가 공유하는 DynamoDB 쿼리 구성, 응답 매핑, 커서 변환, 지표 기록 도우미
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationHistoryQuerySupport {
+    private static final String QUERY_TIMER_NAME = "notification.history.query";
+
+    private final AwsProperties awsProperties;
+    private final MeterRegistry meterRegistry;
+    private final ExclusiveStartKeyCodec exclusiveStartKeyCodec;
+
+    /**
+     * 첫 페이지 요청 여부 (커서가 없는 요청)
+     */
+    public boolean isFirstPage(DynamoPagingRequest pagingRequest) {
+        return pagingRequest.getExclusiveStartKey() == null || pagingRequest.getExclusiveStartKey().isBlank();
+    }
+
+    /**
+     * 유저 ID와 페이징 요청 정보로 DynamoDB QueryRequest 생성
+     * 1) 파티션 키(id = "user" + userId) 조건, 최신순 정렬, 페이지 크기 제한 설정
+     * 2) 클라이언트가 보낸 exclusiveStartKey(커서)가 있으면 디코딩해서 ExclusiveStartKey로 설정
+     */
+    public QueryRequest buildQueryRequest(String userId, DynamoPagingRequest pagingRequest) {
+        // 1) 파티션 키(id = "user" + userId) 조건, 최신순 정렬, 페이지 크기 제한 설정
+        QueryRequest.Builder queryBuilder = QueryRequest.builder()
+                .tableName(awsProperties.getDynamodb().getTableName())
+                .keyConditionExpression("id = :userId")
+                .expressionAttributeValues(Map.of(":userId", AttributeValue.fromS("user" + userId)))
+                .scanIndexForward(false)               // 최신순 정렬
+                .limit(pagingRequest.getSize());       // 페이지 크기만큼만 조회
+
+        // 2) 클라이언트가 보낸 exclusiveStartKey(커서)가 있으면 디코딩해서 ExclusiveStartKey로 설정
+        if (!isFirstPage(pagingRequest)) {
+            queryBuilder.exclusiveStartKey(exclusiveStartKeyCodec.decode(pagingRequest.getExclusiveStartKey()));
+        }
+
+        return queryBuilder.build();
+    }
+
+    /**
+     * 유저 ID의 전체 알림 건수를 세는 DynamoDB QueryRequest 생성 (아이템 없이 건수만 반환)
+     *
+     * @param userId            유저 도메인 ID
+     * @param exclusiveStartKey 이전 응답의 LastEvaluatedKey (첫 요청이면 null)
+     */
+    public QueryRequest buildCountRequest(String userId, Map<String, AttributeValue> exclusiveStartKey) {
+        QueryRequest.Builder queryBuilder = QueryRequest.builder()
+                .tableName(awsProperties.getDynamodb().getTableName())
+                .keyConditionExpression("id = :userId")
+                .expressionAttributeValues(Map.of(":userId", AttributeValue.fromS("user" + userId)))
+                .select(Select.COUNT);
+        if (exclusiveStartKey != null) {
+            queryBuilder.exclusiveStartKey(exclusiveStartKey);
+        }
+        return queryBuilder.build();
+    }
+
+    /**
+     * 건수 조회 응답의 다음 요청 시작 키 (마지막 응답이면 null)
+     */
+    public Map<String, AttributeValue> nextCountStartKey(QueryResponse response) {
+        return response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty() ? response.lastEvaluatedKey() : null;
+    }
+
+    /**
+     * DynamoDB QueryResponse → 알림 목록 DTO 변환
+     * 1) 조회된 아이템을 DTO로 매핑
+     * 2) LastEvaluatedKey를 커서로 인코딩하여 리스트 마지막 DTO에 넣어준다
+     */
+    public List<NotificationHistoryResponse> toResponses(QueryResponse response) {
+        // 1) 조회된 아이템을 DTO로 매핑
+        List<NotificationHistoryResponse> items = new ArrayList<>(response.items().size());
+        for (Map<String, AttributeValue> item : response.items()) {
+            items.add(mapToResponse(item));
+        }
+
+        // 2) LastEvaluatedKey를 커서로 인코딩하여 리스트 마지막 DTO에 넣어준다
+        Map<String, AttributeValue> lastEvaluatedKey = response.lastEvaluatedKey();
+        if (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty() && !items.isEmpty()) {
+            // 리스트의 마지막 아이템에만 nextExclusiveStartKey 필드를 채워서 반환
+            items.get(items.size() - 1).setNextExclusiveStartKey(exclusiveStartKeyCodec.encode(lastEvaluatedKey));
+        }
+
+        return items;
+    }
+
+    /**
+     * DynamoDB 쿼리 소요 시간 기록 (notification.history.query{client, page, outcome})
+     *
+     * @param sample    쿼리 시작 시점에 시작한 타이머 샘플
+     * @param client    사용한 클라이언트 종류 (sync, async)
+     * @param firstPage 첫 페이지 요청 여부
+     * @param success   쿼리 성공 여부
+     */
+    public void recordQuery(Timer.Sample sample, String client, boolean firstPage, boolean success) {
+        sample.stop(Timer.builder(QUERY_TIMER_NAME)
+                .description("DynamoDB notification history query latency")
+                .tag("client", client)
+                .tag("page", firstPage ? "first" : "next")
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * 타이머 샘플 시작
+     */
+    public Timer.Sample startQuery() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * DynamoDB Item(Map<String, AttributeValue>) → NotificationHistoryResponse DTO 변환
+     */
+    private NotificationHistoryResponse mapToResponse(Map<String, AttributeValue> item) {
+        return NotificationHistoryResponse.builder()
+                .createdAt(item.get("createdAt").s())
+                .title(item.getOrDefault("title", AttributeValue.fromS("")).s())
+                .message(item.getOrDefault("message", AttributeValue.fromS("")).s())
+                .amount(item.getOrDefault("amount", AttributeValue.fromN("0")).n())
+                .contractId(item.getOrDefault("contractId", AttributeValue.fromN("0")).n())
+                .status(item.getOrDefault("status", AttributeValue.fromS("")).s())
+                .build();
+    }
+}
@@ -5,17 +5,29 @@ import ready_to_marry.userservice.notification.dto.request.DynamoPagingRequest;
 import ready_to_marry.userservice.notification.dto.response.NotificationHistoryResponse;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface NotificationHistoryRepository {
     /**
      * 유저 ID 기준으로 알림 목록 조회 (DynamoDB 커서 기반 페이징)
+     * 비동기 구현은 쿼리 완료를 기다리지 않고 바로 반환하며, 조회 실패는 반환된 future의 예외로 전달
      *
      * @param userId        유저 도메인 ID
      * @param pagingRequest DynamoDB 커서 기반 페이징 요청 정보
-     * @return 알림 목록 응답
+     * @return 알림 목록 응답 (완료 시점의 future)
      * @throws InfrastructureException EXCLUSIVE_KEY_ENCODING_FAILURE
      * @throws InfrastructureException EXCLUSIVE_KEY_DECODING_FAILURE
      * @throws InfrastructureException DB_RETRIEVE_FAILURE
      */
-    List<NotificationHistoryResponse> findByUserId(String userId, DynamoPagingRequest pagingRequest);
+    CompletableFuture<List<NotificationHistoryResponse>> findByUserId(String userId, DynamoPagingRequest pagingRequest);
+
+    /**
+     * 유저 ID 기준으로 전체 알림 건수 조회 (Select.COUNT, 1MB 단위 응답을 끝까지 이어서 합산)
+     * 알림 건수 카운터 초기화 및 주기적 보정(백그라운드 작업)에만 사용하며, 모든 페이지를 받을 때까지 호출 스레드를 점유
+     *
+     * @param userId        유저 도메인 ID
+     * @return 전체 알림 건수
+     * @throws InfrastructureException DB_RETRIEVE_FAILURE
+     */
+    long countByUserId(String userId);
 }
\ No newline at end of file
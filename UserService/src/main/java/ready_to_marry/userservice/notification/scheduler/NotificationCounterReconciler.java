@@ -0,0 +1,93 @@
+package ready_to_marry.userservice.notification.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.notification.config.NotificationHistoryProperties;
+import ready_to_marry.userservice.notification.redis.NotificationCounterRepository;
+import ready_to_marry.userservice.notification.repository.NotificationHistoryRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보정 대기 목록(조회 시 카운터가 초기화 전이거나 보정 주기가 지난 유저)의 전체 알림 건수를 DynamoDB 건수로 맞추는 백그라운드 작업
+ * - 파티션 전체를 세는 Select.COUNT를 요청 경로에서 분리
+ * - 유저 단위 Redis 락으로 같은 유저를 여러 노드가 동시에 세지 않음
+ * - 건수를 세는 동안 생성된 알림은 카운터의 보정 중 증가분으로 모아 결과에 더함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCounterReconciler {
+    private final NotificationHistoryRepository notificationHistoryRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final NotificationHistoryProperties notificationHistoryProperties;
+
+    /**
+     * 보정
+     * 1) 보정 대기 목록에서 유저를 배치 단위로 꺼냄
+     * 2) 유저마다 보정 (실패 시 다음 주기에 다시 시도하도록 대기 목록에 되돌림)
+     */
+    @Scheduled(fixedDelayString = "#{@notificationHistoryProperties.counter.reconcilePollInterval.toMillis()}")
+    public void reconcile() {
+        // 1) 보정 대기 목록에서 유저를 배치 단위로 꺼냄
+        List<String> userIds;
+        try {
+            userIds = notificationCounterRepository.popReconcileRequests(notificationHistoryProperties.getCounter().getReconcileBatchSize());
+        } catch (Exception ex) {
+            log.warn("System error occurred while polling notification counter reconcile requests", ex);
+            return;
+        }
+
+        // 2) 유저마다 보정
+        for (String userId : userIds) {
+            try {
+                reconcile(userId);
+            } catch (Exception ex) {
+                log.warn("System error occurred while reconciling notification counter: identifierType=userId, identifierValue={}",
+                        MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+                requeue(userId);
+            }
+        }
+    }
+
+    /**
+     * 한 유저의 전체 알림 건수 보정
+     * 1) 유저 단위 락 획득 (다른 노드가 보정 중이면 건너뜀)
+     * 2) 보정 시작 표시 후 DynamoDB 건수 조회
+     * 3) 센 건수 + 보정 중 증가분을 전체 건수로 기록
+     * 4) 락 해제
+     */
+    private void reconcile(String userId) {
+        // 1) 유저 단위 락 획득
+        NotificationHistoryProperties.Counter counter = notificationHistoryProperties.getCounter();
+        Optional<String> lockToken = notificationCounterRepository.tryAcquireReconcileLock(userId, counter.getReconcileLockTtl());
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 2) 보정 시작 표시 후 DynamoDB 건수 조회
+            notificationCounterRepository.beginReconcile(userId);
+            long totalCount = notificationHistoryRepository.countByUserId(userId);
+
+            // 3) 센 건수 + 보정 중 증가분을 전체 건수로 기록
+            notificationCounterRepository.reconcileTotal(userId, totalCount, System.currentTimeMillis());
+        } finally {
+            // 4) 락 해제
+            notificationCounterRepository.releaseReconcileLock(userId, lockToken.get());
+        }
+    }
+
+    private void requeue(String userId) {
+        try {
+            notificationCounterRepository.requestReconcile(userId);
+        } catch (Exception ex) {
+            log.warn("System error occurred while requeueing notification counter reconcile request: identifierType=userId, identifierValue={}",
+                    MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+        }
+    }
+}
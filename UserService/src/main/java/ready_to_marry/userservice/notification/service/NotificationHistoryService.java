@@ -3,24 +3,57 @@ package ready_to_marry.userservice.notification.service;
 import ready_to_marry.userservice.common.dto.response.Meta;
 import ready_to_marry.userservice.common.exception.InfrastructureException;
 import ready_to_marry.userservice.notification.dto.request.DynamoPagingRequest;
+import ready_to_marry.userservice.notification.dto.response.NotificationCountResponse;
 import ready_to_marry.userservice.notification.dto.response.NotificationHistoryResponse;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 유저 알림 도메인의 비즈니스 로직을 제공하는 서비스 인터페이스
  */
 public interface NotificationHistoryService {
     /**
-     * 특정 유저의 알림 목록을 DynamoDB 커서 기반 페이징으로 조회
+     * 특정 유저의 알림 목록을 DynamoDB 커서 기반 페이징으로 조회 (쿼리 완료를 기다리지 않고 future로 반환)
+     * 1) 리포지토리에서 DynamoDB Query(커서 기반) 시작
+     * 2) 쿼리가 진행되는 동안 메타 정보 세팅 (전체 건수는 Redis 알림 카운터에서 O(1) 조회, 초기화 전이거나 보정 주기가 지났으면 백그라운드 보정 요청, 실패 시 0건으로 응답)
      *
      * @param userId                                유저 도메인 ID
      * @param pagingRequest                         DynamoDB 커서 기반 페이징 요청 정보
-     * @param metaOut                               조회 메타 정보
-     * @return List<NotificationHistoryResponse>    알림 목록 (마지막 DTO에 nextExclusiveStartKey가 들어 있음)
+     * @param metaOut                               조회 메타 정보 (반환 전에 모두 채워짐)
+     * @return List<NotificationHistoryResponse>    알림 목록 future (마지막 DTO에 nextExclusiveStartKey가 들어 있음, 조회 실패 시 InfrastructureException으로 완료)
      * @throws InfrastructureException              EXCLUSIVE_KEY_ENCODING_FAILURE
      * @throws InfrastructureException              EXCLUSIVE_KEY_DECODING_FAILURE
      * @throws InfrastructureException              DB_RETRIEVE_FAILURE
      */
-    List<NotificationHistoryResponse> getNotificationList(String userId, DynamoPagingRequest pagingRequest, Meta metaOut);
+    CompletableFuture<List<NotificationHistoryResponse>> getNotificationList(String userId, DynamoPagingRequest pagingRequest, Meta metaOut);
+
+    /**
+     * 특정 유저의 전체/읽지 않은 알림 건수 조회
+     * 1) Redis 알림 카운터에서 전체/읽지 않은 알림 건수 조회
+     *    (전체 건수가 초기화되지 않았거나 보정 주기가 지났으면 보정 대기 목록에 추가, 초기화 전에는 읽지 않은 건수를 전체 건수로 응답)
+     *
+     * @param userId                        유저 도메인 ID
+     * @return NotificationCountResponse    전체/읽지 않은 알림 건수
+     * @throws InfrastructureException      NOTIFICATION_COUNTER_RETRIEVE_FAILURE
+     */
+    NotificationCountResponse getNotificationCount(String userId);
+
+    /**
+     * 알림 1건 생성 반영 (알림을 DynamoDB에 기록한 서비스가 호출)
+     * 1) 전체/읽지 않은 알림 건수를 원자적으로 1씩 증가 (전체 건수가 초기화되지 않았으면 읽지 않은 건수만 증가, 보정 중이면 증가분도 기록)
+     * 2) 이 노드의 첫 페이지 캐시 제거 (사용 중인 경우)
+     *
+     * @param userId                        유저 도메인 ID
+     * @throws InfrastructureException      NOTIFICATION_COUNTER_UPDATE_FAILURE
+     */
+    void recordNotificationCreated(String userId);
+
+    /**
+     * 특정 유저의 알림을 모두 읽음 처리 (파티션 스캔 없이 읽지 않은 알림 건수만 0으로 초기화)
+     *
+     * @param userId                        유저 도메인 ID
+     * @throws InfrastructureException      NOTIFICATION_COUNTER_UPDATE_FAILURE
+     */
+    void markAllAsRead(String userId);
 }
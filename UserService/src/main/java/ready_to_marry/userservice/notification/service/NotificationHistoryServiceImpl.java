@@ -1,32 +1,121 @@
 package ready_to_marry.userservice.notification.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import ready_to_marry.userservice.common.dto.response.Meta;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.notification.cache.NotificationFirstPageCache;
+import ready_to_marry.userservice.notification.config.NotificationHistoryProperties;
+import ready_to_marry.userservice.notification.dto.NotificationCounterRecord;
 import ready_to_marry.userservice.notification.dto.request.DynamoPagingRequest;
+import ready_to_marry.userservice.notification.dto.response.NotificationCountResponse;
 import ready_to_marry.userservice.notification.dto.response.NotificationHistoryResponse;
+import ready_to_marry.userservice.notification.redis.NotificationCounterRepository;
 import ready_to_marry.userservice.notification.repository.NotificationHistoryRepository;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationHistoryServiceImpl implements NotificationHistoryService {
     private final NotificationHistoryRepository notificationHistoryRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final ObjectProvider<NotificationFirstPageCache> firstPageCache;
+    private final NotificationHistoryProperties notificationHistoryProperties;
 
     @Override
-    public List<NotificationHistoryResponse> getNotificationList(String userId, DynamoPagingRequest pagingRequest, Meta metaOut) {
-        // 1) 리포지토리에서 DynamoDB Query(커서 기반) 수행
-        List<NotificationHistoryResponse> result = notificationHistoryRepository.findByUserId(userId, pagingRequest);
+    public CompletableFuture<List<NotificationHistoryResponse>> getNotificationList(String userId, DynamoPagingRequest pagingRequest, Meta metaOut) {
+        // 1) 리포지토리에서 DynamoDB Query(커서 기반) 시작 (완료를 기다리지 않음)
+        CompletableFuture<List<NotificationHistoryResponse>> result = notificationHistoryRepository.findByUserId(userId, pagingRequest);
 
-        // 2) 메타 정보 세팅
+        // 2) 쿼리가 진행되는 동안 메타 정보 세팅
         metaOut.setPage(pagingRequest.getPage());
         metaOut.setSize(pagingRequest.getSize());
 
-        // 3) DynamoDB는 totalElements/totalPages를 바로 알 수 없으므로, 필요 시 별도 통계 테이블을 만들거나 생략
-        metaOut.setTotalElements(0);
-        metaOut.setTotalPages(0);
+        // 3) 전체 건수는 Redis 알림 카운터에서 O(1) 조회 (초기화·보정은 백그라운드 작업이 처리, 실패 시 목록은 그대로 응답하고 0건으로 표시)
+        long totalElements = 0L;
+        try {
+            totalElements = findCount(userId).getTotalCount();
+        } catch (DataAccessException ex) {
+            log.warn("{}: identifierType=userId, identifierValue={}", ErrorCode.NOTIFICATION_COUNTER_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+        }
+        metaOut.setTotalElements(totalElements);
+        metaOut.setTotalPages((int) ((totalElements + pagingRequest.getSize() - 1) / pagingRequest.getSize()));
 
         return result;
     }
+
+    @Override
+    public NotificationCountResponse getNotificationCount(String userId) {
+        // 1) Redis 알림 카운터에서 전체/읽지 않은 알림 건수 조회 (초기화 전이거나 보정 주기가 지났으면 백그라운드 보정 요청)
+        try {
+            return findCount(userId);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.NOTIFICATION_COUNTER_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+            throw new InfrastructureException(ErrorCode.NOTIFICATION_COUNTER_RETRIEVE_FAILURE, ex);
+        }
+    }
+
+    @Override
+    public void recordNotificationCreated(String userId) {
+        // 1) 전체/읽지 않은 알림 건수를 원자적으로 1씩 증가
+        try {
+            notificationCounterRepository.increment(userId);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.NOTIFICATION_COUNTER_UPDATE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+            throw new InfrastructureException(ErrorCode.NOTIFICATION_COUNTER_UPDATE_FAILURE, ex);
+        }
+
+        // 2) 이 노드의 첫 페이지 캐시 제거 (사용 중인 경우, 다른 노드는 짧은 TTL로 만료)
+        firstPageCache.ifAvailable(cache -> cache.evict(userId));
+    }
+
+    @Override
+    public void markAllAsRead(String userId) {
+        // 1) 읽지 않은 알림 건수를 0으로 초기화 (파티션 스캔 없음)
+        try {
+            notificationCounterRepository.resetUnread(userId);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.NOTIFICATION_COUNTER_UPDATE_FAILURE.getMessage(), MaskingUtils.maskUserId(Long.parseLong(userId)), ex);
+            throw new InfrastructureException(ErrorCode.NOTIFICATION_COUNTER_UPDATE_FAILURE, ex);
+        }
+    }
+
+    /**
+     * 알림 카운터 조회 (Redis 한 번 왕복, DynamoDB 건수 조회 없음)
+     * 1) Redis 알림 카운터 조회
+     * 2) 전체 건수가 초기화되지 않았거나 보정 주기가 지났으면 보정 대기 목록에 추가 (백그라운드 작업이 DynamoDB 건수로 맞춤)
+     * 3) 카운터 값 반환 (초기화 전에는 읽지 않은 건수를 전체 건수의 하한으로 사용)
+     *
+     * 카운터가 도입되기 전의 알림은 읽은 것으로 간주하므로 읽지 않은 건수는 보정하지 않음
+     */
+    private NotificationCountResponse findCount(String userId) {
+        // 1) Redis 알림 카운터 조회
+        NotificationCounterRecord counter = notificationCounterRepository.find(userId);
+
+        // 2) 초기화 전이거나 보정 주기가 지났으면 보정 대기 목록에 추가
+        long reconcileInterval = notificationHistoryProperties.getCounter().getReconcileInterval().toMillis();
+        if (counter.getTotalCount() == null || counter.getReconciledAt() == null
+                || System.currentTimeMillis() - counter.getReconciledAt() >= reconcileInterval) {
+            notificationCounterRepository.requestReconcile(userId);
+        }
+
+        // 3) 카운터 값 반환
+        long totalCount = counter.getTotalCount() != null ? counter.getTotalCount() : counter.getUnreadCount();
+        return toCountResponse(totalCount, counter.getUnreadCount());
+    }
+
+    private NotificationCountResponse toCountResponse(long totalCount, long unreadCount) {
+        return NotificationCountResponse.builder()
+                .totalCount(totalCount)
+                .unreadCount(Math.min(unreadCount, totalCount))
+                .build();
+    }
 }
@@ -0,0 +1,146 @@
+package ready_to_marry.userservice.profile.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.profile.config.CoupleIdCacheProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 ID → 커플 ID 매핑을 보관하는 노드 로컬 캐시
+ *
+ * - 크기 제한 + TTL 기반 Caffeine 캐시 (커플로 연결된 유저만 캐싱)
+ * - 커플 연결/해제 시 Redis Pub/Sub으로 모든 노드에 무효화 메시지 전파
+ * - 적중/미적중 통계는 Micrometer(cache.gets 등, cache=coupleIdCache)로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoupleIdCache implements MessageListener {
+    private static final String CACHE_NAME = "coupleIdCache";
+
+    private final CoupleIdCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    // 무효화가 발생할 때마다 증가 (조회 도중 무효화된 값이 다시 캐싱되는 것을 방지)
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    private Cache<Long, UUID> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getInvalidationChannel()));
+    }
+
+    /**
+     * 캐시에서 커플 ID 조회, 미적중 시 loader로 조회 후 캐싱
+     *
+     * @param userId    유저 도메인 ID
+     * @param loader    캐시 미적중 시 커플 ID를 조회할 함수 (커플 미연결 시 null 반환)
+     * @return 커플 ID (커플 미연결 시 null)
+     */
+    public UUID get(Long userId, Function<Long, UUID> loader) {
+        UUID cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long epoch = invalidationEpoch.get();
+        UUID coupleId = loader.apply(userId);
+
+        // 조회 도중 무효화가 발생하지 않은 경우에만 캐싱
+        if (coupleId != null && invalidationEpoch.get() == epoch) {
+            cache.put(userId, coupleId);
+        }
+        return coupleId;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 모든 노드에서 해당 유저들의 캐시 항목 무효화
+     * 트랜잭션이 없으면 즉시 무효화
+     *
+     * @param userIds   무효화할 유저 도메인 ID 목록
+     */
+    public void evictAfterCommit(Long... userIds) {
+        List<Long> ids = Arrays.asList(userIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll(ids);
+                }
+            });
+        } else {
+            evictAll(ids);
+        }
+    }
+
+    /**
+     * 다른 노드(및 자기 자신)가 발행한 무효화 메시지 수신
+     * 메시지 본문: 콤마로 구분된 유저 도메인 ID 목록
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            List<Long> ids = Arrays.stream(body.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .map(Long::valueOf)
+                    .toList();
+            invalidateLocal(ids);
+        } catch (NumberFormatException ex) {
+            log.warn("Ignored malformed couple id cache invalidation message: channel={}", properties.getInvalidationChannel());
+        }
+    }
+
+    private void evictAll(List<Long> ids) {
+        // 1) 로컬 캐시 즉시 무효화
+        invalidateLocal(ids);
+
+        // 2) 다른 노드에 무효화 메시지 전파 (실패 시 TTL 만료로 정합성 회복)
+        String body = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), body);
+        } catch (DataAccessException ex) {
+            log.warn("System error occurred while publishing couple id cache invalidation: identifierType=userId, identifierValue={}",
+                    ids.stream().map(MaskingUtils::maskUserId).toList(), ex);
+        }
+    }
+
+    private void invalidateLocal(List<Long> ids) {
+        invalidationEpoch.incrementAndGet();
+        cache.invalidateAll(ids);
+    }
+}
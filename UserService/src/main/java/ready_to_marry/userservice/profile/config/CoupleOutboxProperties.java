@@ -0,0 +1,41 @@
+package ready_to_marry.userservice.profile.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 커플 이벤트 outbox 릴레이 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "couple.outbox")
+public class CoupleOutboxProperties {
+    // 릴레이 실행 여부
+    private boolean enabled = true;
+
+    // 커플 연결/해제 이벤트를 발행할 Kafka 토픽
+    private String topic = "couple-events";
+
+    // outbox 폴링 간격
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // 한 번에 선점해 처리할 최대 이벤트 수
+    private int batchSize = 100;
+
+    // 배치 전체의 Kafka 전송 완료를 기다리는 최대 시간
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    // 선점한 이벤트를 다른 릴레이가 다시 선점하지 못하게 막는 시간 (초대 코드 삭제와 sendTimeout보다 길게, 릴레이가 중간에 죽으면 이 시간 뒤 재시도)
+    private Duration leaseDuration = Duration.ofMinutes(1);
+
+    // 처리 실패 시 첫 재시도 대기 시간 (실패할 때마다 2배)
+    private Duration baseBackoff = Duration.ofSeconds(5);
+
+    // 재시도 대기 시간 상한
+    private Duration maxBackoff = Duration.ofMinutes(10);
+}
@@ -1,9 +1,16 @@
 package ready_to_marry.userservice.profile.config;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
 
 import java.time.Duration;
 
@@ -12,9 +19,52 @@ import java.time.Duration;
  */
 @Getter
 @Setter
+@Validated
 @Configuration
 @ConfigurationProperties(prefix = "invite-code")
 public class InviteCodeProperties {
     // 초대 코드 TTL
+    @NotNull
     private Duration ttl;
+
+    // 초대 코드에 사용할 문자 집합
+    @NotNull
+    @Size(min = 2)
+    private String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    // 초대 코드 길이
+    @Positive
+    private int length = 6;
+
+    // 미리 생성해 두는 초대 코드 풀 설정
+    @Valid
+    private Pool pool = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // 풀 사용 여부 (비활성화 시 요청마다 후보 코드를 생성)
+        private boolean enabled = true;
+
+        // 풀 크기가 이 값보다 작아지면 보충
+        @PositiveOrZero
+        private int lowWaterMark = 2_000;
+
+        // 보충 시 채울 목표 크기
+        @Positive
+        private int targetSize = 10_000;
+
+        // 한 번의 SADD로 추가할 최대 코드 수
+        @Positive
+        private int refillBatchSize = 1_000;
+
+        // 풀 크기 확인 주기
+        @NotNull
+        private Duration refillInterval = Duration.ofSeconds(5);
+
+        @AssertTrue(message = "low-water-mark must not exceed target-size")
+        public boolean isLowWaterMarkWithinTargetSize() {
+            return lowWaterMark <= targetSize;
+        }
+    }
 }
\ No newline at end of file
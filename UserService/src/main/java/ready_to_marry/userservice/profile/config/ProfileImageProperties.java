@@ -0,0 +1,80 @@
+package ready_to_marry.userservice.profile.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * application.properties의 프로필 이미지 리사이즈/업로드 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "profile.image")
+public class ProfileImageProperties {
+    // 허용하는 원본 이미지 최대 픽셀 수 (가로 × 세로, 이미지 헤더 기준으로 디코딩 전에 검사)
+    private long maxPixels = 50_000_000L;
+
+    // 동시에 디코딩/리사이즈할 수 있는 최대 이미지 수 (노드당 메모리 상한)
+    private int maxConcurrentProcessing = 2;
+
+    // 처리 슬롯을 얻기까지 기다리는 최대 시간
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+    // 썸네일 렌디션의 긴 변 길이 (px)
+    private int thumbnailSize = 160;
+
+    // 중간 크기 렌디션의 긴 변 길이 (px)
+    private int mediumSize = 640;
+
+    // 원본 렌디션의 긴 변 최대 길이 (px, 더 크면 축소)
+    private int originalMaxSize = 2048;
+
+    // JPEG 인코딩 품질 (0.0 ~ 1.0)
+    private float jpegQuality = 0.85f;
+
+    // 직접 업로드(presigned PUT) URL 유효 기간
+    private Duration presignTtl = Duration.ofMinutes(10);
+
+    // 직접 업로드 허용 최대 크기
+    private DataSize maxUploadSize = DataSize.ofMegabytes(15);
+
+    // 직접 업로드 허용 Content-Type
+    private List<String> allowedContentTypes = List.of("image/jpeg", "image/png", "image/webp");
+
+    // S3 이미지 삭제 워커/정합성 검사 설정
+    private Gc gc = new Gc();
+
+    @Getter
+    @Setter
+    public static class Gc {
+        // 삭제 워커·정합성 검사 실행 여부
+        private boolean enabled = true;
+
+        // 삭제 예약 테이블 폴링 간격
+        private Duration pollInterval = Duration.ofSeconds(5);
+
+        // 한 번에 선점해 DeleteObjects로 삭제할 최대 키 수 (최대 1000)
+        private int batchSize = 1000;
+
+        // 삭제 실패 시 첫 재시도 대기 시간 (실패할 때마다 2배)
+        private Duration baseBackoff = Duration.ofSeconds(30);
+
+        // 재시도 대기 시간 상한
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        // 버킷 접두사와 DB 참조를 대조하는 정합성 검사 주기
+        private Duration reconcileInterval = Duration.ofHours(1);
+
+        // 정합성 검사에서 고아 객체로 판단하기 전 최소 경과 시간 (업로드 직후 아직 DB에 반영되지 않은 객체 보호)
+        private Duration orphanGracePeriod = Duration.ofHours(24);
+
+        // 정합성 검사 분산 락 유지 시간 (페이지를 처리할 때마다 갱신하므로 한 페이지 처리 시간보다 길게)
+        private Duration reconcileLockTtl = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,33 @@
+package ready_to_marry.userservice.profile.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 내 프로필 조회(PARALLEL 모드)에서 독립 조회를 동시에 실행하기 위한 전용 스레드 풀 설정
+ *
+ * - 조회는 DB I/O 대기 위주이므로 웹 요청 스레드와 분리된 고정 크기 풀 사용
+ * - 풀과 대기열이 모두 가득 차면 호출 스레드에서 직접 실행하여 순차 조회로 자연스럽게 후퇴
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ProfileLookupExecutorConfig {
+    private final ProfileLookupProperties properties;
+
+    @Bean(name = "profileLookupExecutor")
+    public ThreadPoolTaskExecutor profileLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getParallelism());
+        executor.setMaxPoolSize(properties.getParallelism());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("profile-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
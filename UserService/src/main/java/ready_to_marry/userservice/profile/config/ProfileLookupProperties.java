@@ -0,0 +1,30 @@
+package ready_to_marry.userservice.profile.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import ready_to_marry.userservice.profile.enums.ProfileLookupMode;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 내 프로필 조회(getMyProfile) 실행 방식 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "profile.lookup")
+public class ProfileLookupProperties {
+    // 조회 실행 방식 (SEQUENTIAL, PARALLEL, JOIN)
+    private ProfileLookupMode mode = ProfileLookupMode.JOIN;
+
+    // PARALLEL 모드에서 사용하는 조회 전용 스레드 수
+    private int parallelism = 16;
+
+    // PARALLEL 모드에서 스레드 풀이 가득 찼을 때 대기시킬 작업 수
+    private int queueCapacity = 256;
+
+    // PARALLEL 모드에서 개별 조회 결과를 기다리는 최대 시간
+    private Duration timeout = Duration.ofSeconds(3);
+}
@@ -1,10 +1,14 @@
 package ready_to_marry.userservice.profile.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ready_to_marry.userservice.common.dto.response.ApiResponse;
+import ready_to_marry.userservice.profile.dto.request.ProfileImageConfirmRequest;
+import ready_to_marry.userservice.profile.dto.request.ProfileImageUploadUrlRequest;
 import ready_to_marry.userservice.profile.dto.request.ProfileUpdateRequest;
+import ready_to_marry.userservice.profile.dto.response.ProfileImageUploadUrlResponse;
 import ready_to_marry.userservice.profile.dto.response.UserProfileResponse;
 import ready_to_marry.userservice.profile.service.UserProfileService;
 
@@ -37,6 +41,46 @@ public class UserProfileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 현재 로그인한 유저의 프로필 이미지를 S3에 직접 업로드할 수 있는 presigned PUT URL 발급
+     *
+     * @param userId  게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @param request 업로드할 이미지의 Content-Type, 크기
+     * @return 성공 시 code=0, data=업로드 URL, 객체 키, 필수 헤더, 만료 시각 정보
+     */
+    @PostMapping("/image/upload-url")
+    public ResponseEntity<ApiResponse<ProfileImageUploadUrlResponse>> issueProfileImageUploadUrl(@RequestHeader("X-User-Id") Long userId, @Valid @RequestBody ProfileImageUploadUrlRequest request) {
+        ProfileImageUploadUrlResponse result = userProfileService.issueProfileImageUploadUrl(userId, request);
+
+        ApiResponse<ProfileImageUploadUrlResponse> response = ApiResponse.<ProfileImageUploadUrlResponse>builder()
+                .code(0)
+                .message("Profile image upload URL issued successfully")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 현재 로그인한 유저가 직접 업로드한 프로필 이미지를 확인하고 프로필에 반영
+     *
+     * @param userId  게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @param request 업로드 URL 발급 시 전달받은 S3 객체 키
+     * @return 성공 시 code=0, data=null
+     */
+    @PostMapping("/image/confirm")
+    public ResponseEntity<ApiResponse<Void>> confirmProfileImageUpload(@RequestHeader("X-User-Id") Long userId, @Valid @RequestBody ProfileImageConfirmRequest request) {
+        userProfileService.confirmProfileImageUpload(userId, request);
+
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .code(0)
+                .message("Profile image updated successfully")
+                .data(null)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 현재 로그인한 유저의 프로필을 조회
      *
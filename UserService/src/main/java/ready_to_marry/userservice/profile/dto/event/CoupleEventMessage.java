@@ -0,0 +1,32 @@
+package ready_to_marry.userservice.profile.dto.event;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 커플 연결/해제 도메인 이벤트 Kafka 메시지 (key: coupleId)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoupleEventMessage {
+    // outbox 이벤트 ID (소비자 중복 처리 방지용)
+    private Long eventId;
+
+    // 이벤트 이름 (CoupleConnected, CoupleReleased)
+    private String eventType;
+
+    // 연결/해제된 커플 ID
+    private UUID coupleId;
+
+    // 커플을 구성하는(했던) 두 유저의 도메인 ID
+    private List<Long> userIds;
+
+    // 이벤트 발생 시각
+    private OffsetDateTime occurredAt;
+}
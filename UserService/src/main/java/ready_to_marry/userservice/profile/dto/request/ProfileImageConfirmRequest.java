@@ -0,0 +1,18 @@
+package ready_to_marry.userservice.profile.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/**
+ * 프로필 이미지 직접 업로드 완료 확인 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProfileImageConfirmRequest {
+    // 업로드 URL 발급 시 전달받은 S3 객체 키
+    @NotBlank
+    private String objectKey;
+}
@@ -0,0 +1,25 @@
+package ready_to_marry.userservice.profile.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * 프로필 이미지 직접 업로드(presigned PUT) URL 발급 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProfileImageUploadUrlRequest {
+    // 업로드할 이미지의 Content-Type (예: image/jpeg)
+    @NotBlank
+    private String contentType;
+
+    // 업로드할 이미지의 크기 (byte)
+    @NotNull
+    @Positive
+    private Long contentLength;
+}
@@ -0,0 +1,28 @@
+package ready_to_marry.userservice.profile.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 프로필 이미지 직접 업로드(presigned PUT) URL 발급 결과 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProfileImageUploadUrlResponse {
+    // 이미지를 PUT으로 업로드할 presigned URL
+    private String uploadUrl;
+
+    // 업로드 완료 확인 시 전달할 S3 객체 키
+    private String objectKey;
+
+    // 업로드 요청에 그대로 포함해야 하는 헤더 (Content-Type, Content-Length 등 서명에 포함된 값)
+    private Map<String, String> requiredHeaders;
+
+    // 업로드 URL 만료 시각
+    private Instant expiresAt;
+}
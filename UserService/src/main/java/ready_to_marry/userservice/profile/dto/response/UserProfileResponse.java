@@ -20,6 +20,12 @@ public class UserProfileResponse {
     // 프로필 사진 저장 주소
     private String profileImgUrl;
 
+    // 프로필 사진 중간 크기 렌디션 저장 주소
+    private String profileImgMediumUrl;
+
+    // 프로필 사진 썸네일 렌디션 저장 주소
+    private String profileImgThumbnailUrl;
+
     // 커플 연결 여부
     private boolean connectedCouple;
 
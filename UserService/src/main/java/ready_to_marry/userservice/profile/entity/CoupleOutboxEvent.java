@@ -0,0 +1,73 @@
+package ready_to_marry.userservice.profile.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import ready_to_marry.userservice.profile.enums.CoupleEventType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * user_db.couple_outbox_event 테이블 매핑 엔티티 (커플 연결/해제 이후 처리할 후속 작업 outbox)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "couple_outbox_event",
+        indexes = {
+                @Index(name = "idx_couple_outbox_event_next_attempt_at", columnList = "next_attempt_at"),
+                @Index(name = "idx_couple_outbox_event_couple_id", columnList = "couple_id, event_id")
+        })
+public class CoupleOutboxEvent {
+    // 이벤트 ID
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id", updatable = false, nullable = false)
+    private Long eventId;
+
+    // 이벤트 종류 (CONNECTED, RELEASED)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 20, nullable = false, updatable = false)
+    private CoupleEventType eventType;
+
+    // 연결/해제된 커플 ID
+    @Column(name = "couple_id", nullable = false, updatable = false)
+    private UUID coupleId;
+
+    // 요청한 유저 도메인 ID
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    // 상대방 유저 도메인 ID
+    @Column(name = "partner_id", nullable = false, updatable = false)
+    private Long partnerId;
+
+    // 연결에 사용된 초대 코드 (CONNECTED만, 릴레이가 Redis에서 삭제한 뒤 비움)
+    @Column(name = "invite_code", length = 32)
+    private String inviteCode;
+
+    // Kafka 발행 완료 시각 (발행 전이면 null, 초대 코드 삭제만 남은 이벤트는 발행 완료 상태로 유지)
+    @Column(name = "published_at")
+    private OffsetDateTime publishedAt;
+
+    // 처리 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 처리 시도 가능 시각 (실패 시 백오프만큼 뒤로 미룸)
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 이벤트 발생 시각
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,48 @@
+package ready_to_marry.userservice.profile.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+
+/**
+ * user_db.image_deletion_task 테이블 매핑 엔티티 (S3 이미지 삭제 예약 outbox)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "image_deletion_task",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_deletion_task_object_key", columnNames = "object_key"),
+        indexes = @Index(name = "idx_image_deletion_task_next_attempt_at", columnList = "next_attempt_at"))
+public class ImageDeletionTask {
+    // 삭제 예약 ID
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "task_id", updatable = false, nullable = false)
+    private Long taskId;
+
+    // 삭제할 S3 객체 키
+    @Column(name = "object_key", length = 1024, nullable = false, updatable = false)
+    private String objectKey;
+
+    // 삭제 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 삭제 시도 가능 시각 (실패 시 백오프만큼 뒤로 미룸)
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 삭제 예약 시각
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private OffsetDateTime createdAt;
+}
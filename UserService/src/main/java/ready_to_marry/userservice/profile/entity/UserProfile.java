@@ -16,7 +16,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "user_profile")
+@Table(name = "user_profile",
+        indexes = {
+                @Index(name = "idx_user_profile_couple_id", columnList = "couple_id"),
+                // 이미지 정합성 검사에서 S3 객체 URL이 프로필에서 참조되는지 조회 (렌디션마다 IN 조회)
+                @Index(name = "idx_user_profile_profile_img_url", columnList = "profile_img_url"),
+                @Index(name = "idx_user_profile_profile_img_medium_url", columnList = "profile_img_medium_url"),
+                @Index(name = "idx_user_profile_profile_img_thumbnail_url", columnList = "profile_img_thumbnail_url")
+        })
 public class UserProfile {
     // PK 유저 도메인 ID
     @Id
@@ -40,6 +47,14 @@ public class UserProfile {
     @Column(name = "profile_img_url", length = 2048)
     private String profileImgUrl;
 
+    // 프로필 사진 중간 크기 렌디션 저장 주소
+    @Column(name = "profile_img_medium_url", length = 2048)
+    private String profileImgMediumUrl;
+
+    // 프로필 사진 썸네일 렌디션 저장 주소
+    @Column(name = "profile_img_thumbnail_url", length = 2048)
+    private String profileImgThumbnailUrl;
+
     // 유저 프로필 생성 시각
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
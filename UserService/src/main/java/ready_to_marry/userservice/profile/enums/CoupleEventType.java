@@ -0,0 +1,14 @@
+package ready_to_marry.userservice.profile.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CoupleEventType {
+    CONNECTED("CoupleConnected"),   // 커플 연결
+    RELEASED("CoupleReleased");     // 커플 해제
+
+    // Kafka 메시지에 실리는 도메인 이벤트 이름
+    private final String eventName;
+}
@@ -0,0 +1,7 @@
+package ready_to_marry.userservice.profile.enums;
+
+public enum ProfileLookupMode {
+    SEQUENTIAL,  // 프로필 조회 → FCM 토큰 존재 여부 조회를 순차 실행
+    PARALLEL,    // 두 조회를 전용 스레드 풀에서 동시에 실행
+    JOIN         // LEFT JOIN 단일 Projection 쿼리로 한 번에 조회
+}
@@ -0,0 +1,128 @@
+package ready_to_marry.userservice.profile.image;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JPEG 파일의 EXIF Orientation(0x0112) 값을 읽는 유틸리티
+ *
+ * - 마커 세그먼트를 순서대로 건너뛰며 APP1(Exif) 세그먼트만 읽음 (이미지 데이터는 읽지 않음)
+ * - JPEG가 아니거나 값이 없으면 1(정방향) 반환
+ */
+public final class ExifOrientationReader {
+    public static final int NORMAL = 1;
+
+    private static final int MARKER_SOI = 0xD8;
+    private static final int MARKER_SOS = 0xDA;
+    private static final int MARKER_EOI = 0xD9;
+    private static final int MARKER_APP1 = 0xE1;
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ExifOrientationReader() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * EXIF Orientation 값 읽기
+     *
+     * @param in 이미지 입력 스트림 (호출 측에서 닫음)
+     * @return 1 ~ 8 (값이 없거나 JPEG가 아니면 1)
+     * @throws IOException 스트림 읽기 실패 시
+     */
+    public static int read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            if (data.readUnsignedByte() != 0xFF || data.readUnsignedByte() != MARKER_SOI) {
+                return NORMAL;
+            }
+
+            while (true) {
+                // 1) 다음 마커 찾기 (0xFF 패딩 허용)
+                int b = data.readUnsignedByte();
+                if (b != 0xFF) {
+                    return NORMAL;
+                }
+                int marker;
+                do {
+                    marker = data.readUnsignedByte();
+                } while (marker == 0xFF);
+
+                // 2) 이미지 데이터 시작 전까지만 탐색
+                if (marker == MARKER_SOS || marker == MARKER_EOI) {
+                    return NORMAL;
+                }
+
+                int length = data.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+
+                // 3) APP1(Exif) 세그먼트면 파싱, 아니면 건너뜀
+                if (marker == MARKER_APP1) {
+                    byte[] segment = new byte[length];
+                    data.readFully(segment);
+                    int orientation = parseExifSegment(segment);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                } else {
+                    data.skipNBytes(length);
+                }
+            }
+        } catch (EOFException ex) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * APP1 세그먼트("Exif\0\0" + TIFF)에서 IFD0의 Orientation 태그 값 추출 (없으면 0)
+     */
+    private static int parseExifSegment(byte[] s) {
+        if (s.length < 14 || s[0] != 'E' || s[1] != 'x' || s[2] != 'i' || s[3] != 'f' || s[4] != 0 || s[5] != 0) {
+            return 0;
+        }
+
+        int tiff = 6;
+        boolean littleEndian;
+        if (s[tiff] == 'I' && s[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (s[tiff] == 'M' && s[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return 0;
+        }
+
+        long ifdOffset = readInt(s, tiff + 4, littleEndian) & 0xFFFFFFFFL;
+        int ifd = tiff + (int) Math.min(ifdOffset, Integer.MAX_VALUE - tiff);
+        if (ifdOffset > s.length || ifd + 2 > s.length) {
+            return 0;
+        }
+
+        int entries = readShort(s, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > s.length) {
+                return 0;
+            }
+            if (readShort(s, entry, littleEndian) == TAG_ORIENTATION) {
+                int value = readShort(s, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int readShort(byte[] s, int offset, boolean littleEndian) {
+        int b0 = s[offset] & 0xFF;
+        int b1 = s[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] s, int offset, boolean littleEndian) {
+        int hi = readShort(s, offset, littleEndian);
+        int lo = readShort(s, offset + 2, littleEndian);
+        return littleEndian ? (lo << 16) | hi : (hi << 16) | lo;
+    }
+}
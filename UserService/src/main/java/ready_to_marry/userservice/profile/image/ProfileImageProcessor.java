@@ -0,0 +1,242 @@
+package ready_to_marry.userservice.profile.image;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
+import ready_to_marry.userservice.common.exception.ValidationException;
+import ready_to_marry.userservice.profile.config.ProfileImageProperties;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 이미지 처리 파이프라인 (디코딩 → 방향 보정 → 리사이즈 → JPEG 인코딩)
+ *
+ * - 디코딩 전에 헤더의 가로/세로로 픽셀 수 상한 검사 (압축 폭탄 방지)
+ * - 원본 최대 크기에 맞춰 서브샘플링하며 디코딩하므로 원본 해상도 전체를 메모리에 올리지 않음
+ * - 동시 처리 수를 세마포어로 제한하여 업로드가 몰려도 노드 메모리 사용량이 일정 범위를 넘지 않음
+ * - EXIF Orientation을 픽셀에 반영한 뒤 메타데이터 없이 재인코딩하므로 EXIF(위치 정보 등)는 제거됨
+ * - JDK ImageIO에는 WebP 인코더가 없으므로 모든 렌디션은 JPEG로 인코딩
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageProcessor {
+    private final ProfileImageProperties properties;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(properties.getMaxConcurrentProcessing(), true);
+    }
+
+    /**
+     * 업로드된 이미지를 썸네일, 중간 크기, 원본 렌디션으로 변환
+     * 1) 처리 슬롯 획득 (제한 시간 내 획득 실패 시 IMAGE_PROCESSING_BUSY)
+     * 2) EXIF Orientation 읽기 (JPEG인 경우)
+     * 3) 헤더 기준 픽셀 수 검사 후 서브샘플링 디코딩
+     * 4) 방향 보정 (RGB로 변환, 투명 영역은 흰색 배경)
+     * 5) 렌디션별 리사이즈 및 JPEG 인코딩
+     *
+     * @param file 업로드된 이미지 파일
+     * @return 렌디션 묶음
+     * @throws ValidationException      이미지를 해석할 수 없거나 픽셀 수 상한을 넘는 경우
+     * @throws InfrastructureException  IMAGE_PROCESSING_BUSY
+     * @throws InfrastructureException  IMAGE_PROCESSING_FAILURE
+     */
+    public ProfileImageRenditions process(MultipartFile file) {
+        return process(file, file.getSize());
+    }
+
+    /**
+     * 이미지 원본(직접 업로드 후 S3에서 읽은 객체 등)을 썸네일, 중간 크기, 원본 렌디션으로 변환
+     *
+     * @param image 여러 번 읽을 수 있는 이미지 원본
+     * @param size  이미지 크기 (byte, 로그용)
+     * @return 렌디션 묶음
+     * @throws ValidationException      이미지를 해석할 수 없거나 픽셀 수 상한을 넘는 경우
+     * @throws InfrastructureException  IMAGE_PROCESSING_BUSY
+     * @throws InfrastructureException  IMAGE_PROCESSING_FAILURE
+     */
+    public ProfileImageRenditions process(InputStreamSource image, long size) {
+        // 1) 처리 슬롯 획득 (제한 시간 내 획득 실패 시 IMAGE_PROCESSING_BUSY)
+        try {
+            if (!permits.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("{}: waitingThreads={}", ErrorCode.IMAGE_PROCESSING_BUSY.getMessage(), permits.getQueueLength());
+                throw new InfrastructureException(ErrorCode.IMAGE_PROCESSING_BUSY, null);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InfrastructureException(ErrorCode.IMAGE_PROCESSING_BUSY, ex);
+        }
+
+        try {
+            // 2) EXIF Orientation 읽기 (JPEG인 경우)
+            int orientation;
+            try (InputStream in = image.getInputStream()) {
+                orientation = ExifOrientationReader.read(in);
+            }
+
+            // 3) 헤더 기준 픽셀 수 검사 후 서브샘플링 디코딩
+            BufferedImage decoded = decode(image);
+
+            // 4) 방향 보정 (RGB로 변환, 투명 영역은 흰색 배경)
+            BufferedImage oriented = orient(decoded, orientation);
+            decoded.flush();
+
+            // 5) 렌디션별 리사이즈 및 JPEG 인코딩 (큰 렌디션부터 줄여 나가며 재사용)
+            BufferedImage original = resize(oriented, properties.getOriginalMaxSize());
+            BufferedImage medium = resize(original, properties.getMediumSize());
+            BufferedImage thumbnail = resize(medium, properties.getThumbnailSize());
+
+            return new ProfileImageRenditions(encodeJpeg(thumbnail), encodeJpeg(medium), encodeJpeg(original));
+        } catch (IOException ex) {
+            log.error("{}: fileSize={}", ErrorCode.IMAGE_PROCESSING_FAILURE.getMessage(), size, ex);
+            throw new InfrastructureException(ErrorCode.IMAGE_PROCESSING_FAILURE, ex);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 헤더의 가로/세로로 픽셀 수 상한을 검사하고, 긴 변이 원본 최대 크기 이상을 유지하는 범위에서 서브샘플링하며 디코딩
+     */
+    private BufferedImage decode(InputStreamSource image) throws IOException {
+        try (InputStream in = image.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                throw new ValidationException("profileImage", "Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || (long) width * height > properties.getMaxPixels()) {
+                    throw new ValidationException("profileImage", "Image must be at most " + properties.getMaxPixels() + " pixels");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / properties.getOriginalMaxSize());
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } catch (IIOException | IllegalArgumentException | IndexOutOfBoundsException ex) {
+                throw new ValidationException("profileImage", "Corrupted image");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * EXIF Orientation(1 ~ 8)을 픽셀에 반영하여 RGB 이미지로 변환
+     */
+    private BufferedImage orient(BufferedImage src, int orientation) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5;
+
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);     // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);    // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);     // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);      // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);     // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);    // 역전치
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);     // 반시계 방향 90도 회전
+            default -> new AffineTransform();
+        };
+
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, out.getWidth(), out.getHeight());
+            g.drawImage(src, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소 (절반씩 단계적으로 줄여 계단 현상 완화, 이미 작으면 그대로 반환)
+     */
+    private BufferedImage resize(BufferedImage src, int maxSize) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        if (Math.max(w, h) <= maxSize) {
+            return src;
+        }
+
+        double scale = (double) maxSize / Math.max(w, h);
+        int targetW = Math.max(1, (int) Math.round(w * scale));
+        int targetH = Math.max(1, (int) Math.round(h * scale));
+
+        BufferedImage current = src;
+        do {
+            int nextW = Math.max(targetW, current.getWidth() / 2);
+            int nextH = Math.max(targetH, current.getHeight() / 2);
+
+            BufferedImage next = new BufferedImage(nextW, nextH, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, nextW, nextH, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (current.getWidth() != targetW || current.getHeight() != targetH);
+
+        return current;
+    }
+
+    /**
+     * 메타데이터 없이 JPEG로 인코딩
+     */
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(properties.getJpegQuality());
+
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,41 @@
+package ready_to_marry.userservice.profile.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로필 이미지 처리 결과 (방향 보정 및 EXIF 제거 후 JPEG로 인코딩된 렌디션 묶음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImageRenditions {
+    public static final String CONTENT_TYPE = "image/jpeg";
+    public static final String EXTENSION = ".jpg";
+
+    public static final String THUMBNAIL = "thumbnail";
+    public static final String MEDIUM = "medium";
+    public static final String ORIGINAL = "original";
+
+    // 썸네일 (목록 화면용)
+    private final byte[] thumbnail;
+
+    // 중간 크기 (상세 화면용)
+    private final byte[] medium;
+
+    // 원본 (긴 변 최대 크기로 제한)
+    private final byte[] original;
+
+    /**
+     * 렌디션 이름 → 인코딩된 바이트 (업로드 순서 유지)
+     */
+    public Map<String, byte[]> asMap() {
+        Map<String, byte[]> map = new LinkedHashMap<>();
+        map.put(THUMBNAIL, thumbnail);
+        map.put(MEDIUM, medium);
+        map.put(ORIGINAL, original);
+        return map;
+    }
+}
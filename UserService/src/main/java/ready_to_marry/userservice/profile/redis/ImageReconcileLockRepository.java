@@ -0,0 +1,33 @@
+package ready_to_marry.userservice.profile.redis;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지 정합성 검사(reconcile)를 한 노드만 실행하도록 하는 분산 락 저장소 추상화 인터페이스
+ */
+public interface ImageReconcileLockRepository {
+    /**
+     * 락 획득 시도
+     *
+     * @param ttl   락 유지 시간 (해제하지 못해도 만료되면 자동 해제)
+     * @return 획득 시 해제에 필요한 토큰 (다른 노드가 보유 중이면 Optional.empty())
+     */
+    Optional<String> tryAcquire(Duration ttl);
+
+    /**
+     * 본인이 보유한 락의 유지 시간 갱신 (오래 걸리는 검사 도중 만료되어 다른 노드와 겹치지 않도록)
+     *
+     * @param token 획득 시 받은 토큰
+     * @param ttl   새 락 유지 시간
+     * @return 갱신 여부 (이미 만료되어 다른 노드가 획득했거나 없으면 false)
+     */
+    boolean renew(String token, Duration ttl);
+
+    /**
+     * 본인이 보유한 락만 해제 (만료 후 다른 노드가 획득한 락은 건드리지 않음)
+     *
+     * @param token 획득 시 받은 토큰
+     */
+    void release(String token);
+}
@@ -1,6 +1,8 @@
 package ready_to_marry.userservice.profile.redis;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -8,13 +10,42 @@ import java.util.Optional;
  */
 public interface InviteCodeRepository {
     /**
-     * 초대코드를 Redis에 저장
+     * 유저의 초대 코드를 한 번의 왕복으로 원자적으로 발급
+     * - 유저에게 아직 유효한 코드가 있으면 그 코드의 TTL을 갱신해 그대로 반환
+     * - 없으면 후보 코드를 순서대로 SET NX로 선점하고 역인덱스(userId → code)를 함께 기록
      *
-     * @param code      초대 코드
-     * @param userId    발급한 유저의 도메인 ID
+     * @param userId        발급할 유저의 도메인 ID
+     * @param candidates    선점을 시도할 후보 초대 코드 목록
+     * @param ttl           초대 코드 유효 기간(Duration)
+     * @return 발급된(또는 기존) 초대 코드 (모든 후보가 이미 사용 중이면 Optional.empty())
+     */
+    Optional<String> issue(Long userId, List<String> candidates, Duration ttl);
+
+    /**
+     * 미리 생성해 둔 초대 코드 풀에서 코드를 꺼내(SPOP) 한 번의 왕복으로 원자적으로 발급
+     * - 유저에게 아직 유효한 코드가 있으면 그 코드의 TTL을 갱신해 그대로 반환
+     * - 꺼낸 코드가 이미 사용 중이면(드문 충돌) 다음 코드를 꺼내 재시도
+     *
+     * @param userId    발급할 유저의 도메인 ID
      * @param ttl       초대 코드 유효 기간(Duration)
+     * @return 발급된(또는 기존) 초대 코드 (풀이 비었으면 Optional.empty())
+     */
+    Optional<String> issueFromPool(Long userId, Duration ttl);
+
+    /**
+     * 초대 코드 풀에 남은 코드 수 조회
+     *
+     * @return 풀 크기
+     */
+    long poolSize();
+
+    /**
+     * 초대 코드 풀에 코드 추가 (이미 풀에 있는 코드는 무시)
+     *
+     * @param codes 추가할 초대 코드
+     * @return 실제로 추가된 코드 수
      */
-    void save(String code, Long userId, Duration ttl);
+    long addToPool(Collection<String> codes);
 
     /**
      * 초대 코드로 발급자(userId) 조회
@@ -25,9 +56,9 @@ public interface InviteCodeRepository {
     Optional<Long> findUserIdByCode(String code);
 
     /**
-     * 초대 코드 삭제
+     * 초대 코드 삭제 (발급자의 역인덱스가 이 코드를 가리키면 함께 삭제)
      *
      * @param code      삭제할 초대 코드
      */
     void delete(String code);
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package ready_to_marry.userservice.profile.redis;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지 직접 업로드 세션(발급한 S3 객체 키 → 업로드 권한이 있는 유저) 저장소 추상화 인터페이스
+ */
+public interface ProfileImageUploadRepository {
+    /**
+     * 업로드 세션 저장
+     *
+     * @param objectKey 발급한 S3 객체 키
+     * @param userId    업로드 URL을 발급받은 유저의 도메인 ID
+     * @param ttl       업로드 세션 유효 기간(Duration)
+     */
+    void save(String objectKey, Long userId, Duration ttl);
+
+    /**
+     * S3 객체 키로 업로드 권한이 있는 유저 조회
+     *
+     * @param objectKey S3 객체 키
+     * @return 유저 도메인 ID (없으면 Optional.empty())
+     */
+    Optional<Long> findUserIdByObjectKey(String objectKey);
+
+    /**
+     * 업로드 세션을 조회와 동시에 삭제 (한 번만 확인 처리되도록 선점)
+     *
+     * @param objectKey S3 객체 키
+     * @return 삭제된 세션의 유저 도메인 ID (이미 없으면 Optional.empty())
+     */
+    Optional<Long> consume(String objectKey);
+}
@@ -2,22 +2,120 @@ package ready_to_marry.userservice.profile.redis;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 초대 코드(invite:code:{code} → userId), 발급자 역인덱스(invite:user:{userId} → code), 미리 생성한 코드 풀(invite:pool)을 Redis에 저장하는 레포지토리
+ *
+ * - Lua 스크립트는 스크립트 안에서 읽은 값(기존 코드, 발급자 ID, 풀에서 꺼낸 코드)으로 만든 키에도 접근하므로
+ *   모든 키를 KEYS로 미리 선언할 수 없음
+ * - 단일 마스터(Sentinel, spring.data.redis.sentinel.*) 구성을 전제로 하며 Redis Cluster에서는 CROSSSLOT 오류가 발생할 수 있음
+ *   (Cluster로 옮길 경우 모든 초대 코드 키를 같은 해시 태그로 묶거나 스크립트를 단일 키 연산으로 나눠야 함)
+ */
 @Repository
 @RequiredArgsConstructor
 public class RedisInviteCodeRepository implements InviteCodeRepository {
     private static final String KEY_PREFIX = "invite:code:";
+    private static final String USER_KEY_PREFIX = "invite:user:";
+    private static final String POOL_KEY = "invite:pool";
+
+    // 공통: KEYS[1] = 역인덱스(invite:user:{userId}) / ARGV[1] = userId, ARGV[2] = TTL(ms), ARGV[3] = 코드 키 접두사
+    // 유저의 기존 코드가 아직 유효하면 TTL만 갱신해 반환 (기존 코드 키는 ARGV[3] .. current로 만들므로 KEYS에 없음, 단일 마스터 전제)
+    private static final String RETURN_CURRENT_CODE =
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if current then " +
+            "  local currentKey = ARGV[3] .. current " +
+            "  if redis.call('GET', currentKey) == ARGV[1] then " +
+            "    redis.call('PEXPIRE', currentKey, ARGV[2]) " +
+            "    redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "    return current " +
+            "  end " +
+            "end ";
+
+    // KEYS[2..] = 후보 코드 키
+    // 기존 코드가 없으면 후보 코드를 SET NX로 선점하고 역인덱스 기록
+    private static final RedisScript<String> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            RETURN_CURRENT_CODE +
+            "for i = 2, #KEYS do " +
+            "  if redis.call('SET', KEYS[i], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "    local code = string.sub(KEYS[i], string.len(ARGV[3]) + 1) " +
+            "    redis.call('SET', KEYS[1], code, 'PX', ARGV[2]) " +
+            "    return code " +
+            "  end " +
+            "end " +
+            "return false",
+            String.class
+    );
+
+    // KEYS[2] = 풀(invite:pool) / ARGV[4] = 최대 충돌 재시도 횟수
+    // 기존 코드가 없으면 풀에서 코드를 꺼내 SET NX로 선점하고 역인덱스 기록 (꺼낸 코드의 키는 KEYS에 없음, 단일 마스터 전제)
+    private static final RedisScript<String> ISSUE_FROM_POOL_SCRIPT = new DefaultRedisScript<>(
+            RETURN_CURRENT_CODE +
+            "for i = 1, tonumber(ARGV[4]) do " +
+            "  local code = redis.call('SPOP', KEYS[2]) " +
+            "  if not code then return false end " +
+            "  if redis.call('SET', ARGV[3] .. code, ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "    redis.call('SET', KEYS[1], code, 'PX', ARGV[2]) " +
+            "    return code " +
+            "  end " +
+            "end " +
+            "return false",
+            String.class
+    );
+
+    // 풀에서 꺼낸 코드가 이미 사용 중일 때 다음 코드로 재시도하는 최대 횟수
+    private static final int POOL_MAX_ATTEMPTS = 5;
+
+    // KEYS[1] = 코드 키 / ARGV[1] = 역인덱스 접두사, ARGV[2] = 코드
+    // 코드 삭제 후 발급자의 역인덱스가 같은 코드를 가리킬 때만 역인덱스도 삭제 (역인덱스 키는 ARGV[1] .. owner로 만들므로 KEYS에 없음, 단일 마스터 전제)
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) " +
+            "if not owner then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "local userKey = ARGV[1] .. owner " +
+            "if redis.call('GET', userKey) == ARGV[2] then redis.call('DEL', userKey) end " +
+            "return 1",
+            Long.class
+    );
 
     private final StringRedisTemplate redisTemplate;
 
     @Override
-    public void save(String code, Long userId, Duration ttl) {
-        String key = generateKey(code);
-        redisTemplate.opsForValue().set(key, String.valueOf(userId), ttl);
+    public Optional<String> issue(Long userId, List<String> candidates, Duration ttl) {
+        List<String> keys = new ArrayList<>(candidates.size() + 1);
+        keys.add(generateUserKey(userId));
+        candidates.forEach(candidate -> keys.add(generateKey(candidate)));
+
+        String code = redisTemplate.execute(ISSUE_SCRIPT, keys,
+                String.valueOf(userId), String.valueOf(ttl.toMillis()), KEY_PREFIX);
+        return Optional.ofNullable(code);
+    }
+
+    @Override
+    public Optional<String> issueFromPool(Long userId, Duration ttl) {
+        String code = redisTemplate.execute(ISSUE_FROM_POOL_SCRIPT, List.of(generateUserKey(userId), POOL_KEY),
+                String.valueOf(userId), String.valueOf(ttl.toMillis()), KEY_PREFIX, String.valueOf(POOL_MAX_ATTEMPTS));
+        return Optional.ofNullable(code);
+    }
+
+    @Override
+    public long poolSize() {
+        Long size = redisTemplate.opsForSet().size(POOL_KEY);
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public long addToPool(Collection<String> codes) {
+        Long added = redisTemplate.opsForSet().add(POOL_KEY, codes.toArray(new String[0]));
+        return added == null ? 0 : added;
     }
 
     @Override
@@ -29,11 +127,14 @@ public class RedisInviteCodeRepository implements InviteCodeRepository {
 
     @Override
     public void delete(String code) {
-        String key = generateKey(code);
-        redisTemplate.delete(key);
+        redisTemplate.execute(DELETE_SCRIPT, List.of(generateKey(code)), USER_KEY_PREFIX, code);
     }
 
     private String generateKey(String code) {
         return KEY_PREFIX + code;
     }
-}
\ No newline at end of file
+
+    private String generateUserKey(Long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+}
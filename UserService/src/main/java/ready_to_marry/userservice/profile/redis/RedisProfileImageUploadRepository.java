@@ -0,0 +1,37 @@
+package ready_to_marry.userservice.profile.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RedisProfileImageUploadRepository implements ProfileImageUploadRepository {
+    private static final String KEY_PREFIX = "profile:image-upload:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(String objectKey, Long userId, Duration ttl) {
+        redisTemplate.opsForValue().set(generateKey(objectKey), String.valueOf(userId), ttl);
+    }
+
+    @Override
+    public Optional<Long> findUserIdByObjectKey(String objectKey) {
+        String value = redisTemplate.opsForValue().get(generateKey(objectKey));
+        return Optional.ofNullable(value).map(Long::valueOf);
+    }
+
+    @Override
+    public Optional<Long> consume(String objectKey) {
+        String value = redisTemplate.opsForValue().getAndDelete(generateKey(objectKey));
+        return Optional.ofNullable(value).map(Long::valueOf);
+    }
+
+    private String generateKey(String objectKey) {
+        return KEY_PREFIX + objectKey;
+    }
+}
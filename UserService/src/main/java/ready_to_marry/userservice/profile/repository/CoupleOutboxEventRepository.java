@@ -0,0 +1,31 @@
+package ready_to_marry.userservice.profile.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ready_to_marry.userservice.profile.entity.CoupleOutboxEvent;
+
+import java.util.List;
+
+/**
+ * CoupleOutboxEvent(커플 연결/해제 후속 작업 outbox) CRUD 및 조회용 레포지토리
+ */
+@Repository
+public interface CoupleOutboxEventRepository extends JpaRepository<CoupleOutboxEvent, Long> {
+    /**
+     * 처리 시각이 된 이벤트를 행 잠금과 함께 선점 (다른 릴레이가 잠근 행은 건너뜀)
+     * 같은 커플에 아직 발행되지 않은 더 오래된 이벤트가 있으면 선점하지 않음 (커플별 발행 순서 보장)
+     *
+     * @param limit 최대 선점 건수
+     * @return 선점한 이벤트 목록 (발생 순)
+     */
+    @Query(value = "SELECT * FROM couple_outbox_event e " +
+            "WHERE e.next_attempt_at <= now() " +
+            "AND NOT EXISTS (SELECT 1 FROM couple_outbox_event p " +
+            "                WHERE p.couple_id = e.couple_id AND p.event_id < e.event_id AND p.published_at IS NULL) " +
+            "ORDER BY e.event_id " +
+            "LIMIT :limit " +
+            "FOR UPDATE OF e SKIP LOCKED", nativeQuery = true)
+    List<CoupleOutboxEvent> claimDue(@Param("limit") int limit);
+}
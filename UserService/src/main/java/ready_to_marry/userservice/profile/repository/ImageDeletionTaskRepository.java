@@ -0,0 +1,41 @@
+package ready_to_marry.userservice.profile.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ready_to_marry.userservice.profile.entity.ImageDeletionTask;
+
+import java.util.List;
+
+/**
+ * ImageDeletionTask(S3 이미지 삭제 예약 outbox) CRUD 및 조회용 레포지토리
+ */
+@Repository
+public interface ImageDeletionTaskRepository extends JpaRepository<ImageDeletionTask, Long> {
+    /**
+     * S3 객체 삭제 예약 (같은 키가 이미 예약되어 있으면 무시)
+     *
+     * @param objectKey 삭제할 S3 객체 키
+     * @return 새로 예약된 건수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_deletion_task (object_key, attempts, next_attempt_at, created_at) " +
+            "VALUES (:objectKey, 0, now(), now()) " +
+            "ON CONFLICT (object_key) DO NOTHING", nativeQuery = true)
+    int enqueue(@Param("objectKey") String objectKey);
+
+    /**
+     * 삭제 시도 시각이 된 예약을 행 잠금과 함께 선점 (다른 워커가 잠근 행은 건너뜀)
+     *
+     * @param limit 최대 선점 건수
+     * @return 선점한 삭제 예약 목록 (오래된 순)
+     */
+    @Query(value = "SELECT * FROM image_deletion_task " +
+            "WHERE next_attempt_at <= now() " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ImageDeletionTask> claimDue(@Param("limit") int limit);
+}
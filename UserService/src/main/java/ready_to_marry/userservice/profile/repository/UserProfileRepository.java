@@ -1,10 +1,16 @@
 package ready_to_marry.userservice.profile.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ready_to_marry.userservice.profile.entity.UserProfile;
+import ready_to_marry.userservice.profile.repository.projection.UserProfileWithPushProjection;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,4 +25,55 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
      * @return 커플 ID에 해당하는 UserProfile 객체 리스트 (없을 경우 빈 리스트 반환)
      */
     List<UserProfile> findByCoupleId(UUID coupleId);
-}
\ No newline at end of file
+
+    /**
+     * 유저 프로필과 FCM 토큰 존재 여부를 LEFT JOIN 단일 쿼리로 조회
+     *
+     * @param userId 유저 도메인 ID
+     * @return 유저 프로필 + 푸시 허용 여부 Projection (프로필이 없을 경우 빈 Optional 반환)
+     */
+    @Query("SELECT p.name AS name, p.phone AS phone, p.profileImgUrl AS profileImgUrl, " +
+            "p.profileImgMediumUrl AS profileImgMediumUrl, p.profileImgThumbnailUrl AS profileImgThumbnailUrl, p.coupleId AS coupleId, " +
+            "CASE WHEN t.userId IS NOT NULL THEN true ELSE false END AS pushNotificationEnabled " +
+            "FROM UserProfile p LEFT JOIN FcmToken t ON t.userId = p.userId " +
+            "WHERE p.userId = :userId")
+    Optional<UserProfileWithPushProjection> findWithPushEnabledByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 이미지 URL 중 유저 프로필(원본·중간·썸네일)이 참조하고 있는 URL 조회
+     *
+     * @param urls 확인할 이미지 public URL 목록
+     * @return 참조 중인 URL 목록 (없을 경우 빈 리스트 반환)
+     */
+    @Query(value = "SELECT profile_img_url FROM user_profile WHERE profile_img_url IN (:urls) " +
+            "UNION SELECT profile_img_medium_url FROM user_profile WHERE profile_img_medium_url IN (:urls) " +
+            "UNION SELECT profile_img_thumbnail_url FROM user_profile WHERE profile_img_thumbnail_url IN (:urls)", nativeQuery = true)
+    List<String> findReferencedImageUrls(@Param("urls") Collection<String> urls);
+
+    /**
+     * 커플 연결 전 두 유저의 행을 user_id 오름차순으로 잠금 (SELECT ... ORDER BY user_id FOR UPDATE)
+     * - UPDATE는 행을 잠그는 순서를 보장하지 않으므로, 같은 트랜잭션에서 connectCouple보다 먼저 호출해
+     *   서로 반대 순서로 두 유저를 연결하려는 요청이 교착 상태에 빠지지 않도록 함
+     *
+     * @param userId    본인 유저 도메인 ID
+     * @param partnerId 상대방 유저 도메인 ID
+     * @return 잠근 유저 도메인 ID 목록 (존재하는 유저만 포함)
+     */
+    @Query(value = "SELECT user_id FROM user_profile WHERE user_id IN (:userId, :partnerId) ORDER BY user_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockForCoupleConnect(@Param("userId") Long userId, @Param("partnerId") Long partnerId);
+
+    /**
+     * 두 유저가 모두 커플이 아닐 때만 같은 커플 ID로 연결하는 조건부 일괄 UPDATE
+     * - 동시에 같은 유저를 연결하려는 요청은 행 잠금을 기다린 뒤 couple_id IS NULL 조건을 다시 평가하므로 한쪽만 성공
+     * - 잠금 순서는 보장하지 않으므로 같은 트랜잭션에서 lockForCoupleConnect로 먼저 잠근 뒤 호출
+     *
+     * @param coupleId  새 커플 ID
+     * @param userId    본인 유저 도메인 ID
+     * @param partnerId 상대방 유저 도메인 ID
+     * @return 연결된 행 수 (2가 아니면 둘 중 하나 이상이 없거나 이미 커플이므로 트랜잭션을 롤백해야 함)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE UserProfile p SET p.coupleId = :coupleId " +
+            "WHERE p.userId IN (:userId, :partnerId) AND p.coupleId IS NULL")
+    int connectCouple(@Param("coupleId") UUID coupleId, @Param("userId") Long userId, @Param("partnerId") Long partnerId);
+}
@@ -0,0 +1,29 @@
+package ready_to_marry.userservice.profile.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 유저 프로필 + FCM 토큰 존재 여부 Projection (user_profile LEFT JOIN fcm_token 단일 쿼리 결과)
+ */
+public interface UserProfileWithPushProjection {
+    // 유저 실명(또는 표시명)
+    String getName();
+
+    // 유저 연락처
+    String getPhone();
+
+    // 프로필 사진 저장 주소
+    String getProfileImgUrl();
+
+    // 프로필 사진 중간 크기 렌디션 저장 주소
+    String getProfileImgMediumUrl();
+
+    // 프로필 사진 썸네일 렌디션 저장 주소
+    String getProfileImgThumbnailUrl();
+
+    // 커플 ID
+    UUID getCoupleId();
+
+    // FCM 토큰 존재 여부
+    Boolean getPushNotificationEnabled();
+}
@@ -0,0 +1,221 @@
+package ready_to_marry.userservice.profile.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ready_to_marry.userservice.profile.config.CoupleOutboxProperties;
+import ready_to_marry.userservice.profile.dto.event.CoupleEventMessage;
+import ready_to_marry.userservice.profile.entity.CoupleOutboxEvent;
+import ready_to_marry.userservice.profile.enums.CoupleEventType;
+import ready_to_marry.userservice.profile.repository.CoupleOutboxEventRepository;
+import ready_to_marry.userservice.profile.service.InviteCodeService;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * couple_outbox_event(outbox)에 기록된 커플 연결/해제 이벤트의 후속 작업을 커밋 이후 비동기·배치로 처리하는 릴레이
+ * - CONNECTED: 사용된 초대 코드를 Redis에서 삭제
+ * - 공통: CoupleConnected/CoupleReleased 도메인 이벤트를 Kafka로 발행 (key: coupleId, 배치 단위로 전송 후 한 번에 대기)
+ * - FOR UPDATE SKIP LOCKED로 선점하면서 다음 시도 시각을 임대 만료 시각으로 미루고 바로 커밋하므로 여러 노드가 동시에 실행해도 같은 이벤트를 중복 처리하지 않음
+ * - Redis 삭제와 Kafka 전송 대기는 트랜잭션 밖에서 수행하고, 결과는 별도의 짧은 트랜잭션으로 반영 (행 잠금·DB 커넥션을 외부 호출 동안 유지하지 않음)
+ * - 같은 커플의 더 오래된 이벤트가 발행되기 전에는 다음 이벤트를 선점하지 않으므로 커플별 발행 순서 유지
+ * - 초대 코드 삭제와 발행은 서로 독립적으로 처리 (삭제가 실패해도 발행은 진행하고 삭제만 나중에 재시도)
+ * - 실패한 작업은 지수 백오프 후 재시도 (Redis 삭제는 멱등, Kafka 소비자는 eventId로 중복 제거)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "couple.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CoupleOutboxRelay {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final CoupleOutboxEventRepository coupleOutboxEventRepository;
+    private final InviteCodeService inviteCodeService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final CoupleOutboxProperties coupleOutboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    public CoupleOutboxRelay(CoupleOutboxEventRepository coupleOutboxEventRepository,
+                             InviteCodeService inviteCodeService,
+                             KafkaTemplate<String, String> kafkaTemplate,
+                             ObjectMapper objectMapper,
+                             CoupleOutboxProperties coupleOutboxProperties,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry) {
+        this.coupleOutboxEventRepository = coupleOutboxEventRepository;
+        this.inviteCodeService = inviteCodeService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.coupleOutboxProperties = coupleOutboxProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.publishedCounter = meterRegistry.counter("couple.outbox.events", "result", "published");
+        this.failedCounter = meterRegistry.counter("couple.outbox.events", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "#{@coupleOutboxProperties.pollInterval.toMillis()}")
+    public void relay() {
+        // 한 배치가 가득 찼으면 밀린 이벤트가 남아 있을 수 있으므로 바로 다음 배치 처리
+        int processed;
+        do {
+            processed = relayBatch();
+        } while (processed >= coupleOutboxProperties.getBatchSize());
+    }
+
+    /**
+     * 이벤트 한 배치 처리 (행 잠금과 DB 커넥션은 선점·결과 반영의 짧은 트랜잭션 동안만 유지)
+     * 1) 짧은 트랜잭션: 처리 시각이 된 이벤트를 행 잠금과 함께 선점하고 다음 시도 시각을 임대 만료 시각으로 미룸 (같은 커플의 이전 이벤트가 발행 대기 중이면 제외)
+     * 2) 트랜잭션 밖에서 이벤트별 남은 작업 수행: 초대 코드 삭제(실패해도 발행은 진행), 아직 발행하지 않았으면 Kafka 전송 시작
+     * 3) 배치 전체 전송 완료 대기 (sendTimeout)
+     * 4) 짧은 트랜잭션: 아직 임대 중인 이벤트만 다시 조회해, 모든 작업이 끝난 이벤트는 제거하고 남은 작업이 있는 이벤트는 발행 여부·시도 횟수·다음 시도 시각·실패 사유 갱신
+     *
+     * @return 처리한 이벤트 수
+     */
+    private int relayBatch() {
+        // 1) 짧은 트랜잭션: 처리 시각이 된 이벤트를 선점하고 임대 만료 시각까지 다른 릴레이가 선점하지 못하도록 표시
+        //    (임대 중인 이벤트도 발행 전이므로 같은 커플의 다음 이벤트는 계속 선점되지 않음)
+        OffsetDateTime leaseUntil = OffsetDateTime.now().plus(coupleOutboxProperties.getLeaseDuration()).truncatedTo(ChronoUnit.MICROS);
+        List<CoupleOutboxEvent> events = transactionTemplate.execute(status -> {
+            List<CoupleOutboxEvent> claimed = coupleOutboxEventRepository.claimDue(coupleOutboxProperties.getBatchSize());
+            claimed.forEach(event -> event.setNextAttemptAt(leaseUntil));
+            return claimed;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        // 2) 트랜잭션 밖에서 이벤트별 초대 코드 삭제 및 Kafka 전송 시작
+        Map<Long, String> failures = new HashMap<>();
+        Set<Long> inviteDeleted = new HashSet<>();
+        Map<Long, CompletableFuture<?>> sends = new LinkedHashMap<>();
+        for (CoupleOutboxEvent event : events) {
+            if (event.getEventType() == CoupleEventType.CONNECTED && event.getInviteCode() != null) {
+                try {
+                    inviteCodeService.delete(event.getInviteCode());
+                    inviteDeleted.add(event.getEventId());
+                } catch (Exception ex) {
+                    failures.merge(event.getEventId(), describe(ex), this::joinErrors);
+                }
+            }
+            if (event.getPublishedAt() == null) {
+                try {
+                    sends.put(event.getEventId(), kafkaTemplate.send(
+                            coupleOutboxProperties.getTopic(), event.getCoupleId().toString(), toJson(event)));
+                } catch (Exception ex) {
+                    failures.merge(event.getEventId(), describe(ex), this::joinErrors);
+                }
+            }
+        }
+
+        // 3) 배치 전체 전송 완료 대기
+        awaitSends(sends.values());
+        Set<Long> sent = new HashSet<>();
+        sends.forEach((eventId, send) -> {
+            if (!send.isDone()) {
+                failures.merge(eventId, "Kafka send timed out", this::joinErrors);
+            } else if (send.isCompletedExceptionally()) {
+                failures.merge(eventId, describe(send.handle((result, ex) -> ex).join()), this::joinErrors);
+            } else {
+                sent.add(eventId);
+            }
+        });
+
+        // 4) 짧은 트랜잭션: 아직 이 릴레이가 임대 중인 이벤트만 결과 반영 (임대가 만료돼 다른 릴레이가 다시 선점한 이벤트는 그쪽 결과에 맡김)
+        List<Long> eventIds = events.stream().map(CoupleOutboxEvent::getEventId).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> completedEventIds = new ArrayList<>(eventIds.size());
+            OffsetDateTime now = OffsetDateTime.now();
+            int published = 0;
+            int failed = 0;
+            for (CoupleOutboxEvent event : coupleOutboxEventRepository.findAllById(eventIds)) {
+                if (!event.getNextAttemptAt().isEqual(leaseUntil)) {
+                    continue;
+                }
+                if (inviteDeleted.contains(event.getEventId())) {
+                    event.setInviteCode(null);
+                }
+                if (sent.contains(event.getEventId())) {
+                    event.setPublishedAt(now);
+                    published++;
+                }
+                String error = failures.get(event.getEventId());
+                if (error == null) {
+                    completedEventIds.add(event.getEventId());
+                } else {
+                    event.setAttempts(event.getAttempts() + 1);
+                    event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+                    event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                    failed++;
+                }
+            }
+            coupleOutboxEventRepository.deleteAllByIdInBatch(completedEventIds);
+
+            publishedCounter.increment(published);
+            failedCounter.increment(failed);
+            if (!failures.isEmpty()) {
+                log.warn("Failed to relay some couple events, will retry: failed={}, completed={}, published={}",
+                        failed, completedEventIds.size(), published);
+            }
+        });
+        return events.size();
+    }
+
+    private String toJson(CoupleOutboxEvent event) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(CoupleEventMessage.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType().getEventName())
+                .coupleId(event.getCoupleId())
+                .userIds(List.of(event.getUserId(), event.getPartnerId()))
+                .occurredAt(event.getCreatedAt())
+                .build());
+    }
+
+    private void awaitSends(Iterable<CompletableFuture<?>> sends) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        sends.forEach(futures::add);
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(coupleOutboxProperties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            // 이벤트별 결과는 호출한 쪽에서 개별 future로 판단
+        }
+    }
+
+    private String joinErrors(String first, String second) {
+        return first + "; " + second;
+    }
+
+    private String describe(Throwable ex) {
+        Throwable cause = ex.getCause() != null && ex instanceof CompletionException ? ex.getCause() : ex;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = coupleOutboxProperties.getBaseBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(coupleOutboxProperties.getMaxBackoff()) > 0 ? coupleOutboxProperties.getMaxBackoff() : backoff;
+    }
+}
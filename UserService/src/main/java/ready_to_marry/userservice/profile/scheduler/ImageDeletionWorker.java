@@ -0,0 +1,125 @@
+package ready_to_marry.userservice.profile.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ready_to_marry.userservice.profile.config.ProfileImageProperties;
+import ready_to_marry.userservice.profile.entity.ImageDeletionTask;
+import ready_to_marry.userservice.profile.repository.ImageDeletionTaskRepository;
+import ready_to_marry.userservice.profile.util.S3Storage;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * image_deletion_task(outbox)에 예약된 S3 객체를 DeleteObjects로 일괄 삭제하는 백그라운드 워커
+ * - FOR UPDATE SKIP LOCKED로 선점하므로 여러 노드가 동시에 실행해도 같은 키를 중복 처리하지 않음
+ * - 실패한 키는 지수 백오프(baseBackoff × 2^(시도 횟수 - 1), 최대 maxBackoff) 후 재시도
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "profile.image.gc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ImageDeletionWorker {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ImageDeletionTaskRepository imageDeletionTaskRepository;
+    private final S3Storage s3Storage;
+    private final ProfileImageProperties profileImageProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    public ImageDeletionWorker(ImageDeletionTaskRepository imageDeletionTaskRepository,
+                               S3Storage s3Storage,
+                               ProfileImageProperties profileImageProperties,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.imageDeletionTaskRepository = imageDeletionTaskRepository;
+        this.s3Storage = s3Storage;
+        this.profileImageProperties = profileImageProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.deletedCounter = meterRegistry.counter("profile.image.gc.deletions", "result", "deleted");
+        this.failedCounter = meterRegistry.counter("profile.image.gc.deletions", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "#{@profileImageProperties.gc.pollInterval.toMillis()}")
+    public void drain() {
+        // 한 배치가 가득 찼으면 밀린 예약이 남아 있을 수 있으므로 바로 다음 배치 처리
+        int processed;
+        do {
+            processed = drainBatch();
+        } while (processed >= batchSize());
+    }
+
+    /**
+     * 삭제 예약 한 배치 처리
+     * 1) 시도 시각이 된 예약을 행 잠금과 함께 선점
+     * 2) DeleteObjects 한 번으로 일괄 삭제 (호출 자체가 실패하면 배치 전체를 실패로 처리)
+     * 3) 성공한 예약은 제거, 실패한 예약은 시도 횟수·다음 시도 시각·실패 사유 갱신
+     *
+     * @return 처리한 예약 수
+     */
+    private int drainBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            // 1) 시도 시각이 된 예약을 행 잠금과 함께 선점
+            List<ImageDeletionTask> tasks = imageDeletionTaskRepository.claimDue(batchSize());
+            if (tasks.isEmpty()) {
+                return 0;
+            }
+
+            // 2) DeleteObjects 한 번으로 일괄 삭제
+            Map<String, String> failures;
+            try {
+                failures = s3Storage.deleteAll(tasks.stream().map(ImageDeletionTask::getObjectKey).toList());
+            } catch (Exception ex) {
+                log.warn("System error occurred while deleting images from S3: batchSize={}", tasks.size(), ex);
+                String reason = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+                failures = new HashMap<>();
+                for (ImageDeletionTask task : tasks) {
+                    failures.put(task.getObjectKey(), reason);
+                }
+            }
+
+            // 3) 성공한 예약은 제거, 실패한 예약은 백오프 후 재시도하도록 갱신
+            List<Long> deletedTaskIds = new ArrayList<>(tasks.size());
+            OffsetDateTime now = OffsetDateTime.now();
+            for (ImageDeletionTask task : tasks) {
+                String error = failures.get(task.getObjectKey());
+                if (error == null) {
+                    deletedTaskIds.add(task.getTaskId());
+                } else {
+                    task.setAttempts(task.getAttempts() + 1);
+                    task.setNextAttemptAt(now.plus(backoff(task.getAttempts())));
+                    task.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                }
+            }
+            imageDeletionTaskRepository.deleteAllByIdInBatch(deletedTaskIds);
+
+            deletedCounter.increment(deletedTaskIds.size());
+            failedCounter.increment(tasks.size() - deletedTaskIds.size());
+            if (deletedTaskIds.size() < tasks.size()) {
+                log.warn("Failed to delete some images from S3, will retry: failed={}, deleted={}", tasks.size() - deletedTaskIds.size(), deletedTaskIds.size());
+            }
+            return tasks.size();
+        });
+        return processed == null ? 0 : processed;
+    }
+
+    private int batchSize() {
+        return Math.min(profileImageProperties.getGc().getBatchSize(), S3Storage.MAX_DELETE_KEYS);
+    }
+
+    private Duration backoff(int attempts) {
+        ProfileImageProperties.Gc gc = profileImageProperties.getGc();
+        Duration backoff = gc.getBaseBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(gc.getMaxBackoff()) > 0 ? gc.getMaxBackoff() : backoff;
+    }
+}
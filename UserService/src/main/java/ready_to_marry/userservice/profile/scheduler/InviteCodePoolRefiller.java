@@ -0,0 +1,82 @@
+package ready_to_marry.userservice.profile.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ready_to_marry.userservice.profile.config.InviteCodeProperties;
+import ready_to_marry.userservice.profile.redis.InviteCodeRepository;
+import ready_to_marry.userservice.profile.util.InviteCodeGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 초대 코드 풀(invite:pool)이 하한(lowWaterMark) 아래로 내려가면 목표 크기(targetSize)까지 보충하는 백그라운드 작업
+ * - SADD는 중복 코드를 무시하므로 여러 노드가 동시에 보충해도 풀에 같은 코드가 두 번 들어가지 않음 (목표 크기를 조금 넘을 수는 있음)
+ * - 이미 사용 중인 코드와의 충돌은 발급 스크립트가 SET NX로 걸러냄
+ * - 지표: invite.code.pool.size(마지막으로 확인한 풀 크기), invite.code.pool.refilled(보충한 코드 수, rate로 보충 속도 확인)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "invite-code.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InviteCodePoolRefiller {
+    private final InviteCodeRepository inviteCodeRepository;
+    private final InviteCodeGenerator inviteCodeGenerator;
+    private final InviteCodeProperties inviteCodeProperties;
+    private final AtomicLong poolSize = new AtomicLong();
+    private final Counter refilledCounter;
+
+    public InviteCodePoolRefiller(InviteCodeRepository inviteCodeRepository,
+                                  InviteCodeGenerator inviteCodeGenerator,
+                                  InviteCodeProperties inviteCodeProperties,
+                                  MeterRegistry meterRegistry) {
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.inviteCodeGenerator = inviteCodeGenerator;
+        this.inviteCodeProperties = inviteCodeProperties;
+        Gauge.builder("invite.code.pool.size", poolSize, AtomicLong::get)
+                .description("Invite codes remaining in the pre-generated pool")
+                .register(meterRegistry);
+        this.refilledCounter = Counter.builder("invite.code.pool.refilled")
+                .description("Invite codes added to the pre-generated pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 풀 보충
+     * 1) 풀 크기 확인
+     * 2) 하한 아래면 목표 크기까지 배치 단위로 생성해 SADD
+     */
+    @Scheduled(fixedDelayString = "#{@inviteCodeProperties.pool.refillInterval.toMillis()}")
+    public void refill() {
+        InviteCodeProperties.Pool pool = inviteCodeProperties.getPool();
+        try {
+            // 1) 풀 크기 확인
+            long size = inviteCodeRepository.poolSize();
+            poolSize.set(size);
+            if (size >= pool.getLowWaterMark()) {
+                return;
+            }
+
+            // 2) 하한 아래면 목표 크기까지 배치 단위로 생성해 SADD
+            long added = 0;
+            while (size < pool.getTargetSize()) {
+                int batch = (int) Math.min(pool.getRefillBatchSize(), pool.getTargetSize() - size);
+                long batchAdded = inviteCodeRepository.addToPool(inviteCodeGenerator.generate(batch));
+                added += batchAdded;
+                size += batchAdded;
+                if (batchAdded == 0) {
+                    // 코드 공간이 풀 크기에 비해 너무 작은 경우 무한 반복 방지
+                    break;
+                }
+            }
+            poolSize.set(size);
+            refilledCounter.increment(added);
+            log.info("Refilled invite code pool: added={}, size={}", added, size);
+        } catch (Exception ex) {
+            log.warn("System error occurred while refilling invite code pool", ex);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package ready_to_marry.userservice.profile.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ready_to_marry.userservice.profile.config.ProfileImageProperties;
+import ready_to_marry.userservice.profile.redis.ImageReconcileLockRepository;
+import ready_to_marry.userservice.profile.repository.ImageDeletionTaskRepository;
+import ready_to_marry.userservice.profile.repository.UserProfileRepository;
+import ready_to_marry.userservice.profile.util.S3Storage;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 버킷 접두사(user-profile-images/)의 객체와 유저 프로필의 이미지 참조를 대조해 고아 객체를 삭제 예약하는 정합성 검사
+ * - 예약 기록마저 실패했거나 노드가 중간에 종료되어 남은 객체를 회수
+ * - Redis 락으로 여러 노드 중 한 곳에서만 실행 (페이지마다 락 유지 시간을 갱신하고, 락을 잃으면 중단)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "profile.image.gc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProfileImageReconciler {
+    private static final String PROFILE_IMAGE_PREFIX = "user-profile-images/";
+
+    private final S3Storage s3Storage;
+    private final UserProfileRepository userProfileRepository;
+    private final ImageDeletionTaskRepository imageDeletionTaskRepository;
+    private final ImageReconcileLockRepository imageReconcileLockRepository;
+    private final ProfileImageProperties profileImageProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter orphanCounter;
+
+    public ProfileImageReconciler(S3Storage s3Storage,
+                                  UserProfileRepository userProfileRepository,
+                                  ImageDeletionTaskRepository imageDeletionTaskRepository,
+                                  ImageReconcileLockRepository imageReconcileLockRepository,
+                                  ProfileImageProperties profileImageProperties,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.s3Storage = s3Storage;
+        this.userProfileRepository = userProfileRepository;
+        this.imageDeletionTaskRepository = imageDeletionTaskRepository;
+        this.imageReconcileLockRepository = imageReconcileLockRepository;
+        this.profileImageProperties = profileImageProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.orphanCounter = meterRegistry.counter("profile.image.gc.orphans");
+    }
+
+    /**
+     * 정합성 검사
+     * 1) 분산 락 획득 (다른 노드가 실행 중이면 건너뜀)
+     * 2) 접두사 아래 객체를 페이지 단위로 조회 (페이지마다 락 유지 시간 갱신, 락을 잃었으면 중단)
+     * 3) 유예 기간이 지난 객체 중 어떤 프로필도 참조하지 않는 객체를 삭제 예약
+     * 4) 락 해제
+     */
+    @Scheduled(initialDelayString = "#{@profileImageProperties.gc.reconcileInterval.toMillis()}",
+            fixedDelayString = "#{@profileImageProperties.gc.reconcileInterval.toMillis()}")
+    public void reconcile() {
+        // 1) 분산 락 획득
+        Optional<String> lockToken;
+        try {
+            lockToken = imageReconcileLockRepository.tryAcquire(profileImageProperties.getGc().getReconcileLockTtl());
+        } catch (Exception ex) {
+            log.warn("System error occurred while acquiring image reconcile lock", ex);
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 2) 접두사 아래 객체를 페이지 단위로 조회 + 3) 고아 객체 삭제 예약
+            Instant cutoff = Instant.now().minus(profileImageProperties.getGc().getOrphanGracePeriod());
+            int[] orphans = {0};
+            s3Storage.listObjects(PROFILE_IMAGE_PREFIX, page -> {
+                if (!imageReconcileLockRepository.renew(lockToken.get(), profileImageProperties.getGc().getReconcileLockTtl())) {
+                    throw new IllegalStateException("Image reconcile lock was lost before the run finished");
+                }
+                orphans[0] += enqueueOrphans(page, cutoff);
+            });
+            if (orphans[0] > 0) {
+                log.info("Scheduled deletion of orphaned profile images: count={}", orphans[0]);
+            }
+        } catch (Exception ex) {
+            log.warn("System error occurred while reconciling profile images", ex);
+        } finally {
+            // 4) 락 해제
+            try {
+                imageReconcileLockRepository.release(lockToken.get());
+            } catch (Exception ex) {
+                log.warn("System error occurred while releasing image reconcile lock", ex);
+            }
+        }
+    }
+
+    /**
+     * 한 페이지의 객체 중 고아 객체를 삭제 예약
+     *
+     * @return 삭제 예약한 객체 수
+     */
+    private int enqueueOrphans(List<S3Object> page, Instant cutoff) {
+        // 유예 기간이 지난 객체만 후보 (URL → 키)
+        Map<String, String> candidates = new LinkedHashMap<>();
+        for (S3Object object : page) {
+            if (object.lastModified() != null && object.lastModified().isBefore(cutoff)) {
+                candidates.put(s3Storage.getFileUrl(object.key()), object.key());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Integer enqueued = transactionTemplate.execute(status -> {
+            Set<String> referenced = new HashSet<>(userProfileRepository.findReferencedImageUrls(candidates.keySet()));
+            int count = 0;
+            for (Map.Entry<String, String> candidate : candidates.entrySet()) {
+                if (!referenced.contains(candidate.getKey())) {
+                    count += imageDeletionTaskRepository.enqueue(candidate.getValue());
+                }
+            }
+            return count;
+        });
+        int count = enqueued == null ? 0 : enqueued;
+        orphanCounter.increment(count);
+        return count;
+    }
+}
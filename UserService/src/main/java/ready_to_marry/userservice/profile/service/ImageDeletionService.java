@@ -0,0 +1,25 @@
+package ready_to_marry.userservice.profile.service;
+
+import java.util.Collection;
+
+/**
+ * 교체·롤백된 프로필 이미지의 S3 삭제를 outbox(image_deletion_task)에 예약하는 서비스 인터페이스
+ * - 실제 삭제는 백그라운드 워커가 DeleteObjects로 일괄 처리
+ */
+public interface ImageDeletionService {
+    /**
+     * 호출한 트랜잭션 안에서 이미지 삭제 예약 (트랜잭션이 롤백되면 예약도 취소됨)
+     *
+     * @param imageUrls 삭제할 이미지의 public URL 목록
+     * @throws org.springframework.dao.DataAccessException 예약 저장 실패 시
+     */
+    void enqueue(Collection<String> imageUrls);
+
+    /**
+     * 별도 트랜잭션으로 이미지 삭제 예약 (호출한 트랜잭션이 실패한 뒤 업로드한 이미지를 되돌릴 때 사용)
+     * - 예약 저장마저 실패하면 경고만 남기고, 남은 객체는 주기적 정합성 검사(reconcile)에서 회수
+     *
+     * @param imageUrls 삭제할 이미지의 public URL 목록
+     */
+    void enqueueInNewTransaction(Collection<String> imageUrls);
+}
@@ -0,0 +1,41 @@
+package ready_to_marry.userservice.profile.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ready_to_marry.userservice.profile.repository.ImageDeletionTaskRepository;
+import ready_to_marry.userservice.profile.util.S3Storage;
+
+import java.util.Collection;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDeletionServiceImpl implements ImageDeletionService {
+    private final ImageDeletionTaskRepository imageDeletionTaskRepository;
+    private final S3Storage s3Storage;
+
+    @Override
+    @Transactional
+    public void enqueue(Collection<String> imageUrls) {
+        for (String imageUrl : imageUrls) {
+            imageDeletionTaskRepository.enqueue(s3Storage.extractKeyFromUrl(imageUrl));
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueInNewTransaction(Collection<String> imageUrls) {
+        try {
+            for (String imageUrl : imageUrls) {
+                imageDeletionTaskRepository.enqueue(s3Storage.extractKeyFromUrl(imageUrl));
+                log.info("Scheduled rollback deletion of uploaded image: imageUrl={}", imageUrl);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("System error occurred while scheduling image deletion, left for reconciliation: imageUrls={}", imageUrls, ex);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ready_to_marry.userservice.profile.service;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -7,12 +8,21 @@ import java.util.Optional;
  */
 public interface InviteCodeService {
     /**
-     * 초대 코드를 Redis에 저장
+     * 유저의 초대 코드를 Redis에 원자적으로 발급 (유효한 기존 코드가 있으면 TTL을 갱신해 그대로 반환)
+     *
+     * @param userId        초대 코드 발급자(user)의 도메인 ID
+     * @param candidates    선점을 시도할 후보 초대 코드 목록
+     * @return 발급된(또는 기존) 초대 코드 (모든 후보가 이미 사용 중이면 Optional.empty())
+     */
+    Optional<String> issue(Long userId, List<String> candidates);
+
+    /**
+     * 미리 생성해 둔 초대 코드 풀에서 꺼내 원자적으로 발급 (유효한 기존 코드가 있으면 TTL을 갱신해 그대로 반환)
      *
-     * @param code      생성된 초대 코드
      * @param userId    초대 코드 발급자(user)의 도메인 ID
+     * @return 발급된(또는 기존) 초대 코드 (풀이 비었으면 Optional.empty())
      */
-    void save(String code, Long userId);
+    Optional<String> issueFromPool(Long userId);
 
     /**
      * 초대 코드로 발급자(userId) 조회
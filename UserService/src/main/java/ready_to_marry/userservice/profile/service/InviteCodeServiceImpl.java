@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import ready_to_marry.userservice.profile.config.InviteCodeProperties;
 import ready_to_marry.userservice.profile.redis.InviteCodeRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -22,8 +23,18 @@ public class InviteCodeServiceImpl implements InviteCodeService {
             maxAttempts = 3,
             backoff = @Backoff(delay = 100)
     )
-    public void save(String code, Long userId) {
-        inviteCodeRepository.save(code, userId, inviteCodeProperties.getTtl());
+    public Optional<String> issue(Long userId, List<String> candidates) {
+        return inviteCodeRepository.issue(userId, candidates, inviteCodeProperties.getTtl());
+    }
+
+    @Override
+    @Retryable(
+            include = DataAccessException.class,
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100)
+    )
+    public Optional<String> issueFromPool(Long userId) {
+        return inviteCodeRepository.issueFromPool(userId, inviteCodeProperties.getTtl());
     }
 
     @Override
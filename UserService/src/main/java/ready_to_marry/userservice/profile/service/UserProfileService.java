@@ -6,8 +6,11 @@ import ready_to_marry.userservice.common.exception.InfrastructureException;
 import ready_to_marry.userservice.common.exception.ValidationException;
 import ready_to_marry.userservice.profile.dto.request.CoupleConnectRequest;
 import ready_to_marry.userservice.profile.dto.request.InternalProfileCreateRequest;
+import ready_to_marry.userservice.profile.dto.request.ProfileImageConfirmRequest;
+import ready_to_marry.userservice.profile.dto.request.ProfileImageUploadUrlRequest;
 import ready_to_marry.userservice.profile.dto.request.ProfileUpdateRequest;
 import ready_to_marry.userservice.profile.dto.response.InviteCodeIssueResponse;
+import ready_to_marry.userservice.profile.dto.response.ProfileImageUploadUrlResponse;
 import ready_to_marry.userservice.profile.dto.response.UserProfileResponse;
 
 import java.util.UUID;
@@ -32,9 +35,11 @@ public interface UserProfileService {
 
     /**
      * 로그인한 유저의 프로필 정보 조회
-     * 1) 유저 프로필 조회
-     * 2) FCM 토큰 존재 여부로 푸시 허용 여부 판단
-     * 3) 실명(표시명), 연락처, 프로필 사진 저장 주소, 커플 연결 여부, 유저 푸시 알림 허용 여부를 포함한 응답 DTO 반환
+     * 1) 설정된 조회 방식(profile.lookup.mode)에 따라 유저 프로필과 FCM 토큰 존재 여부(푸시 허용 여부) 조회
+     * 1-1) SEQUENTIAL: 유저 프로필 조회 후 FCM 토큰 존재 여부 조회
+     * 1-2) PARALLEL: 두 조회를 전용 스레드 풀에서 동시에 실행 (지연 시간 = 두 조회 중 느린 쪽)
+     * 1-3) JOIN: user_profile LEFT JOIN fcm_token 단일 Projection 쿼리로 조회
+     * 2) 실명(표시명), 연락처, 프로필 사진 저장 주소, 커플 연결 여부, 유저 푸시 알림 허용 여부를 포함한 응답 DTO 반환
      *
      * @param userId                        X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @return UserProfileResponse          프로필 조회 결과 응답 DTO (유저 프로필 정보 및 커플 연결 여부 및 유저 푸시 알림 허용 여부 포함)
@@ -47,11 +52,14 @@ public interface UserProfileService {
     /**
      * 현재 로그인한 유저의 프로필(name, phone, profileImage)을 수정
      * 전달된 name, phone, profileImage 중 null이 아닌 필드만 업데이트 (null-머지 방식)
-     * 1) 유저 프로필 조회
-     * 2) name 검증 및 수정
-     * 3) phone 검증 및 수정
-     * 4) profileImage 검증 및 업로드
-     * 5) 저장 + 실패 시 S3 롤백 처리
+     * 이미지 처리·업로드는 트랜잭션 밖에서 수행하고 프로필 반영만 짧은 트랜잭션으로 처리 (처리 대기 중 DB 커넥션을 점유하지 않음)
+     * 1) name 검증
+     * 2) phone 검증
+     * 3) profileImage 검증, 렌디션 생성(썸네일·중간·원본) 및 업로드
+     * 3-1) 디코딩 → 방향 보정·EXIF 제거 → 리사이즈 → JPEG 인코딩 (메모리 상한 내에서 처리)
+     * 3-2) 새 렌디션 동시 업로드
+     * 4) 짧은 트랜잭션에서 유저 프로필 조회, name·phone·새 이미지 URL 반영, 저장 + 기존 이미지(모든 렌디션) 삭제 예약
+     *    실패 시 업로드한 이미지 삭제 예약 (S3 삭제는 백그라운드 워커가 처리)
      *
      * @param userId                        X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param request                       수정 요청 DTO (name, phone, profileImage 중 일부 또는 전체 포함)
@@ -60,13 +68,55 @@ public interface UserProfileService {
      * @throws InfrastructureException      DB_RETRIEVE_FAILURE
      * @throws InfrastructureException      DB_SAVE_FAILURE
      * @throws InfrastructureException      S3_UPLOAD_FAILURE
+     * @throws InfrastructureException      IMAGE_PROCESSING_BUSY
+     * @throws InfrastructureException      IMAGE_PROCESSING_FAILURE
      */
     void updateMyProfile(Long userId, ProfileUpdateRequest request);
 
     /**
-     * 현재 로그인한 유저의 커플 초대 코드 발급
-     * 1) 중복되지 않는 초대코드 생성
-     * 2) Redis에 저장
+     * 프로필 이미지를 S3에 직접 업로드할 수 있는 presigned PUT URL 발급 (이미지 바이트는 서버를 거치지 않음)
+     * 1) Content-Type, 크기 검증
+     * 2) Content-Type, 크기가 서명에 포함된 presigned PUT URL 발급 (업로드된 원본은 비공개)
+     * 3) 발급한 객체 키의 업로드 권한을 Redis에 기록 (URL 만료 후 확인 요청까지 여유 시간 포함)
+     * 4) 업로드 URL, 객체 키, 필수 헤더, 만료 시각 반환
+     *
+     * @param userId                            X-User-Id 헤더에서 전달받은 유저 도메인 ID
+     * @param request                           업로드할 이미지의 Content-Type, 크기
+     * @return ProfileImageUploadUrlResponse    업로드 URL 발급 결과 응답 DTO
+     * @throws ValidationException              허용하지 않는 Content-Type이거나 최대 크기를 넘는 경우
+     * @throws InfrastructureException          IMAGE_UPLOAD_SESSION_FAILURE
+     */
+    ProfileImageUploadUrlResponse issueProfileImageUploadUrl(Long userId, ProfileImageUploadUrlRequest request);
+
+    /**
+     * 직접 업로드한 프로필 이미지를 확인하고 프로필에 반영
+     * 1) 업로드 세션 확인 (본인이 발급받은 키가 아니거나 만료·이미 확인된 경우 거부)
+     * 2) 실제로 업로드된 객체의 존재 여부, Content-Type, 크기 검증 (업로드 완료 전이면 세션을 유지해 재시도 가능, 조건 불일치 시 객체 삭제 예약)
+     * 3) 업로드된 원본을 읽어 렌디션 생성 (프로필 이미지 수정과 같은 처리 파이프라인, 해석할 수 없는 이미지면 원본 삭제 예약)
+     *    그 밖의 실패는 세션과 원본을 유지해 같은 객체 키로 재시도 가능
+     * 4) 렌디션 동시 업로드
+     * 5) 업로드 세션 선점 (동시에 들어온 확인 요청 중 하나만 반영, 나머지는 올린 렌디션 삭제 예약)
+     * 6) 짧은 트랜잭션에서 유저 프로필 조회, 새 렌디션 URL 설정, 저장 + 기존 이미지(모든 렌디션)와 직접 업로드 원본 삭제 예약
+     *    실패 시 업로드한 렌디션 삭제 예약 후 업로드 세션 복구 (S3 삭제는 백그라운드 워커가 처리)
+     *
+     * @param userId                        X-User-Id 헤더에서 전달받은 유저 도메인 ID
+     * @param request                       업로드 URL 발급 시 전달받은 S3 객체 키
+     * @throws EntityNotFoundException      유저 프로필이 존재하지 않는 경우
+     * @throws ValidationException          업로드 세션이 없거나 업로드된 객체가 조건과 다르거나 해석할 수 없는 이미지인 경우
+     * @throws InfrastructureException      IMAGE_UPLOAD_SESSION_FAILURE
+     * @throws InfrastructureException      S3_RETRIEVE_FAILURE
+     * @throws InfrastructureException      IMAGE_PROCESSING_BUSY
+     * @throws InfrastructureException      IMAGE_PROCESSING_FAILURE
+     * @throws InfrastructureException      S3_UPLOAD_FAILURE
+     * @throws InfrastructureException      DB_RETRIEVE_FAILURE
+     * @throws InfrastructureException      DB_SAVE_FAILURE
+     */
+    void confirmProfileImageUpload(Long userId, ProfileImageConfirmRequest request);
+
+    /**
+     * 현재 로그인한 유저의 커플 초대 코드 발급 (유효한 기존 코드가 있으면 TTL을 갱신해 그대로 반환)
+     * 1) 초대 코드 풀에서 꺼내 원자적으로 발급 (기존 코드 확인 + SPOP + 역인덱스 기록을 한 번의 왕복으로 처리)
+     * 2) 풀이 비었거나 비활성화된 경우 후보 초대 코드를 생성해 원자적으로 발급
      * 3) 응답 반환
      *
      * @param userId                        X-User-Id 헤더에서 전달받은 유저 도메인 ID
@@ -80,10 +130,10 @@ public interface UserProfileService {
      * 초대 코드 기반으로 현재 로그인한 유저의 커플 연결 수행
      * 1) 초대 코드로 상대(발급자) userId 조회
      * 2) 자기 자신에게 연결 시도한 경우
-     * 3) 유저 프로필 조회 (본인 + 상대방)
-     * 4) 이미 커플 상태인지 확인
-     * 5) coupleId 설정 및 저장
-     * 6) 초대 코드 삭제
+     * 3) 두 유저 행을 user_id 오름차순으로 잠근 뒤, 모두 커플이 아닐 때만 같은 coupleId로 연결 (조건부 일괄 UPDATE 한 번, 행 잠금으로 동시 연결 방지)
+     * 4) 두 행이 모두 연결되지 않은 경우 원인 확인 후 예외 발생 (트랜잭션 롤백으로 한쪽만 연결된 상태도 취소됨)
+     * 5) 커밋 이후 모든 노드의 커플 ID 캐시·커플 FCM 토큰 캐시 무효화
+     * 6) 커플 연결 이벤트를 outbox에 기록 (초대 코드 삭제·Kafka 발행은 커밋 이후 릴레이가 처리)
      *
      * @param userId                        X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param request                       유저의 커플 연결 요청 DTO (inviteCode)
@@ -95,7 +145,6 @@ public interface UserProfileService {
      * @throws InfrastructureException      DB_RETRIEVE_FAILURE
      * @throws InfrastructureException      DB_SAVE_FAILURE
      * @throws InfrastructureException      INVITE_CODE_RETRIEVE_FAILURE
-     * @throws InfrastructureException      INVITE_CODE_DELETE_FAILURE
      */
     void connectCouple(Long userId, CoupleConnectRequest request);
 
@@ -106,6 +155,8 @@ public interface UserProfileService {
      * 3) 상대방 프로필 조회 (같은 coupleId를 가진 프로필 중 본인이 아닌 상대)
      * 4) 본인과 상대방의 coupleId를 null로 설정하여 커플 해제
      * 5) 두 프로필 모두 저장
+     * 6) 커밋 이후 모든 노드의 커플 ID 캐시·커플 FCM 토큰 캐시 무효화
+     * 7) 커플 해제 이벤트를 outbox에 기록 (Kafka 발행은 커밋 이후 릴레이가 처리)
      *
      * @param userId                        X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @throws EntityNotFoundException      본인 또는 상대방의 프로필이 존재하지 않는 경우
@@ -117,7 +168,7 @@ public interface UserProfileService {
 
     /**
      * 현재 로그인한 유저의 커플 ID 조회
-     * 1) 유저 프로필 조회
+     * 1) 커플 ID 캐시 조회 (미적중 시 유저 프로필 조회 후 캐싱)
      * 2) 커플 ID 여부 확인
      *
      * @param userId                   X-User-Id 헤더에서 전달받은 유저 도메인 ID
@@ -3,38 +3,86 @@ package ready_to_marry.userservice.profile.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import ready_to_marry.userservice.common.exception.BusinessException;
 import ready_to_marry.userservice.common.exception.ErrorCode;
 import ready_to_marry.userservice.common.exception.InfrastructureException;
 import ready_to_marry.userservice.common.exception.ValidationException;
 import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.fcm.cache.CoupleFcmTokenCache;
 import ready_to_marry.userservice.fcm.dto.request.FcmTokenCreateOrUpdateRequest;
 import ready_to_marry.userservice.fcm.service.FcmTokenService;
+import ready_to_marry.userservice.profile.cache.CoupleIdCache;
+import ready_to_marry.userservice.profile.config.InviteCodeProperties;
+import ready_to_marry.userservice.profile.config.ProfileImageProperties;
+import ready_to_marry.userservice.profile.config.ProfileLookupProperties;
 import ready_to_marry.userservice.profile.dto.request.CoupleConnectRequest;
 import ready_to_marry.userservice.profile.dto.request.InternalProfileCreateRequest;
+import ready_to_marry.userservice.profile.dto.request.ProfileImageConfirmRequest;
+import ready_to_marry.userservice.profile.dto.request.ProfileImageUploadUrlRequest;
 import ready_to_marry.userservice.profile.dto.request.ProfileUpdateRequest;
 import ready_to_marry.userservice.profile.dto.response.InviteCodeIssueResponse;
+import ready_to_marry.userservice.profile.dto.response.ProfileImageUploadUrlResponse;
 import ready_to_marry.userservice.profile.dto.response.UserProfileResponse;
+import ready_to_marry.userservice.profile.entity.CoupleOutboxEvent;
 import ready_to_marry.userservice.profile.entity.UserProfile;
+import ready_to_marry.userservice.profile.enums.CoupleEventType;
+import ready_to_marry.userservice.profile.image.ProfileImageProcessor;
+import ready_to_marry.userservice.profile.image.ProfileImageRenditions;
+import ready_to_marry.userservice.profile.redis.ProfileImageUploadRepository;
+import ready_to_marry.userservice.profile.repository.CoupleOutboxEventRepository;
 import ready_to_marry.userservice.profile.repository.UserProfileRepository;
+import ready_to_marry.userservice.profile.repository.projection.UserProfileWithPushProjection;
+import ready_to_marry.userservice.profile.util.InviteCodeGenerator;
 import ready_to_marry.userservice.profile.util.S3Storage;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserProfileServiceImpl implements UserProfileService {
+    private static final String PROFILE_IMAGE_DIR = "user-profile-images";
+    private static final Duration UPLOAD_SESSION_GRACE = Duration.ofMinutes(5);
+    private static final int INVITE_CODE_CANDIDATES = 5;
+
     private final UserProfileRepository userProfileRepository;
+    private final CoupleOutboxEventRepository coupleOutboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
     private final S3Storage s3Storage;
+    private final ProfileImageProcessor profileImageProcessor;
+    private final ProfileImageProperties profileImageProperties;
+    private final ProfileImageUploadRepository profileImageUploadRepository;
+    private final ImageDeletionService imageDeletionService;
     private final InviteCodeService inviteCodeService;
+    private final InviteCodeProperties inviteCodeProperties;
+    private final InviteCodeGenerator inviteCodeGenerator;
     private final FcmTokenService fcmTokenService;
+    private final CoupleIdCache coupleIdCache;
+    private final CoupleFcmTokenCache coupleFcmTokenCache;
+    private final ProfileLookupProperties profileLookupProperties;
+    @Qualifier("profileLookupExecutor")
+    private final Executor profileLookupExecutor;
 
     @Override
     @Transactional
@@ -69,71 +117,34 @@ public class UserProfileServiceImpl implements UserProfileService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public UserProfileResponse getMyProfile(Long userId) {
-        // 1) 유저 프로필 조회
-        UserProfile profile;
-        try {
-            profile = userProfileRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        log.error("User profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
-                        return new EntityNotFoundException("User profile not found");
-                    });
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
-            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
-        }
-
-        // 2) FCM 토큰 존재 여부로 푸시 허용 여부 판단
-        boolean pushEnabled = fcmTokenService.existsByUserId(userId);
-
-        // 3) 실명(표시명), 연락처, 프로필 사진 저장 주소, 커플 연결 여부, 유저 푸시 알림 허용 여부를 포함한 응답 DTO 반환
-        return UserProfileResponse.builder()
-                .name(profile.getName())
-                .phone(profile.getPhone())
-                .profileImgUrl(profile.getProfileImgUrl())
-                .connectedCouple(profile.getCoupleId() != null)
-                .pushNotificationEnabled(pushEnabled)
-                .build();
+        // 트랜잭션을 열지 않음: PARALLEL 모드의 각 조회가 별도 커넥션을 사용하므로 호출 스레드가 커넥션을 추가로 점유하지 않도록 함
+        // 1) 설정된 조회 방식(profile.lookup.mode)에 따라 유저 프로필과 FCM 토큰 존재 여부(푸시 허용 여부) 조회
+        return switch (profileLookupProperties.getMode()) {
+            case SEQUENTIAL -> getMyProfileSequential(userId);
+            case PARALLEL -> getMyProfileParallel(userId);
+            case JOIN -> getMyProfileJoin(userId);
+        };
     }
 
     @Override
-    @Transactional
     public void updateMyProfile(Long userId, ProfileUpdateRequest request) {
-        // 1) 유저 프로필 조회
-        UserProfile profile;
-        try {
-            profile = userProfileRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        log.error("User profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
-                        return new EntityNotFoundException("User profile not found");
-                    });
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
-            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
-        }
-
-        // 2) name 검증 및 수정
+        // 트랜잭션을 열지 않음: 이미지 처리 대기·디코딩·업로드 동안 DB 커넥션을 점유하지 않도록 프로필 반영만 짧은 트랜잭션으로 처리
+        // 1) name 검증
         String name = request.getName();
-        if (name != null) {
-            if (name.isBlank() || name.length() > 50) {
-                throw new ValidationException("name", "must be 1~50 characters and not blank");
-            }
-            profile.setName(name);
+        if (name != null && (name.isBlank() || name.length() > 50)) {
+            throw new ValidationException("name", "must be 1~50 characters and not blank");
         }
 
-        // 3) phone 검증 및 수정
+        // 2) phone 검증
         String phone = request.getPhone();
-        if (phone != null) {
-            if (!phone.matches("^\\+?[0-9\\-]{1,20}$")) {
-                throw new ValidationException("phone", "Invalid phone number format");
-            }
-            profile.setPhone(phone);
+        if (phone != null && !phone.matches("^\\+?[0-9\\-]{1,20}$")) {
+            throw new ValidationException("phone", "Invalid phone number format");
         }
 
-        // 4) profileImage 검증 및 업로드
+        // 3) profileImage 검증, 렌디션 생성(썸네일·중간·원본) 및 업로드
         MultipartFile imageFile = request.getProfileImage();
-        String uploadedImageUrl = null;
+        Map<String, String> uploadedUrls = null;
 
         if (imageFile != null && !imageFile.isEmpty()) {
             String contentType = imageFile.getContentType();
@@ -141,68 +152,164 @@ public class UserProfileServiceImpl implements UserProfileService {
                 throw new ValidationException("profileImage", "Only image files are allowed");
             }
 
-            // 새 이미지 업로드
-            try {
-                uploadedImageUrl = s3Storage.upload(imageFile, "user-profile-images");
-            } catch (IOException ex) {
-                log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.S3_UPLOAD_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
-                throw new InfrastructureException(ErrorCode.S3_UPLOAD_FAILURE, ex);
-            }
+            // 디코딩 → 방향 보정·EXIF 제거 → 리사이즈 → JPEG 인코딩 (메모리 상한 내에서 처리)
+            ProfileImageRenditions renditions = profileImageProcessor.process(imageFile);
+
+            // 새 렌디션 동시 업로드
+            uploadedUrls = uploadRenditions(renditions, userId);
+        }
+        List<String> uploadedImageUrls = uploadedUrls == null ? List.of() : List.copyOf(uploadedUrls.values());
 
-            // 기존 이미지 삭제 (업로드 성공 후)
-            String oldImageUrl = profile.getProfileImgUrl();
-            if (oldImageUrl != null && !oldImageUrl.isBlank()) {
-                try {
-                    s3Storage.delete(oldImageUrl);
-                } catch (Exception ex) {
-                    log.warn("System error occurred while deleting old image: imageUrl={}", oldImageUrl, ex);
+        // 4) 짧은 트랜잭션에서 프로필 조회·수정·저장 + 기존 이미지 삭제 예약 (실패 시 업로드한 렌디션 삭제 예약)
+        Map<String, String> newImageUrls = uploadedUrls;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserProfile profile = findProfile(userId);
+                if (name != null) {
+                    profile.setName(name);
                 }
-            }
+                if (phone != null) {
+                    profile.setPhone(phone);
+                }
+
+                // 기존 이미지(모든 렌디션) URL 보관 후 새로운 이미지 URL 설정
+                List<String> oldImageUrls = List.of();
+                if (newImageUrls != null) {
+                    oldImageUrls = profileImageUrls(profile);
+                    setProfileImageUrls(profile, newImageUrls);
+                }
+
+                saveProfile(profile, oldImageUrls, userId);
+            });
+        } catch (RuntimeException ex) {
+            // S3에 올렸던 이미지 삭제 예약 (rollback)
+            rollbackUploadedImages(uploadedImageUrls);
+            throw ex;
+        }
+    }
 
-            // 새로운 이미지 URL 설정
-            profile.setProfileImgUrl(uploadedImageUrl);
+    @Override
+    public ProfileImageUploadUrlResponse issueProfileImageUploadUrl(Long userId, ProfileImageUploadUrlRequest request) {
+        // 1) Content-Type, 크기 검증
+        String contentType = request.getContentType().toLowerCase(Locale.ROOT);
+        if (!profileImageProperties.getAllowedContentTypes().contains(contentType)) {
+            throw new ValidationException("contentType", "must be one of " + profileImageProperties.getAllowedContentTypes());
+        }
+        if (request.getContentLength() > profileImageProperties.getMaxUploadSize().toBytes()) {
+            throw new ValidationException("contentLength", "must be at most " + profileImageProperties.getMaxUploadSize().toBytes() + " bytes");
         }
 
-        // 5) 저장 + 실패 시 S3 롤백 처리
+        // 2) Content-Type, 크기가 서명에 포함된 presigned PUT URL 발급 (업로드된 원본은 비공개)
+        S3Storage.PresignedUpload upload = s3Storage.presignUpload(
+                PROFILE_IMAGE_DIR, contentType, request.getContentLength(), toExtension(contentType), profileImageProperties.getPresignTtl());
+
+        // 3) 발급한 객체 키의 업로드 권한을 Redis에 기록 (URL 만료 후 확인 요청까지 여유 시간 포함)
         try {
-            userProfileRepository.save(profile);
+            profileImageUploadRepository.save(upload.getKey(), userId, profileImageProperties.getPresignTtl().plus(UPLOAD_SESSION_GRACE));
         } catch (DataAccessException ex) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.IMAGE_UPLOAD_SESSION_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            throw new InfrastructureException(ErrorCode.IMAGE_UPLOAD_SESSION_FAILURE, ex);
+        }
 
-            // S3에 올렸던 이미지 삭제 (rollback)
-            if (uploadedImageUrl != null) {
-                try {
-                    s3Storage.delete(uploadedImageUrl);
-                    log.info("Rolled back uploaded image from S3: imageUrl={}", uploadedImageUrl);
-                } catch (Exception deleteEx) {
-                    log.warn("System error occurred while deleting image from S3 after DB failure: imageUrl={}", uploadedImageUrl, deleteEx);
-                }
+        // 4) 업로드 URL, 객체 키, 필수 헤더, 만료 시각 반환
+        return ProfileImageUploadUrlResponse.builder()
+                .uploadUrl(upload.getUrl())
+                .objectKey(upload.getKey())
+                .requiredHeaders(upload.getSignedHeaders())
+                .expiresAt(upload.getExpiresAt())
+                .build();
+    }
+
+    @Override
+    public void confirmProfileImageUpload(Long userId, ProfileImageConfirmRequest request) {
+        // 트랜잭션을 열지 않음: 원본 다운로드·이미지 처리·업로드 동안 DB 커넥션을 점유하지 않도록 프로필 반영만 짧은 트랜잭션으로 처리
+        String objectKey = request.getObjectKey();
+
+        // 1) 업로드 세션 확인 (본인이 발급받은 키가 아니거나 만료·이미 확인된 경우 거부)
+        try {
+            Optional<Long> owner = profileImageUploadRepository.findUserIdByObjectKey(objectKey);
+            if (owner.isEmpty() || !owner.get().equals(userId)) {
+                throw new ValidationException("objectKey", "Upload session not found or expired");
             }
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.IMAGE_UPLOAD_SESSION_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            throw new InfrastructureException(ErrorCode.IMAGE_UPLOAD_SESSION_FAILURE, ex);
+        }
 
-            throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+        // 2) 실제로 업로드된 객체의 존재 여부, Content-Type, 크기 검증 (업로드 완료 전이면 세션을 유지해 재시도 가능, 조건 불일치 시 객체 삭제 예약)
+        HeadObjectResponse head = s3Storage.head(objectKey)
+                .orElseThrow(() -> new ValidationException("objectKey", "Uploaded image not found"));
+        String uploadedObjectUrl = s3Storage.getFileUrl(objectKey);
+        String contentType = head.contentType() == null ? "" : head.contentType().toLowerCase(Locale.ROOT);
+        if (!profileImageProperties.getAllowedContentTypes().contains(contentType)
+                || head.contentLength() == null
+                || head.contentLength() > profileImageProperties.getMaxUploadSize().toBytes()) {
+            rollbackUploadedImages(List.of(uploadedObjectUrl));
+            throw new ValidationException("objectKey", "Uploaded image does not match the requested content type or size");
         }
-    }
 
-    @Override
-    public InviteCodeIssueResponse issueInviteCode(Long userId) {
-        // 1) 중복되지 않는 초대코드 생성
-        String code = null;
-        for (int i = 0; i < 5; i++) {
-            String candidate = RandomStringUtils.randomAlphanumeric(6).toUpperCase();
-            boolean exists = inviteCodeService.getUserIdByInviteCode(candidate).isPresent();
-            if (!exists) {
-                code = candidate;
-                break;
+        // 3) 업로드된 원본을 읽어 렌디션 생성 (방향 보정·EXIF 제거 → 리사이즈 → JPEG 인코딩, 해석할 수 없는 이미지면 원본 삭제 예약)
+        //    그 밖의 실패(처리 대기 초과, S3 조회 실패 등)는 세션과 원본을 그대로 두어 같은 객체 키로 재시도 가능
+        ProfileImageRenditions renditions;
+        try {
+            byte[] uploaded = s3Storage.download(objectKey);
+            renditions = profileImageProcessor.process(new ByteArrayResource(uploaded), uploaded.length);
+        } catch (ValidationException ex) {
+            rollbackUploadedImages(List.of(uploadedObjectUrl));
+            throw ex;
+        }
+
+        // 4) 렌디션 동시 업로드 (공개 객체)
+        Map<String, String> uploadedUrls = uploadRenditions(renditions, userId);
+        List<String> uploadedImageUrls = List.copyOf(uploadedUrls.values());
+
+        // 5) 업로드 세션 선점 (처리가 끝난 뒤 선점해, 동시에 들어온 확인 요청 중 하나만 반영하고 나머지는 올린 렌디션 삭제 예약)
+        try {
+            if (profileImageUploadRepository.consume(objectKey).isEmpty()) {
+                rollbackUploadedImages(uploadedImageUrls);
+                throw new ValidationException("objectKey", "Upload session not found or expired");
             }
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.IMAGE_UPLOAD_SESSION_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            rollbackUploadedImages(uploadedImageUrls);
+            throw new InfrastructureException(ErrorCode.IMAGE_UPLOAD_SESSION_FAILURE, ex);
         }
-        if (code == null) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.INVITE_CODE_GENERATION_FAILURE, MaskingUtils.maskUserId(userId));
-            throw new InfrastructureException(ErrorCode.INVITE_CODE_GENERATION_FAILURE, null);
+
+        // 6) 짧은 트랜잭션에서 유저 프로필 조회, 새 렌디션 URL 설정, 저장 + 기존 이미지(모든 렌디션)·직접 업로드 원본 삭제 예약
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserProfile profile = findProfile(userId);
+                List<String> obsoleteImageUrls = new ArrayList<>(profileImageUrls(profile));
+                obsoleteImageUrls.add(uploadedObjectUrl);
+                setProfileImageUrls(profile, uploadedUrls);
+                saveProfile(profile, obsoleteImageUrls, userId);
+            });
+        } catch (RuntimeException ex) {
+            // S3에 올렸던 렌디션 삭제 예약 (rollback) + 같은 객체 키로 재시도할 수 있도록 업로드 세션 복구
+            rollbackUploadedImages(uploadedImageUrls);
+            restoreUploadSession(objectKey, userId, uploadedObjectUrl);
+            throw ex;
         }
+    }
 
-        // 2) Redis에 저장
+    @Override
+    public InviteCodeIssueResponse issueInviteCode(Long userId) {
+        String code;
         try {
-            inviteCodeService.save(code, userId);
+            // 1) 초대 코드 풀에서 꺼내 원자적으로 발급 (기존 코드 확인 + SPOP + 역인덱스 기록을 한 번의 왕복으로 처리)
+            Optional<String> pooled = inviteCodeProperties.getPool().isEnabled()
+                    ? inviteCodeService.issueFromPool(userId)
+                    : Optional.empty();
+
+            // 2) 풀이 비었거나 비활성화된 경우 후보 초대 코드를 생성해 원자적으로 발급
+            if (pooled.isEmpty()) {
+                pooled = inviteCodeService.issue(userId, List.copyOf(inviteCodeGenerator.generate(INVITE_CODE_CANDIDATES)));
+            }
+
+            code = pooled.orElseThrow(() -> {
+                log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.INVITE_CODE_GENERATION_FAILURE.getMessage(), MaskingUtils.maskUserId(userId));
+                return new InfrastructureException(ErrorCode.INVITE_CODE_GENERATION_FAILURE, null);
+            });
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.INVITE_CODE_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
             throw new InfrastructureException(ErrorCode.INVITE_CODE_SAVE_FAILURE, ex);
@@ -238,70 +345,28 @@ public class UserProfileServiceImpl implements UserProfileService {
             throw new BusinessException(ErrorCode.CANNOT_CONNECT_TO_SELF);
         }
 
-        // 3) 유저 프로필 조회 (본인 + 상대방)
-        UserProfile me;
-        UserProfile partner;
-
-        try {
-            me = userProfileRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        log.error("User profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
-                        return new EntityNotFoundException("User profile not found");
-                    });
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
-            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
-        }
-
-        try {
-            partner = userProfileRepository.findById(targetUserId)
-                    .orElseThrow(() -> {
-                        log.error("Target user profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(targetUserId));
-                        return new EntityNotFoundException("Target user profile not found");
-                    });
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(targetUserId), ex);
-            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
-        }
-
-        // 4) 이미 커플 상태인지 확인
-        if (me.getCoupleId() != null) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.ALREADY_CONNECTED_SELF.getMessage(), MaskingUtils.maskUserId(userId));
-            throw new BusinessException(ErrorCode.ALREADY_CONNECTED_SELF);
-        }
-
-        if (partner.getCoupleId() != null) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.ALREADY_CONNECTED_PARTNER.getMessage(), MaskingUtils.maskUserId(targetUserId));
-            throw new BusinessException(ErrorCode.ALREADY_CONNECTED_PARTNER);
-        }
-
-        // 5) coupleId 설정 및 저장
+        // 3) 두 유저 행을 user_id 오름차순으로 잠근 뒤, 모두 커플이 아닐 때만 같은 coupleId로 연결 (조건부 일괄 UPDATE 한 번, 행 잠금으로 동시 연결 방지)
         UUID coupleId = UUID.randomUUID();
-
-        me.setCoupleId(coupleId);
-        partner.setCoupleId(coupleId);
-
+        int connected;
         try {
-            userProfileRepository.save(me);
+            userProfileRepository.lockForCoupleConnect(userId, targetUserId);
+            connected = userProfileRepository.connectCouple(coupleId, userId, targetUserId);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
 
-        try {
-            userProfileRepository.save(partner);
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(targetUserId), ex);
-            throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+        // 4) 두 행이 모두 연결되지 않은 경우 원인 확인 후 예외 발생 (트랜잭션 롤백으로 한쪽만 연결된 상태도 취소됨)
+        if (connected != 2) {
+            throw coupleConnectFailure(userId, targetUserId, coupleId);
         }
 
-        // 6) 초대 코드 삭제
-        try {
-            inviteCodeService.delete(code);
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=inviteCode, identifierValue={}", ErrorCode.INVITE_CODE_DELETE_FAILURE.getMessage(), MaskingUtils.maskInviteCode(code), ex);
-            throw new InfrastructureException(ErrorCode.INVITE_CODE_DELETE_FAILURE, ex);
-        }
+        // 5) 커밋 이후 모든 노드의 커플 ID 캐시·커플 FCM 토큰 캐시 무효화
+        coupleIdCache.evictAfterCommit(userId, targetUserId);
+        coupleFcmTokenCache.evictAfterCommit(coupleId);
+
+        // 6) 커플 연결 이벤트를 outbox에 기록 (초대 코드 삭제·Kafka 발행은 커밋 이후 릴레이가 처리)
+        recordCoupleEvent(CoupleEventType.CONNECTED, coupleId, userId, targetUserId, code);
     }
 
     @Override
@@ -360,15 +425,80 @@ public class UserProfileServiceImpl implements UserProfileService {
             log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(partner.getUserId()), ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
+
+        // 6) 커밋 이후 모든 노드의 커플 ID 캐시·커플 FCM 토큰 캐시 무효화
+        coupleIdCache.evictAfterCommit(userId, partner.getUserId());
+        coupleFcmTokenCache.evictAfterCommit(coupleId);
+
+        // 7) 커플 해제 이벤트를 outbox에 기록 (Kafka 발행은 커밋 이후 릴레이가 처리)
+        recordCoupleEvent(CoupleEventType.RELEASED, coupleId, userId, partner.getUserId(), null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public UUID getCoupleIdOrThrow(Long userId) {
-        // 1) 유저 프로필 조회
-        UserProfile profile;
+        // 1) 커플 ID 캐시 조회 (미적중 시 유저 프로필 조회 후 캐싱)
+        UUID coupleId = coupleIdCache.get(userId, this::findCoupleId);
+
+        // 2) 커플 ID 여부 확인
+        if (coupleId == null) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.COUPLE_NOT_CONNECTED.getMessage(), MaskingUtils.maskUserId(userId));
+            throw new BusinessException(ErrorCode.COUPLE_NOT_CONNECTED);
+        }
+
+        return coupleId;
+    }
+
+    /**
+     * 유저 프로필을 조회하여 커플 ID 반환 (커플 미연결 시 null)
+     */
+    private UUID findCoupleId(Long userId) {
+        try {
+            return userProfileRepository.findById(userId)
+                    .orElseThrow(() -> {
+                        log.error("User profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
+                        return new EntityNotFoundException("User profile not found");
+                    })
+                    .getCoupleId();
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+    }
+
+    /**
+     * 유저 프로필 조회 후 FCM 토큰 존재 여부를 순차 조회 (SEQUENTIAL)
+     */
+    private UserProfileResponse getMyProfileSequential(Long userId) {
+        UserProfile profile = findProfile(userId);
+        boolean pushEnabled = fcmTokenService.existsByUserId(userId);
+
+        return toProfileResponse(profile, pushEnabled);
+    }
+
+    /**
+     * 유저 프로필과 FCM 토큰 존재 여부를 전용 스레드 풀에서 동시에 조회 (PARALLEL)
+     */
+    private UserProfileResponse getMyProfileParallel(Long userId) {
+        CompletableFuture<UserProfile> profileFuture =
+                CompletableFuture.supplyAsync(() -> findProfile(userId), profileLookupExecutor);
+        CompletableFuture<Boolean> pushFuture =
+                CompletableFuture.supplyAsync(() -> fcmTokenService.existsByUserId(userId), profileLookupExecutor);
+
+        UserProfile profile = awaitLookup(profileFuture, userId);
+        boolean pushEnabled = awaitLookup(pushFuture, userId);
+
+        return toProfileResponse(profile, pushEnabled);
+    }
+
+    /**
+     * 유저 프로필과 FCM 토큰 존재 여부를 LEFT JOIN 단일 쿼리로 조회 (JOIN)
+     * 쓰기 지연 버퍼에 대기 중인 토큰도 푸시 허용으로 간주 (SEQUENTIAL/PARALLEL의 existsByUserId와 같은 결과)
+     */
+    private UserProfileResponse getMyProfileJoin(Long userId) {
+        UserProfileWithPushProjection proj;
         try {
-            profile = userProfileRepository.findById(userId)
+            proj = userProfileRepository.findWithPushEnabledByUserId(userId)
                     .orElseThrow(() -> {
                         log.error("User profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
                         return new EntityNotFoundException("User profile not found");
@@ -378,13 +508,193 @@ public class UserProfileServiceImpl implements UserProfileService {
             throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
         }
 
-        // 2) 커플 ID 여부 확인
-        UUID coupleId = profile.getCoupleId();
-        if (coupleId == null) {
-            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.COUPLE_NOT_CONNECTED.getMessage(), MaskingUtils.maskUserId(userId));
-            throw new BusinessException(ErrorCode.COUPLE_NOT_CONNECTED);
+        return UserProfileResponse.builder()
+                .name(proj.getName())
+                .phone(proj.getPhone())
+                .profileImgUrl(proj.getProfileImgUrl())
+                .profileImgMediumUrl(proj.getProfileImgMediumUrl())
+                .profileImgThumbnailUrl(proj.getProfileImgThumbnailUrl())
+                .connectedCouple(proj.getCoupleId() != null)
+                .pushNotificationEnabled(Boolean.TRUE.equals(proj.getPushNotificationEnabled()) || fcmTokenService.hasPendingToken(userId))
+                .build();
+    }
+
+    /**
+     * 유저 프로필 조회 (없으면 EntityNotFoundException, DB 오류 시 DB_RETRIEVE_FAILURE)
+     */
+    private UserProfile findProfile(Long userId) {
+        try {
+            return userProfileRepository.findById(userId)
+                    .orElseThrow(() -> {
+                        log.error("User profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(userId));
+                        return new EntityNotFoundException("User profile not found");
+                    });
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
         }
+    }
 
-        return coupleId;
+    /**
+     * 비동기 조회 결과 대기 (조회 중 발생한 예외는 그대로 전파, 시간 초과·인터럽트는 DB_RETRIEVE_FAILURE)
+     */
+    private <T> T awaitLookup(CompletableFuture<T> future, Long userId) {
+        try {
+            return future.get(profileLookupProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex.getCause());
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            log.error("{}: identifierType=userId, identifierValue={}, reason=timeout", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId));
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+    }
+
+    /**
+     * 실명(표시명), 연락처, 프로필 사진 저장 주소, 커플 연결 여부, 유저 푸시 알림 허용 여부를 포함한 응답 DTO 생성
+     */
+    private UserProfileResponse toProfileResponse(UserProfile profile, boolean pushEnabled) {
+        return UserProfileResponse.builder()
+                .name(profile.getName())
+                .phone(profile.getPhone())
+                .profileImgUrl(profile.getProfileImgUrl())
+                .profileImgMediumUrl(profile.getProfileImgMediumUrl())
+                .profileImgThumbnailUrl(profile.getProfileImgThumbnailUrl())
+                .connectedCouple(profile.getCoupleId() != null)
+                .pushNotificationEnabled(pushEnabled)
+                .build();
+    }
+
+    /**
+     * 커플 연결/해제 이벤트를 현재 트랜잭션의 outbox에 기록 (트랜잭션이 롤백되면 이벤트도 함께 취소됨)
+     */
+    private void recordCoupleEvent(CoupleEventType eventType, UUID coupleId, Long userId, Long partnerId, String inviteCode) {
+        try {
+            coupleOutboxEventRepository.save(CoupleOutboxEvent.builder()
+                    .eventType(eventType)
+                    .coupleId(coupleId)
+                    .userId(userId)
+                    .partnerId(partnerId)
+                    .inviteCode(inviteCode)
+                    .nextAttemptAt(OffsetDateTime.now())
+                    .build());
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
+            throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+        }
+    }
+
+    /**
+     * 커플 연결 UPDATE가 두 행을 모두 바꾸지 못한 원인에 맞는 예외 생성 (본인·상대방 순으로 확인)
+     * - 한쪽만 연결된 경우 그 행은 이번 요청의 coupleId를 갖고 있으므로 다른 coupleId일 때만 이미 커플로 판단
+     */
+    private RuntimeException coupleConnectFailure(Long userId, Long targetUserId, UUID coupleId) {
+        UserProfile me = findProfile(userId);
+
+        boolean partnerExists;
+        try {
+            partnerExists = userProfileRepository.existsById(targetUserId);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskUserId(targetUserId), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+        if (!partnerExists) {
+            log.error("Target user profile not found: identifierType=userId, identifierValue={}", MaskingUtils.maskUserId(targetUserId));
+            return new EntityNotFoundException("Target user profile not found");
+        }
+
+        if (me.getCoupleId() != null && !me.getCoupleId().equals(coupleId)) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.ALREADY_CONNECTED_SELF.getMessage(), MaskingUtils.maskUserId(userId));
+            return new BusinessException(ErrorCode.ALREADY_CONNECTED_SELF);
+        }
+
+        log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.ALREADY_CONNECTED_PARTNER.getMessage(), MaskingUtils.maskUserId(targetUserId));
+        return new BusinessException(ErrorCode.ALREADY_CONNECTED_PARTNER);
+    }
+
+    /**
+     * 유저 프로필에 저장된 프로필 사진 렌디션 URL 목록 (비어 있는 값 제외)
+     */
+    private List<String> profileImageUrls(UserProfile profile) {
+        List<String> urls = new ArrayList<>(3);
+        for (String url : new String[]{profile.getProfileImgUrl(), profile.getProfileImgMediumUrl(), profile.getProfileImgThumbnailUrl()}) {
+            if (url != null && !url.isBlank()) {
+                urls.add(url);
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * 렌디션(원본·중간·썸네일) 동시 업로드
+     *
+     * @return 렌디션 이름 → 업로드된 public URL
+     */
+    private Map<String, String> uploadRenditions(ProfileImageRenditions renditions, Long userId) {
+        try {
+            return s3Storage.uploadAll(renditions.asMap(), PROFILE_IMAGE_DIR, ProfileImageRenditions.CONTENT_TYPE, ProfileImageRenditions.EXTENSION);
+        } catch (IOException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.S3_UPLOAD_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            throw new InfrastructureException(ErrorCode.S3_UPLOAD_FAILURE, ex);
+        }
+    }
+
+    private void setProfileImageUrls(UserProfile profile, Map<String, String> uploadedUrls) {
+        profile.setProfileImgUrl(uploadedUrls.get(ProfileImageRenditions.ORIGINAL));
+        profile.setProfileImgMediumUrl(uploadedUrls.get(ProfileImageRenditions.MEDIUM));
+        profile.setProfileImgThumbnailUrl(uploadedUrls.get(ProfileImageRenditions.THUMBNAIL));
+    }
+
+    /**
+     * 프로필 저장 + 더 이상 참조하지 않는 이미지 삭제 예약 (호출한 트랜잭션 안에서 함께 기록)
+     */
+    private void saveProfile(UserProfile profile, List<String> obsoleteImageUrls, Long userId) {
+        try {
+            userProfileRepository.save(profile);
+            imageDeletionService.enqueue(obsoleteImageUrls);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+        }
+    }
+
+    /**
+     * 선점한 업로드 세션 복구 (프로필 반영 실패 시 같은 객체 키로 다시 확인할 수 있도록)
+     * 복구하지 못하면 더 이상 확인할 수 없는 직접 업로드 원본 삭제 예약
+     */
+    private void restoreUploadSession(String objectKey, Long userId, String uploadedObjectUrl) {
+        try {
+            profileImageUploadRepository.save(objectKey, userId, profileImageProperties.getPresignTtl().plus(UPLOAD_SESSION_GRACE));
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=userId, identifierValue={}", ErrorCode.IMAGE_UPLOAD_SESSION_FAILURE.getMessage(), MaskingUtils.maskUserId(userId), ex);
+            rollbackUploadedImages(List.of(uploadedObjectUrl));
+        }
+    }
+
+    /**
+     * DB 저장 실패 등으로 반영되지 못한 업로드 이미지 삭제 예약 (rollback, 현재 트랜잭션과 무관하게 별도 트랜잭션으로 기록)
+     */
+    private void rollbackUploadedImages(List<String> uploadedImageUrls) {
+        if (!uploadedImageUrls.isEmpty()) {
+            imageDeletionService.enqueueInNewTransaction(uploadedImageUrls);
+        }
+    }
+
+    /**
+     * Content-Type에 맞는 파일 확장자
+     */
+    private String toExtension(String contentType) {
+        return switch (contentType) {
+            case "image/jpeg" -> ".jpg";
+            case "image/png" -> ".png";
+            case "image/webp" -> ".webp";
+            default -> "";
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package ready_to_marry.userservice.profile.util;
+
+import org.springframework.stereotype.Component;
+import ready_to_marry.userservice.profile.config.InviteCodeProperties;
+
+import java.security.SecureRandom;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 설정된 문자 집합·길이(invite-code.alphabet, invite-code.length)로 추측하기 어려운 초대 코드를 생성하는 컴포넌트
+ */
+@Component
+public class InviteCodeGenerator {
+    // 여러 개 생성 시 요청 수 대비 최대 시도 배수 (코드 공간이 요청 수보다 작을 때 무한 반복 방지)
+    private static final int MAX_ATTEMPTS_PER_CODE = 10;
+
+    private final SecureRandom random = new SecureRandom();
+    private final char[] alphabet;
+    private final int length;
+
+    public InviteCodeGenerator(InviteCodeProperties inviteCodeProperties) {
+        this.alphabet = inviteCodeProperties.getAlphabet().toCharArray();
+        this.length = inviteCodeProperties.getLength();
+        if (alphabet.length < 2 || length < 1) {
+            throw new IllegalStateException("invite-code.alphabet must have at least 2 characters and invite-code.length must be positive");
+        }
+
+        // 풀을 목표 크기까지 채울 수 있을 만큼 코드 공간이 큰지 확인
+        InviteCodeProperties.Pool pool = inviteCodeProperties.getPool();
+        double codeSpace = Math.pow(inviteCodeProperties.getAlphabet().chars().distinct().count(), length);
+        if (pool.isEnabled() && codeSpace < pool.getTargetSize()) {
+            throw new IllegalStateException("invite-code.alphabet^invite-code.length must not be smaller than invite-code.pool.target-size");
+        }
+    }
+
+    /**
+     * 초대 코드 한 개 생성
+     *
+     * @return 초대 코드
+     */
+    public String generate() {
+        char[] code = new char[length];
+        for (int i = 0; i < length; i++) {
+            code[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(code);
+    }
+
+    /**
+     * 서로 다른 초대 코드 여러 개 생성
+     * 최대 count * 10번까지만 시도하므로 코드 공간이 부족하면 count보다 적게 반환될 수 있음
+     *
+     * @param count 생성할 코드 수
+     * @return 중복 없는 초대 코드 집합 (최대 count개)
+     */
+    public Set<String> generate(int count) {
+        Set<String> codes = new LinkedHashSet<>(count * 2);
+        long maxAttempts = (long) count * MAX_ATTEMPTS_PER_CODE;
+        for (long attempt = 0; attempt < maxAttempts && codes.size() < count; attempt++) {
+            codes.add(generate());
+        }
+        return codes;
+    }
+}
@@ -1,32 +1,69 @@
 package ready_to_marry.userservice.profile.util;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import ready_to_marry.userservice.common.config.AwsProperties;
+import ready_to_marry.userservice.common.exception.ErrorCode;
+import ready_to_marry.userservice.common.exception.InfrastructureException;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  * S3 파일 저장 및 삭제 기능을 제공하는 유틸리티 컴포넌트
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class S3Storage {
+    // DeleteObjects 한 번에 삭제할 수 있는 최대 키 수 (S3 제한)
+    public static final int MAX_DELETE_KEYS = 1000;
+
     private final AwsProperties awsProperties;
     private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    private S3Presigner s3Presigner;
 
     @PostConstruct
     public void init() {
@@ -41,6 +78,37 @@ public class S3Storage {
                         )
                 )
                 .build();
+
+        this.s3AsyncClient = S3AsyncClient.builder()
+                .region(Region.of(awsProperties.getRegion().getStaticRegion()))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(
+                                        awsProperties.getCredentials().getAccessKey(),
+                                        awsProperties.getCredentials().getSecretKey()
+                                )
+                        )
+                )
+                .build();
+
+        this.s3Presigner = S3Presigner.builder()
+                .region(Region.of(awsProperties.getRegion().getStaticRegion()))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(
+                                        awsProperties.getCredentials().getAccessKey(),
+                                        awsProperties.getCredentials().getSecretKey()
+                                )
+                        )
+                )
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        s3Presigner.close();
+        s3AsyncClient.close();
+        s3Client.close();
     }
 
     /**
@@ -71,6 +139,162 @@ public class S3Storage {
         return getFileUrl(fileName);
     }
 
+    /**
+     * 같은 이름 접두사를 공유하는 여러 객체를 S3AsyncClient로 동시에 업로드
+     * - 키: {dir}/{UUID}_{yyyyMMddHHmmss}_{이름}{확장자}
+     * - 하나라도 실패하면 이미 올라간 객체를 삭제한 뒤 예외 발생
+     *
+     * @param objects       이름 → 업로드할 바이트
+     * @param dir           업로드할 S3 디렉토리
+     * @param contentType   Content-Type
+     * @param extension     파일 확장자 (예: .jpg)
+     * @return 이름 → 업로드된 객체의 public URL
+     * @throws IOException 업로드 실패 시
+     */
+    public Map<String, String> uploadAll(Map<String, byte[]> objects, String dir, String contentType, String extension) throws IOException {
+        String baseName = dir + "/" + UUID.randomUUID() + "_" +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+        // 1) 모든 객체 업로드를 동시에 시작
+        Map<String, String> keys = new LinkedHashMap<>();
+        Map<String, CompletableFuture<PutObjectResponse>> futures = new LinkedHashMap<>();
+        objects.forEach((name, bytes) -> {
+            String key = baseName + "_" + name + extension;
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(awsProperties.getS3().getBucket())
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength((long) bytes.length)
+                    .acl(ObjectCannedACL.PUBLIC_READ)
+                    .build();
+            keys.put(name, key);
+            futures.put(name, s3AsyncClient.putObject(request, AsyncRequestBody.fromBytes(bytes)));
+        });
+
+        // 2) 전부 완료될 때까지 대기
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ex) {
+            // 3) 실패 시 성공한 객체만 삭제 (롤백)
+            futures.forEach((name, future) -> {
+                if (!future.isCompletedExceptionally()) {
+                    try {
+                        s3Client.deleteObject(DeleteObjectRequest.builder()
+                                .bucket(awsProperties.getS3().getBucket())
+                                .key(keys.get(name))
+                                .build());
+                    } catch (Exception deleteEx) {
+                        log.warn("System error occurred while deleting partially uploaded image: key={}", keys.get(name), deleteEx);
+                    }
+                }
+            });
+            throw new IOException("Failed to upload objects to S3", ex.getCause());
+        }
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        keys.forEach((name, key) -> urls.put(name, getFileUrl(key)));
+        return urls;
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 수 있는 presigned PUT URL 발급
+     * - Content-Type, Content-Length가 서명에 포함되므로 클라이언트는 같은 헤더로만 업로드 가능
+     * - 업로드된 원본은 공개하지 않음 (확인 시 렌디션으로 변환해 공개 객체로 다시 업로드)
+     * - 키: {dir}/{UUID}_{yyyyMMddHHmmss}{확장자}
+     *
+     * @param dir           업로드할 S3 디렉토리
+     * @param contentType   업로드할 파일의 Content-Type
+     * @param contentLength 업로드할 파일의 크기 (byte)
+     * @param extension     파일 확장자 (예: .jpg)
+     * @param ttl           URL 유효 기간
+     * @return presigned URL, 객체 키, 서명에 포함된 헤더, 만료 시각
+     */
+    public PresignedUpload presignUpload(String dir, String contentType, long contentLength, String extension, Duration ttl) {
+        String key = dir + "/" + UUID.randomUUID() + "_" +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + extension;
+
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(request)
+                .build());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new PresignedUpload(presigned.url().toString(), key, headers, presigned.expiration());
+    }
+
+    /**
+     * S3 객체 메타데이터 조회
+     *
+     * @param key S3 객체 키
+     * @return 객체 메타데이터 (객체가 없으면 Optional.empty())
+     * @throws InfrastructureException S3_RETRIEVE_FAILURE
+     */
+    public Optional<HeadObjectResponse> head(String key) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(awsProperties.getS3().getBucket())
+                    .key(key)
+                    .build()));
+        } catch (NoSuchKeyException ex) {
+            return Optional.empty();
+        } catch (S3Exception ex) {
+            if (ex.statusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("{}: identifierType=objectKey, identifierValue={}", ErrorCode.S3_RETRIEVE_FAILURE.getMessage(), key, ex);
+            throw new InfrastructureException(ErrorCode.S3_RETRIEVE_FAILURE, ex);
+        } catch (SdkException ex) {
+            log.error("{}: identifierType=objectKey, identifierValue={}", ErrorCode.S3_RETRIEVE_FAILURE.getMessage(), key, ex);
+            throw new InfrastructureException(ErrorCode.S3_RETRIEVE_FAILURE, ex);
+        }
+    }
+
+    /**
+     * S3 객체 내용 전체 조회 (크기 상한을 검증한 객체에만 사용)
+     *
+     * @param key S3 객체 키
+     * @return 객체 바이트
+     * @throws InfrastructureException S3_RETRIEVE_FAILURE
+     */
+    public byte[] download(String key) {
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(awsProperties.getS3().getBucket())
+                    .key(key)
+                    .build()).asByteArrayUnsafe();
+        } catch (SdkException ex) {
+            log.error("{}: identifierType=objectKey, identifierValue={}", ErrorCode.S3_RETRIEVE_FAILURE.getMessage(), key, ex);
+            throw new InfrastructureException(ErrorCode.S3_RETRIEVE_FAILURE, ex);
+        }
+    }
+
+    /**
+     * S3 객체 키에 해당하는 public URL
+     *
+     * @param key S3 객체 키
+     * @return public URL
+     */
+    public String getFileUrl(String key) {
+        return String.format("https://%s.s3.%s.amazonaws.com/%s",
+                awsProperties.getS3().getBucket(),
+                awsProperties.getRegion().getStaticRegion(),
+                key
+        );
+    }
+
     /**
      * S3에서 파일 삭제
      *
@@ -86,12 +310,56 @@ public class S3Storage {
         s3Client.deleteObject(request);
     }
 
-    private String getFileUrl(String key) {
-        return String.format("https://%s.s3.%s.amazonaws.com/%s",
-                awsProperties.getS3().getBucket(),
-                awsProperties.getRegion().getStaticRegion(),
-                key
-        );
+    /**
+     * S3에서 여러 객체를 DeleteObjects 한 번의 호출로 삭제 (quiet 모드: 실패한 키만 응답에 포함)
+     * - 이미 없는 키는 S3가 성공으로 처리
+     *
+     * @param keys 삭제할 S3 객체 키 (최대 1000개)
+     * @return 삭제에 실패한 키 → 실패 사유 (전부 성공하면 빈 Map)
+     * @throws S3Exception DeleteObjects 호출 자체가 실패한 경우
+     */
+    public Map<String, String> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        if (keys.size() > MAX_DELETE_KEYS) {
+            throw new IllegalArgumentException("DeleteObjects accepts at most " + MAX_DELETE_KEYS + " keys");
+        }
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(builder -> builder
+                .bucket(awsProperties.getS3().getBucket())
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build()));
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        response.errors().forEach(error -> failures.put(error.key(), error.code() + ": " + error.message()));
+        return failures;
+    }
+
+    /**
+     * 접두사 아래의 모든 객체를 페이지(최대 1000개) 단위로 순회
+     *
+     * @param prefix        조회할 S3 키 접두사 (예: user-profile-images/)
+     * @param pageConsumer  페이지별 객체 목록을 처리할 콜백
+     */
+    public void listObjects(String prefix, Consumer<List<S3Object>> pageConsumer) {
+        s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(awsProperties.getS3().getBucket())
+                        .prefix(prefix)
+                        .build())
+                .forEach(page -> pageConsumer.accept(page.contents()));
+    }
+
+    /**
+     * public URL에서 S3 객체 키 추출
+     *
+     * @param fileUrl 전체 public URL
+     * @return S3 객체 키
+     */
+    public String extractKeyFromUrl(String fileUrl) {
+        return fileUrl.substring(fileUrl.indexOf(".com/") + 5);
     }
 
     private String getFileExtension(String filename) {
@@ -100,7 +368,22 @@ public class S3Storage {
                 : "";
     }
 
-    private String extractKeyFromUrl(String fileUrl) {
-        return fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+    /**
+     * presigned PUT URL 발급 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PresignedUpload {
+        // 업로드할 presigned URL
+        private final String url;
+
+        // 업로드될 S3 객체 키
+        private final String key;
+
+        // 업로드 요청에 그대로 포함해야 하는 서명된 헤더
+        private final Map<String, String> signedHeaders;
+
+        // URL 만료 시각
+        private final Instant expiresAt;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,168 @@
+package ready_to_marry.userservice.schedule.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ready_to_marry.userservice.common.util.MaskingUtils;
+import ready_to_marry.userservice.schedule.config.ScheduleMonthlyCacheProperties;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 커플 월별 일정 요약(직렬화된 JSON)을 보관하는 Redis 캐시
+ *
+ * - 버전: schedule:{coupleId}:version 해시의 월(yyyy-MM) 필드, 일정 변경 시 커밋 이후 해당 월만 증가
+ * - 요약: schedule:{coupleId}:{yyyy-MM}:v{version} 키에 저장 (버전이 바뀌면 이전 키는 읽히지 않고 TTL로 만료)
+ * - 버전은 처음 만들 때 현재 시각(ms)에서 시작해 만료 후 다시 만들어져도 이전 ETag와 겹치지 않음
+ * - 키에 {coupleId} 해시 태그를 붙여 한 커플의 키가 같은 슬롯에 위치 (스크립트가 버전과 요약을 한 번에 읽음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleMonthlyCache {
+    private static final String KEY_PREFIX = "schedule:{";
+
+    // KEYS[1] = 버전 해시 / ARGV[1] = 월, ARGV[2] = 요약 키 접두사, ARGV[3] = 현재 시각(ms), ARGV[4] = 버전 TTL(ms)
+    // 월 버전(없으면 현재 시각으로 생성)과 해당 버전의 요약을 함께 반환
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not version then " +
+            "  version = ARGV[3] " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], version) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "end " +
+            "local cached = redis.call('GET', ARGV[2] .. version) " +
+            "if cached then return {version, cached} end " +
+            "return {version}",
+            List.class
+    );
+
+    // KEYS[1] = 버전 해시 / ARGV[1] = 현재 시각(ms), ARGV[2] = 버전 TTL(ms), ARGV[3..] = 월
+    // 월마다 버전을 max(현재 버전 + 1, 현재 시각)으로 증가
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "for i = 3, #ARGV do " +
+            "  local current = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0') " +
+            "  local next = math.max(current + 1, tonumber(ARGV[1])) " +
+            "  redis.call('HSET', KEYS[1], ARGV[i], string.format('%.0f', next)) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final ScheduleMonthlyCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 월 버전과 해당 버전의 요약 조회 (Redis 한 번 왕복)
+     * Redis 장애 시 로그만 남기고 버전을 알 수 없는 결과 반환
+     *
+     * @param coupleId  커플 ID
+     * @param yearMonth 조회할 연월
+     * @return 월 버전(장애 시 null)과 캐싱된 요약 JSON(미적중 시 null)
+     */
+    public Entry get(UUID coupleId, YearMonth yearMonth) {
+        try {
+            List<?> result = redisTemplate.execute(READ_SCRIPT, List.of(generateVersionKey(coupleId)),
+                    yearMonth.toString(), generateSummaryKeyPrefix(coupleId, yearMonth),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(properties.getVersionTtl().toMillis()));
+            if (result == null || result.isEmpty()) {
+                return new Entry(null, null);
+            }
+            return new Entry((String) result.get(0), result.size() > 1 ? (String) result.get(1) : null);
+        } catch (DataAccessException ex) {
+            log.warn("System error occurred while retrieving monthly schedule cache from redis: identifierType=coupleId, identifierValue={}",
+                    MaskingUtils.maskCoupleId(coupleId), ex);
+            return new Entry(null, null);
+        }
+    }
+
+    /**
+     * 조회 시점의 버전으로 요약 저장 (조회 도중 버전이 바뀌었으면 이 키는 다시 읽히지 않음)
+     *
+     * @param coupleId  커플 ID
+     * @param yearMonth 연월
+     * @param version   요약을 조회하기 전에 읽은 월 버전
+     * @param json      직렬화된 요약 목록
+     */
+    public void put(UUID coupleId, YearMonth yearMonth, String version, String json) {
+        try {
+            redisTemplate.opsForValue().set(generateSummaryKeyPrefix(coupleId, yearMonth) + version, json, properties.getTtl());
+        } catch (DataAccessException ex) {
+            log.warn("System error occurred while saving monthly schedule cache to redis: identifierType=coupleId, identifierValue={}",
+                    MaskingUtils.maskCoupleId(coupleId), ex);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 해당 월들의 버전 증가 (다른 월의 캐시와 ETag는 그대로 유지)
+     * 트랜잭션이 없으면 즉시 증가
+     *
+     * @param coupleId    커플 ID
+     * @param yearMonths  일정이 변경된 연월 목록 (중복 허용)
+     */
+    public void bumpAfterCommit(UUID coupleId, Collection<YearMonth> yearMonths) {
+        Set<YearMonth> months = new TreeSet<>(yearMonths);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(coupleId, months);
+                }
+            });
+        } else {
+            bump(coupleId, months);
+        }
+    }
+
+    private void bump(UUID coupleId, Set<YearMonth> months) {
+        List<String> args = new ArrayList<>(months.size() + 2);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(properties.getVersionTtl().toMillis()));
+        months.forEach(month -> args.add(month.toString()));
+
+        // 실패 시 해당 월은 요약 TTL이 지날 때까지 이전 요약이 보일 수 있음
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, List.of(generateVersionKey(coupleId)), args.toArray());
+        } catch (DataAccessException ex) {
+            log.error("System error occurred while bumping monthly schedule cache version: identifierType=coupleId, identifierValue={}",
+                    MaskingUtils.maskCoupleId(coupleId), ex);
+        }
+    }
+
+    private String generateVersionKey(UUID coupleId) {
+        return KEY_PREFIX + coupleId + "}:version";
+    }
+
+    private String generateSummaryKeyPrefix(UUID coupleId, YearMonth yearMonth) {
+        return KEY_PREFIX + coupleId + "}:" + yearMonth + ":v";
+    }
+
+    /**
+     * 캐시 조회 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        // 월 버전 (Redis 장애 시 null)
+        private final String version;
+
+        // 캐싱된 요약 JSON (미적중 시 null)
+        private final String json;
+    }
+}
@@ -0,0 +1,23 @@
+package ready_to_marry.userservice.schedule.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 커플 월별 일정 요약 캐시(Redis) 관련 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "schedule.monthly-cache")
+public class ScheduleMonthlyCacheProperties {
+    // 월별 일정 요약 보관 기간
+    private Duration ttl = Duration.ofHours(1);
+
+    // 커플별 월 버전 보관 기간 (마지막 일정 변경 이후 기준, 요약 보관 기간보다 길어야 함)
+    private Duration versionTtl = Duration.ofDays(30);
+}
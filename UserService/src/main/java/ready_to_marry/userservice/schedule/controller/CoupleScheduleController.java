@@ -3,12 +3,15 @@ package ready_to_marry.userservice.schedule.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ready_to_marry.userservice.common.dto.response.ApiResponse;
 import ready_to_marry.userservice.schedule.dto.request.ScheduleCreateRequest;
 import ready_to_marry.userservice.schedule.dto.request.ScheduleUpdateRequest;
 import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleDetailResponse;
+import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleMonthlyResult;
 import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleSummaryResponse;
 import ready_to_marry.userservice.schedule.service.CoupleScheduleService;
 
@@ -27,21 +30,31 @@ public class CoupleScheduleController {
     /**
      * 커플 일정 요약 목록 조회
      *
-     * @param userId     게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
-     * @param yearMonth  조회할 연월 (yyyy-MM 형식)
-     * @return 성공 시 code=0, data=해당 연월의 커플 일정 요약 목록 정보
+     * @param userId       게이트웨이가 파싱한 유저 도메인 ID (JWT에서 X-User-Id로 전달됨)
+     * @param yearMonth    조회할 연월 (yyyy-MM 형식)
+     * @param webRequest   If-None-Match 헤더 비교용 요청
+     * @return 성공 시 code=0, data=해당 연월의 커플 일정 요약 목록 정보 (해당 월 일정이 그대로면 304 Not Modified)
      */
     @GetMapping("/monthly")
-    public ResponseEntity<ApiResponse<List<CoupleScheduleSummaryResponse>>> getMonthlyScheduleSummary(@RequestHeader("X-User-Id") Long userId, @RequestParam("yearMonth") @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth) {
-        List<CoupleScheduleSummaryResponse> schedules = coupleScheduleService.getMonthlyScheduleSummary(userId, yearMonth);
+    public ResponseEntity<ApiResponse<List<CoupleScheduleSummaryResponse>>> getMonthlyScheduleSummary(@RequestHeader("X-User-Id") Long userId, @RequestParam("yearMonth") @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth, WebRequest webRequest) {
+        CoupleScheduleMonthlyResult result = coupleScheduleService.getMonthlyScheduleSummary(userId, yearMonth);
+
+        // ETag가 클라이언트가 보낸 If-None-Match와 같으면 본문 없이 304 응답
+        if (result.getETag() != null && webRequest.checkNotModified(result.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(result.getETag()).build();
+        }
 
         ApiResponse<List<CoupleScheduleSummaryResponse>> response = ApiResponse.<List<CoupleScheduleSummaryResponse>>builder()
                 .code(0)
                 .message("Schedule list summary retrieved successfully")
-                .data(schedules)
+                .data(result.getSchedules())
                 .build();
 
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (result.getETag() != null) {
+            builder.eTag(result.getETag());
+        }
+        return builder.body(response);
     }
 
     /**
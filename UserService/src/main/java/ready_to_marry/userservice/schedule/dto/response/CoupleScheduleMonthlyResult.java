@@ -0,0 +1,21 @@
+package ready_to_marry.userservice.schedule.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커플 월별 일정 요약 조회 결과 (응답 본문 + ETag)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoupleScheduleMonthlyResult {
+    // 해당 월 일정 버전 기반 ETag (캐시 장애로 버전을 알 수 없으면 null)
+    private String eTag;
+
+    // 해당 월의 커플 일정 요약 목록
+    private List<CoupleScheduleSummaryResponse> schedules;
+}
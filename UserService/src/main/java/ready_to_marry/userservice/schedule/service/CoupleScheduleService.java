@@ -8,10 +8,9 @@ import ready_to_marry.userservice.common.exception.ValidationException;
 import ready_to_marry.userservice.schedule.dto.request.ScheduleCreateRequest;
 import ready_to_marry.userservice.schedule.dto.request.ScheduleUpdateRequest;
 import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleDetailResponse;
-import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleSummaryResponse;
+import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleMonthlyResult;
 
 import java.time.YearMonth;
-import java.util.List;
 
 /**
  * 커플 일정 도메인의 비즈니스 로직을 제공하는 서비스 인터페이스
@@ -20,23 +19,27 @@ public interface CoupleScheduleService {
     /**
      * 유저 ID 기준으로 해당 커플의 특정 연월 일정 요약 조회
      * 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
-     * 2) 조회할 월의 시작일과 종료일 계산
-     * 3) 해당 커플의 일정 중 계산된 기간 사이에 있는 모든 일정 조회 후 정렬 및 DTO로 매핑
+     * 2) 캐시에서 해당 월의 버전과 일정 요약 조회
+     * 2-1) 캐시 적중 시 → 캐싱된 요약 반환
+     * 3) 조회할 월의 시작일과 종료일 계산
+     * 4) 해당 커플의 일정 중 계산된 기간 사이에 있는 모든 일정 조회 후 정렬 및 DTO로 매핑
+     * 5) 조회 전에 읽은 버전으로 캐싱
      *
      * @param userId                                X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param yearMonth                             조회할 연월 (yyyy-MM)
-     * @return List<CoupleScheduleSummaryResponse>  특정 연월에 해당하는 커플 일정 요약 리스트
+     * @return CoupleScheduleMonthlyResult          특정 연월에 해당하는 커플 일정 요약 리스트와 해당 월 버전 기반 ETag
      * @throws EntityNotFoundException              본인의 프로필이 존재하지 않는 경우
      * @throws BusinessException                    COUPLE_NOT_CONNECTED
      * @throws InfrastructureException              DB_RETRIEVE_FAILURE
      */
-    List<CoupleScheduleSummaryResponse> getMonthlyScheduleSummary(Long userId, YearMonth yearMonth);
+    CoupleScheduleMonthlyResult getMonthlyScheduleSummary(Long userId, YearMonth yearMonth);
 
     /**
      * 유저 ID 기준으로 해당 커플의 일정 등록
      * 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
      * 2) CoupleSchedule 엔티티 생성
      * 3) 저장
+     * 4) 커밋 이후 해당 월의 일정 요약 캐시 버전 증가
      *
      * @param userId                               X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param request                              유저의 커플 일정 등록 요청 DTO
@@ -53,11 +56,13 @@ public interface CoupleScheduleService {
      * 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
      * 2) 해당 일정 ID의 일정이 존재하는지 검증
      * 3) 해당 일정이 요청한 유저의 커플에 속해있는지 검증
-     * 4) time이 null이 아니면 검증 및 수정
-     * 5) content가 null이 아니면 검증 및 수정
-     * 6) date가 null이 아니면 수정
-     * 7) time이 null이 아니면 수정
-     * 8) 저장
+     * 4) 수정 전 일정 날짜 보관
+     * 5) time이 null이 아니면 검증 및 수정
+     * 6) content가 null이 아니면 검증 및 수정
+     * 7) date가 null이 아니면 수정
+     * 8) time이 null이 아니면 수정
+     * 9) 저장
+     * 10) 커밋 이후 수정 전후 월의 일정 요약 캐시 버전 증가
      *
      * @param userId                               X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param scheduleId                           수정할 일정 ID
@@ -78,6 +83,7 @@ public interface CoupleScheduleService {
      * 2) 해당 일정 ID의 일정이 존재하는지 검증
      * 3) 해당 일정이 요청한 유저의 커플에 속해있는지 검증
      * 4) 삭제
+     * 5) 커밋 이후 해당 월의 일정 요약 캐시 버전 증가
      *
      * @param userId                                X-User-Id 헤더에서 전달받은 유저 도메인 ID
      * @param scheduleId                            삭제할 일정 ID
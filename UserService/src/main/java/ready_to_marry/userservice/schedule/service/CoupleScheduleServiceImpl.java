@@ -1,5 +1,8 @@
 package ready_to_marry.userservice.schedule.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,9 +15,11 @@ import ready_to_marry.userservice.common.exception.InfrastructureException;
 import ready_to_marry.userservice.common.exception.ValidationException;
 import ready_to_marry.userservice.common.util.MaskingUtils;
 import ready_to_marry.userservice.profile.service.UserProfileService;
+import ready_to_marry.userservice.schedule.cache.ScheduleMonthlyCache;
 import ready_to_marry.userservice.schedule.dto.request.ScheduleCreateRequest;
 import ready_to_marry.userservice.schedule.dto.request.ScheduleUpdateRequest;
 import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleDetailResponse;
+import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleMonthlyResult;
 import ready_to_marry.userservice.schedule.dto.response.CoupleScheduleSummaryResponse;
 import ready_to_marry.userservice.schedule.entity.CoupleSchedule;
 import ready_to_marry.userservice.schedule.repository.CoupleScheduleRepository;
@@ -23,28 +28,47 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CoupleScheduleServiceImpl implements CoupleScheduleService {
+    private static final TypeReference<List<CoupleScheduleSummaryResponse>> SUMMARY_LIST_TYPE = new TypeReference<>() {};
+
     private final CoupleScheduleRepository coupleScheduleRepository;
     private final UserProfileService userProfileService;
+    private final ScheduleMonthlyCache scheduleMonthlyCache;
+    private final ObjectMapper objectMapper;
 
     @Override
-    @Transactional(readOnly = true)
-    public List<CoupleScheduleSummaryResponse> getMonthlyScheduleSummary(Long userId, YearMonth yearMonth) {
+    public CoupleScheduleMonthlyResult getMonthlyScheduleSummary(Long userId, YearMonth yearMonth) {
+        // 트랜잭션을 열지 않음: 캐시 적중 시 DB 커넥션 없이 응답 (미적중 시 조회는 레포지토리 트랜잭션으로 실행)
         // 1) 유저(userId)로부터 커플 아이디 조회 (커플 미등록 시 예외 발생)
         UUID coupleId = userProfileService.getCoupleIdOrThrow(userId);
 
-        // 2) 조회할 월의 시작일과 종료일 계산
+        // 2) 캐시에서 해당 월의 버전과 일정 요약 조회
+        ScheduleMonthlyCache.Entry cached = scheduleMonthlyCache.get(coupleId, yearMonth);
+        String version = cached.getVersion();
+        String eTag = version == null ? null : generateETag(coupleId, yearMonth, version);
+
+        // 2-1) 캐시 적중 시 → 캐싱된 요약 반환
+        if (cached.getJson() != null) {
+            Optional<List<CoupleScheduleSummaryResponse>> schedules = fromJson(cached.getJson(), coupleId);
+            if (schedules.isPresent()) {
+                return new CoupleScheduleMonthlyResult(eTag, schedules.get());
+            }
+        }
+
+        // 3) 조회할 월의 시작일과 종료일 계산
         LocalDate startOfMonth = yearMonth.atDay(1);
         LocalDate endOfMonth = yearMonth.atEndOfMonth();
 
-        // 3) 해당 커플의 일정 중 계산된 기간 사이에 있는 모든 일정 조회 후 정렬 및 DTO로 매핑
+        // 4) 해당 커플의 일정 중 계산된 기간 사이에 있는 모든 일정 조회 후 정렬 및 DTO로 매핑
+        List<CoupleScheduleSummaryResponse> schedules;
         try {
-            return coupleScheduleRepository
+            schedules = coupleScheduleRepository
                     .findAllByCoupleIdAndDateBetweenOrderByDateAscTimeAsc(coupleId, startOfMonth, endOfMonth)
                     .stream()
                     .map(proj -> CoupleScheduleSummaryResponse.builder()
@@ -58,6 +82,12 @@ public class CoupleScheduleServiceImpl implements CoupleScheduleService {
             log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
             throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
         }
+
+        // 5) 조회 전에 읽은 버전으로 캐싱 (조회 도중 일정이 변경되어 버전이 바뀌었으면 다음 조회에서 무시됨)
+        if (version != null) {
+            toJson(schedules, coupleId).ifPresent(json -> scheduleMonthlyCache.put(coupleId, yearMonth, version, json));
+        }
+        return new CoupleScheduleMonthlyResult(eTag, schedules);
     }
 
     @Override
@@ -82,6 +112,9 @@ public class CoupleScheduleServiceImpl implements CoupleScheduleService {
             log.error("{}: identifierType=coupleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), MaskingUtils.maskCoupleId(coupleId), ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
+
+        // 4) 커밋 이후 해당 월의 일정 요약 캐시 버전 증가
+        scheduleMonthlyCache.bumpAfterCommit(coupleId, List.of(YearMonth.from(request.getDate())));
     }
 
     @Override
@@ -109,7 +142,10 @@ public class CoupleScheduleServiceImpl implements CoupleScheduleService {
             throw new ForbiddenException(ErrorCode.FORBIDDEN);
         }
 
-        // 4) time이 null이 아니면 검증 및 수정
+        // 4) 수정 전 일정 날짜 보관 (날짜가 바뀌면 이전 월의 캐시도 무효화)
+        LocalDate previousDate = schedule.getDate();
+
+        // 5) time이 null이 아니면 검증 및 수정
         String title = request.getTitle();
         if (title != null) {
             if (title.isBlank() || title.length() > 50) {
@@ -118,7 +154,7 @@ public class CoupleScheduleServiceImpl implements CoupleScheduleService {
             schedule.setTitle(title);
         }
 
-        // 5) content가 null이 아니면 검증 및 수정
+        // 6) content가 null이 아니면 검증 및 수정
         String content = request.getContent();
         if (content != null) {
             if (content.isBlank() || content.length() > 500) {
@@ -127,25 +163,28 @@ public class CoupleScheduleServiceImpl implements CoupleScheduleService {
             schedule.setContent(content);
         }
 
-        // 6) date가 null이 아니면 수정
+        // 7) date가 null이 아니면 수정
         LocalDate date = request.getDate();
         if (date != null) {
             schedule.setDate(date);
         }
 
-        // 7) time이 null이 아니면 수정
+        // 8) time이 null이 아니면 수정
         LocalTime time = request.getTime();
         if (time != null) {
             schedule.setTime(time);
         }
 
-        // 8) 저장
+        // 9) 저장
         try {
             coupleScheduleRepository.save(schedule);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=scheduleId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), scheduleId, ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
+
+        // 10) 커밋 이후 수정 전후 월의 일정 요약 캐시 버전 증가
+        scheduleMonthlyCache.bumpAfterCommit(coupleId, List.of(YearMonth.from(previousDate), YearMonth.from(schedule.getDate())));
     }
 
     @Override
@@ -180,6 +219,9 @@ public class CoupleScheduleServiceImpl implements CoupleScheduleService {
             log.error("{}: identifierType=scheduleId, identifierValue={}", ErrorCode.DB_DELETE_FAILURE.getMessage(), scheduleId, ex);
             throw new InfrastructureException(ErrorCode.DB_DELETE_FAILURE, ex);
         }
+
+        // 5) 커밋 이후 해당 월의 일정 요약 캐시 버전 증가
+        scheduleMonthlyCache.bumpAfterCommit(coupleId, List.of(YearMonth.from(schedule.getDate())));
     }
 
     @Override
@@ -216,4 +258,26 @@ public class CoupleScheduleServiceImpl implements CoupleScheduleService {
                 .time(schedule.getTime())
                 .build();
     }
+
+    private String generateETag(UUID coupleId, YearMonth yearMonth, String version) {
+        return "\"" + Integer.toHexString(coupleId.hashCode()) + "-" + yearMonth + "-" + version + "\"";
+    }
+
+    private Optional<String> toJson(List<CoupleScheduleSummaryResponse> schedules, UUID coupleId) {
+        try {
+            return Optional.of(objectMapper.writeValueAsString(schedules));
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize monthly schedule summary: identifierType=coupleId, identifierValue={}", MaskingUtils.maskCoupleId(coupleId), ex);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<List<CoupleScheduleSummaryResponse>> fromJson(String json, UUID coupleId) {
+        try {
+            return Optional.of(objectMapper.readValue(json, SUMMARY_LIST_TYPE));
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to deserialize cached monthly schedule summary: identifierType=coupleId, identifierValue={}", MaskingUtils.maskCoupleId(coupleId), ex);
+            return Optional.empty();
+        }
+    }
 }
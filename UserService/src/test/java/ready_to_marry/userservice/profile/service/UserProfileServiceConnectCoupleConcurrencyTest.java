@@ -0,0 +1,225 @@
+package ready_to_marry.userservice.profile.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ready_to_marry.userservice.common.exception.BusinessException;
+import ready_to_marry.userservice.fcm.cache.CoupleFcmTokenCache;
+import ready_to_marry.userservice.fcm.service.FcmTokenService;
+import ready_to_marry.userservice.profile.cache.CoupleIdCache;
+import ready_to_marry.userservice.profile.config.InviteCodeProperties;
+import ready_to_marry.userservice.profile.config.ProfileImageProperties;
+import ready_to_marry.userservice.profile.config.ProfileLookupProperties;
+import ready_to_marry.userservice.profile.dto.request.CoupleConnectRequest;
+import ready_to_marry.userservice.profile.entity.UserProfile;
+import ready_to_marry.userservice.profile.image.ProfileImageProcessor;
+import ready_to_marry.userservice.profile.redis.ProfileImageUploadRepository;
+import ready_to_marry.userservice.profile.repository.CoupleOutboxEventRepository;
+import ready_to_marry.userservice.profile.repository.UserProfileRepository;
+import ready_to_marry.userservice.profile.util.InviteCodeGenerator;
+import ready_to_marry.userservice.profile.util.S3Storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커플 연결(UserProfileService.connectCouple)을 여러 스레드에서 동시에 호출해도 한 유저가 두 커플에 연결되지 않는지 검증
+ * - 초대 코드 조회(Redis)만 대체하고, 행 잠금·조건부 UPDATE·롤백은 서비스 그대로 실행
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:couple;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Import(UserProfileServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserProfileServiceConnectCoupleConcurrencyTest {
+    private static final int THREADS = 32;
+    private static final String INVITE_CODE_PREFIX = "code-";
+
+    @Autowired
+    private UserProfileService userProfileService;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private CoupleOutboxEventRepository coupleOutboxEventRepository;
+
+    @MockBean
+    private InviteCodeService inviteCodeService;
+
+    @MockBean
+    private S3Storage s3Storage;
+
+    @MockBean
+    private ProfileImageProcessor profileImageProcessor;
+
+    @MockBean
+    private ProfileImageProperties profileImageProperties;
+
+    @MockBean
+    private ProfileImageUploadRepository profileImageUploadRepository;
+
+    @MockBean
+    private ImageDeletionService imageDeletionService;
+
+    @MockBean
+    private InviteCodeProperties inviteCodeProperties;
+
+    @MockBean
+    private InviteCodeGenerator inviteCodeGenerator;
+
+    @MockBean
+    private FcmTokenService fcmTokenService;
+
+    @MockBean
+    private CoupleIdCache coupleIdCache;
+
+    @MockBean
+    private CoupleFcmTokenCache coupleFcmTokenCache;
+
+    @MockBean
+    private ProfileLookupProperties profileLookupProperties;
+
+    @MockBean(name = "profileLookupExecutor")
+    private Executor profileLookupExecutor;
+
+    @BeforeEach
+    void setUp() {
+        // 초대 코드 "code-{userId}"는 해당 유저가 발급한 코드로 조회
+        when(inviteCodeService.getUserIdByInviteCode(anyString()))
+                .thenAnswer(invocation -> Optional.of(Long.valueOf(invocation.<String>getArgument(0).substring(INVITE_CODE_PREFIX.length()))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        coupleOutboxEventRepository.deleteAllInBatch();
+        userProfileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void connectCouple_sameInviterFromManyThreads_connectsExactlyOnePartner() throws Exception {
+        Long inviterId = createProfile("inviter").getUserId();
+        List<Pair> pairs = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            pairs.add(new Pair(createProfile("partner" + i).getUserId(), inviterId));
+        }
+
+        List<Throwable> failures = runConcurrently(pairs);
+
+        assertThat(failures).filteredOn(failure -> failure == null).hasSize(1);
+        assertThat(failures).filteredOn(failure -> failure != null).allSatisfy(failure -> assertThat(failure).isInstanceOf(BusinessException.class));
+
+        Map<UUID, List<UserProfile>> couples = findCouples();
+        assertThat(couples).hasSize(1);
+        assertThat(couples.values().iterator().next())
+                .extracting(UserProfile::getUserId)
+                .hasSize(2)
+                .contains(inviterId);
+        assertThat(coupleOutboxEventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void connectCouple_overlappingPairsFromManyThreads_neverSharesAUser() throws Exception {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            userIds.add(createProfile("user" + i).getUserId());
+        }
+
+        // 고리 형태로 이웃끼리 연결을 시도 (i ↔ i+1): 모든 유저가 두 요청에 동시에 등장하고, 요청마다 본인·상대방 순서가 엇갈림
+        List<Pair> pairs = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            pairs.add(new Pair(userIds.get((i + 1) % THREADS), userIds.get(i)));
+        }
+        List<Throwable> failures = runConcurrently(pairs);
+
+        // 교착 상태나 잠금 시간 초과(InfrastructureException) 없이 이미 커플인 경우로만 실패
+        long succeeded = failures.stream().filter(failure -> failure == null).count();
+        assertThat(succeeded).isBetween(1L, (long) THREADS / 2);
+        assertThat(failures).filteredOn(failure -> failure != null).allSatisfy(failure -> assertThat(failure).isInstanceOf(BusinessException.class));
+
+        Map<UUID, List<UserProfile>> couples = findCouples();
+        assertThat(couples).hasSize((int) succeeded);
+        assertThat(couples.values()).allSatisfy(members -> assertThat(members).hasSize(2));
+        assertThat(coupleOutboxEventRepository.count()).isEqualTo(succeeded);
+    }
+
+    private UserProfile createProfile(String name) {
+        return userProfileRepository.save(UserProfile.builder()
+                .name(name)
+                .phone("010-0000-0000")
+                .build());
+    }
+
+    private Map<UUID, List<UserProfile>> findCouples() {
+        return userProfileRepository.findAll().stream()
+                .filter(profile -> profile.getCoupleId() != null)
+                .collect(Collectors.groupingBy(UserProfile::getCoupleId));
+    }
+
+    /**
+     * 모든 스레드가 동시에 출발하도록 맞춘 뒤 각 유저가 상대방의 초대 코드로 커플 연결 요청
+     *
+     * @return 요청별 실패 예외 (성공 시 null)
+     */
+    private List<Throwable> runConcurrently(List<Pair> pairs) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(pairs.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Pair pair : pairs) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    userProfileService.connectCouple(pair.userId(), new CoupleConnectRequest(INVITE_CODE_PREFIX + pair.partnerId()));
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                    failures.add(null);
+                } catch (ExecutionException ex) {
+                    failures.add(ex.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Pair(Long userId, Long partnerId) {
+    }
+}